@@ -0,0 +1,19 @@
+package de.uos.inf.ko.ga.graph;
+
+/**
+ * Callback that receives the edges incident to a vertex one by one.
+ * Iterating over the adjacency of a vertex with an EdgeConsumer neither allocates
+ * lists nor boxes vertex ids, and it provides the weight of each edge together
+ * with the adjacent vertex. Hence, an instance can be reused for many vertices.
+ */
+@FunctionalInterface
+public interface EdgeConsumer {
+
+    /**
+     * Method that is called for every edge of an iteration.
+     * @param v      adjacent vertex
+     * @param weight weight of the edge
+     */
+    public void accept(int v, double weight);
+
+}
@@ -65,6 +65,34 @@ public interface Graph {
      */
     public List<Integer> getSuccessors(int v);
 
+    /**
+     * Passes all neighbors u of the given vertex v to the consumer together with the weight of the connecting edge.
+     * In a directed graph, the consumer is called for each arc (v, u) and for each arc (u, v), i.e. a vertex
+     * connected to v by arcs in both directions is passed twice. No objects are allocated.
+     *
+     * @param v        vertex whose neighbors shall be visited
+     * @param consumer consumer receiving each neighbor u and the weight of the edge
+     */
+    public void forEachNeighbor(int v, EdgeConsumer consumer);
+
+    /**
+     * Passes all predecessors u of v to the consumer together with the weight of the arc (u, v).
+     * In an undirected graph all neighbors are passed. No objects are allocated.
+     *
+     * @param v        vertex id
+     * @param consumer consumer receiving each predecessor u and the weight c_{u, v}
+     */
+    public void forEachPredecessor(int v, EdgeConsumer consumer);
+
+    /**
+     * Passes all successors w of v to the consumer together with the weight of the arc (v, w).
+     * In an undirected graph all neighbors are passed. No objects are allocated.
+     *
+     * @param v        vertex id
+     * @param consumer consumer receiving each successor w and the weight c_{v, w}
+     */
+    public void forEachSuccessor(int v, EdgeConsumer consumer);
+
     /**
      * Method to get the number of vertices.
      *
@@ -3,6 +3,7 @@ package de.uos.inf.ko.ga.graph.impl;
 import java.util.ArrayList;
 import java.util.List;
 
+import de.uos.inf.ko.ga.graph.EdgeConsumer;
 import de.uos.inf.ko.ga.graph.Graph;
 
 /**
@@ -80,6 +81,23 @@ public class UndirectedGraphList implements Graph {
 		return this.getNeighbors(v);
 	}
 
+	@Override
+	public void forEachNeighbor(int v, EdgeConsumer consumer) {
+		for (final Edge edge : this.edges.get(v)) {
+			consumer.accept(edge.v, edge.weight);
+		}
+	}
+
+	@Override
+	public void forEachPredecessor(int v, EdgeConsumer consumer) {
+		this.forEachNeighbor(v, consumer);
+	}
+
+	@Override
+	public void forEachSuccessor(int v, EdgeConsumer consumer) {
+		this.forEachNeighbor(v, consumer);
+	}
+
 	@Override
 	public int getVertexCount() {
 		return this.n;
@@ -1,12 +1,11 @@
 package de.uos.inf.ko.ga.graph.shortestpath;
 
-import java.util.Comparator;
 import java.util.LinkedList;
-import java.util.PriorityQueue;
 import java.util.Queue;
 
 import de.uos.inf.ko.ga.graph.Graph;
 import de.uos.inf.ko.ga.graph.impl.DirectedGraphList;
+import de.uos.inf.ko.ga.graph.util.IndexedHeap;
 
 public class Dijkstra {
 
@@ -23,37 +22,31 @@ public class Dijkstra {
      */
     public static double[] shortestPaths(Graph graph, int start) {
         final int n = graph.getVertexCount();
+        final boolean seen[] = new boolean[n];
         final double dist[] = new double[n];
 
-        PriorityQueue<Integer> queue = new PriorityQueue<>(n - 1, new Comparator<Integer>() {
-            @Override
-            public int compare(Integer o1, Integer o2) {
-                if (Math.abs(dist[o1] - dist[o2]) <= EPS)
-                    return 0;
-                return dist[o1] < dist[o2] ? -1 : 1;
-            }
-        });
+        /* indexed heap of the vertices that have been reached but not visited, sorted by their tentative distances;
+         * updating a distance is a decrease-key operation in O(log n) instead of a linear search through the queue */
+        final IndexedHeap queue = new IndexedHeap(n);
+
         for (int i = 0; i < n; i++) {
-            if (i == start) {
-                dist[i] = 0;
-            } else {
-                dist[i] = graph.getEdgeWeight(start, i);
-            }
-            queue.add(i);
+            dist[i] = Double.POSITIVE_INFINITY;
         }
+        dist[start] = 0;
+        queue.insert(start, 0.0);
 
         while (!queue.isEmpty()) {
             int i = queue.poll();
-            for (final int j : graph.getSuccessors(i)) {
-                if (queue.contains(j)) {
-                    double update = Math.min(dist[j], dist[i] + graph.getEdgeWeight(i, j));
+            seen[i] = true;
+            graph.forEachSuccessor(i, (j, weight) -> {
+                if (!seen[j]) {
+                    double update = dist[i] + weight;
                     if (update < dist[j]) {
-                        queue.remove(j);
                         dist[j] = update;
-                        queue.add(j);
+                        queue.insertOrDecrease(j, update);
                     }
                 }
-            }
+            });
         }
 
         return dist;
@@ -89,16 +82,16 @@ public class Dijkstra {
             final int u = queue.poll();
 
             /* determine the neighbors of 'u' that are reachable from 'start' via 'u' in a shortest path */
-            for (final int v : graph.getSuccessors(u)) {
+            graph.forEachSuccessor(u, (v, weight) -> {
                 if (!seen[v]) {
                     /* test whether the value dist[v] obtained its value from the value dist[u] */
-                    if (Math.abs(dist[u] + graph.getEdgeWeight(u, v) - dist[v]) <= EPS) {
+                    if (Math.abs(dist[u] + weight - dist[v]) <= EPS) {
                         seen[v] = true;
-                        shortestPathTree.addEdge(u, v, graph.getEdgeWeight(u, v));
+                        shortestPathTree.addEdge(u, v, weight);
                         queue.add(v);
                     }
                 }
-            }
+            });
         }
 
         return shortestPathTree;
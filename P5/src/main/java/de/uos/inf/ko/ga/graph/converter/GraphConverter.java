@@ -46,10 +46,8 @@ public class GraphConverter {
 		output.addVertices(input.getVertexCount());
 		
 		for (int u = 0; u < input.getVertexCount(); ++u) {
-			for (Integer v : input.getSuccessors(u)) {
-				final double weight = input.getEdgeWeight(u, v);
-				output.addEdge(u, v, weight);
-			}
+			final int start = u;
+			input.forEachSuccessor(u, (v, weight) -> output.addEdge(start, v, weight));
 		}
 
 		return output;
@@ -59,13 +57,13 @@ public class GraphConverter {
 		output.addVertices(input.getVertexCount());
 		
 		for (int u = 0; u < input.getVertexCount(); ++u) {
-			for (Integer v : input.getNeighbors(u)) {
-				if (u < v) {
+			final int start = u;
+			input.forEachNeighbor(u, (v, weight) -> {
+				if (start < v) {
 					/* only consider each edge once */
-					final double weight = input.getEdgeWeight(u, v);
-					output.addEdge(u, v, weight);
+					output.addEdge(start, v, weight);
 				}
-			}
+			});
 		}
 		
 		return output;
@@ -3,6 +3,7 @@ package de.uos.inf.ko.ga.graph.impl;
 import java.util.ArrayList;
 import java.util.List;
 
+import de.uos.inf.ko.ga.graph.EdgeConsumer;
 import de.uos.inf.ko.ga.graph.Graph;
 
 /**
@@ -114,6 +115,43 @@ public class DirectedGraphList implements Graph {
 		return vertexList;
 	}
 
+	@Override
+	public void forEachNeighbor(int v, EdgeConsumer consumer) {
+		if ((v < 0) || (v >= this.n)) {
+			throw new IllegalArgumentException("cannot visit neighbors of invalid vertex id");
+		}
+
+		for (final Edge edge : this.edges.get(v)) {
+			consumer.accept((v == edge.u) ? edge.v : edge.u, edge.weight);
+		}
+	}
+
+	@Override
+	public void forEachPredecessor(int v, EdgeConsumer consumer) {
+		if ((v < 0) || (v >= this.n)) {
+			throw new IllegalArgumentException("cannot visit predecessors of invalid vertex id");
+		}
+
+		for (final Edge edge : this.edges.get(v)) {
+			if (v == edge.v) {
+				consumer.accept(edge.u, edge.weight);
+			}
+		}
+	}
+
+	@Override
+	public void forEachSuccessor(int v, EdgeConsumer consumer) {
+		if ((v < 0) || (v >= this.n)) {
+			throw new IllegalArgumentException("cannot visit successors of invalid vertex id");
+		}
+
+		for (final Edge edge : this.edges.get(v)) {
+			if (v == edge.u) {
+				consumer.accept(edge.v, edge.weight);
+			}
+		}
+	}
+
 	@Override
 	public int getVertexCount() {
 		return this.n;
@@ -3,6 +3,7 @@ package de.uos.inf.ko.ga.graph.impl;
 import java.util.ArrayList;
 import java.util.List;
 
+import de.uos.inf.ko.ga.graph.EdgeConsumer;
 import de.uos.inf.ko.ga.graph.Graph;
 
 /**
@@ -122,6 +123,40 @@ public class DirectedGraphMatrix implements Graph {
 		return neighbors;
 	}
 
+	@Override
+	public void forEachNeighbor(int v, EdgeConsumer consumer) {
+		this.forEachSuccessor(v, consumer);
+		this.forEachPredecessor(v, consumer);
+	}
+
+	@Override
+	public void forEachPredecessor(int v, EdgeConsumer consumer) {
+		if ((v < 0) || (v >= this.n)) {
+			throw new IllegalArgumentException("cannot visit predecessors of invalid vertex");
+		}
+
+		for (int i = 0; i < this.n; ++i) {
+			final Double weight = this.weights[i][v];
+			if (weight != null) {
+				consumer.accept(i, weight);
+			}
+		}
+	}
+
+	@Override
+	public void forEachSuccessor(int v, EdgeConsumer consumer) {
+		if ((v < 0) || (v >= this.n)) {
+			throw new IllegalArgumentException("cannot visit successors of invalid vertex");
+		}
+
+		final Double[] row = this.weights[v];
+		for (int i = 0; i < this.n; ++i) {
+			if (row[i] != null) {
+				consumer.accept(i, row[i]);
+			}
+		}
+	}
+
 	@Override
 	public int getVertexCount() {
 		return this.n;
@@ -3,6 +3,7 @@ package de.uos.inf.ko.ga.graph.impl;
 import java.util.ArrayList;
 import java.util.List;
 
+import de.uos.inf.ko.ga.graph.EdgeConsumer;
 import de.uos.inf.ko.ga.graph.Graph;
 
 /**
@@ -115,6 +116,40 @@ public class UndirectedGraphMatrix implements Graph {
 		return this.getNeighbors(v);
 	}
 
+	@Override
+	public void forEachNeighbor(int v, EdgeConsumer consumer) {
+		if ((v < 0) || (v >= this.n)) {
+			throw new IllegalArgumentException("cannot visit neighbors of invalid vertex");
+		}
+
+		/* entries a_{v0}, ..., a_{v(v-1)} are stored consecutively */
+		final int offset = pos(v, 0);
+		for (int u = 0; u < v; ++u) {
+			final Double weight = this.weights[offset + u];
+			if (weight != null) {
+				consumer.accept(u, weight);
+			}
+		}
+
+		/* entries a_{uv} with u > v are found in the rows below */
+		for (int u = v + 1; u < this.n; ++u) {
+			final Double weight = this.weights[pos(u, v)];
+			if (weight != null) {
+				consumer.accept(u, weight);
+			}
+		}
+	}
+
+	@Override
+	public void forEachPredecessor(int v, EdgeConsumer consumer) {
+		this.forEachNeighbor(v, consumer);
+	}
+
+	@Override
+	public void forEachSuccessor(int v, EdgeConsumer consumer) {
+		this.forEachNeighbor(v, consumer);
+	}
+
 	@Override
 	public int getVertexCount() {
 		return this.n;
@@ -31,11 +31,12 @@ public class BellmanFord {
         for (int i = 1; i < graph.getVertexCount(); i++) {
             // iterate over all edges
             for (int src = 0; src < graph.getVertexCount(); src++) {
-                for (int dest : graph.getSuccessors(src)) {
-                    if (d[src] != Double.POSITIVE_INFINITY && d[src] + graph.getEdgeWeight(src, dest) < d[dest]) {
-                        d[dest] = d[src] + graph.getEdgeWeight(src, dest);
+                final int u = src;
+                graph.forEachSuccessor(src, (dest, weight) -> {
+                    if (d[u] != Double.POSITIVE_INFINITY && d[u] + weight < d[dest]) {
+                        d[dest] = d[u] + weight;
                     }
-                }
+                });
             }
         }
         return d;
@@ -22,13 +22,12 @@ public class Floyd {
 
         // init distance matrix
         for (int i = 0; i < graph.getVertexCount(); i++) {
+            final double[] row = d[i];
             for (int j = 0; j < graph.getVertexCount(); j++) {
-                if (i == j) {
-                    d[i][j] = 0;
-                } else {
-                    d[i][j] = graph.getEdgeWeight(i, j);
-                }
+                row[j] = Double.POSITIVE_INFINITY;
             }
+            row[i] = 0;
+            graph.forEachSuccessor(i, (j, weight) -> row[j] = Math.min(row[j], weight));
         }
 
         // compute shortest paths
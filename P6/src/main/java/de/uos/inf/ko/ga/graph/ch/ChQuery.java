@@ -0,0 +1,205 @@
+package de.uos.inf.ko.ga.graph.ch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import de.uos.inf.ko.ga.graph.shortestpath.Path;
+import de.uos.inf.ko.ga.graph.util.IndexedHeap;
+
+/**
+ * Query engine for a contraction hierarchy. A query runs Dijkstra forward from the start vertex on the upward
+ * graph and backward from the target vertex on the downward graph, alternating between both directions. The
+ * highest-ranked vertex of a shortest path is visited by both searches, so the shortest path is the minimum of
+ * dF(v) + dB(v) over the vertices v reached by both. A search stops when its smallest tentative distance is not
+ * less than the best path found so far.
+ *
+ * The distances are reset between queries by incrementing a version number, so that a query only costs time for
+ * the few vertices it visits. An instance is not thread-safe; concurrent queries need one instance per thread.
+ */
+public class ChQuery {
+
+	private static final int NONE = ContractionHierarchy.NONE;
+
+	private final ContractionHierarchy hierarchy;
+	private final Search forward;
+	private final Search backward;
+
+	/* best path found by the last query */
+	private double mu;
+	private int meet;
+
+	/**
+	 * @param hierarchy contraction hierarchy to answer queries for
+	 */
+	public ChQuery(ContractionHierarchy hierarchy) {
+		this.hierarchy = hierarchy;
+		this.forward = new Search(hierarchy.n);
+		this.backward = new Search(hierarchy.n);
+	}
+
+	/**
+	 * Computes the distance from a start vertex to a target vertex.
+	 * @param start  Start vertex
+	 * @param target Target vertex
+	 * @return distance from start to target, or Double.POSITIVE_INFINITY if target is not reachable
+	 */
+	public double distance(int start, int target) {
+		this.run(start, target);
+		return this.mu;
+	}
+
+	/**
+	 * Computes a shortest path from a start vertex to a target vertex, with the shortcuts replaced by the arcs of the input graph.
+	 * @param start  Start vertex
+	 * @param target Target vertex
+	 * @return Distance and vertices of a shortest path, or a path without vertices if the target is not reachable
+	 */
+	public Path shortestPath(int start, int target) {
+		this.run(start, target);
+		if (this.meet == NONE) {
+			return Path.unreachable();
+		}
+
+		/* arcs of the path in the hierarchy: the upward part is collected backwards from the meeting vertex */
+		final List<int[]> arcs = new ArrayList<>();
+		for (int v = this.meet; v != start; v = this.forward.parent[v]) {
+			final int u = this.forward.parent[v];
+			arcs.add(0, new int[] { u, v, this.hierarchy.upMiddles[this.forward.arc[v]] });
+		}
+		for (int v = this.meet; v != target; v = this.backward.parent[v]) {
+			final int w = this.backward.parent[v];
+			arcs.add(new int[] { v, w, this.hierarchy.downMiddles[this.backward.arc[v]] });
+		}
+
+		final List<Integer> vertices = new ArrayList<>();
+		vertices.add(start);
+		for (int[] arc : arcs) {
+			this.unpack(arc[0], arc[1], arc[2], vertices);
+		}
+
+		return new Path(this.mu, vertices);
+	}
+
+	/**
+	 * @return number of vertices visited by both searches of the last query
+	 */
+	public int getSettledCount() {
+		return this.forward.settled + this.backward.settled;
+	}
+
+	private void run(int start, int target) {
+		final int n = this.hierarchy.n;
+		if ((start < 0) || (start >= n) || (target < 0) || (target >= n)) {
+			throw new IllegalArgumentException("invalid start or target vertex");
+		}
+
+		this.forward.reset(start);
+		this.backward.reset(target);
+		this.mu = Double.POSITIVE_INFINITY;
+		this.meet = NONE;
+
+		boolean forwardTurn = true;
+		while (true) {
+			final boolean forwardActive = !this.forward.queue.isEmpty() && (this.forward.queue.peekKey() < this.mu);
+			final boolean backwardActive = !this.backward.queue.isEmpty() && (this.backward.queue.peekKey() < this.mu);
+			if (!forwardActive && !backwardActive) {
+				break;
+			}
+
+			if ((forwardTurn && forwardActive) || !backwardActive) {
+				this.step(this.forward, this.backward, this.hierarchy.upOffsets, this.hierarchy.upTargets, this.hierarchy.upWeights);
+			} else {
+				this.step(this.backward, this.forward, this.hierarchy.downOffsets, this.hierarchy.downSources, this.hierarchy.downWeights);
+			}
+			forwardTurn = !forwardTurn;
+		}
+	}
+
+	/**
+	 * Visits the closest vertex of a search and relaxes its arcs in the given CSR graph.
+	 */
+	private void step(Search search, Search other, int[] offsets, int[] heads, double[] weights) {
+		final int v = search.queue.poll();
+		search.settled++;
+
+		final double dv = search.dist[v];
+		final double total = dv + other.dist(v);
+		if (total < this.mu) {
+			this.mu = total;
+			this.meet = v;
+		}
+
+		for (int i = offsets[v]; i < offsets[v + 1]; ++i) {
+			final int w = heads[i];
+			final double distance = dv + weights[i];
+			if (distance < search.dist(w)) {
+				search.update(w, distance, v, i);
+			}
+		}
+	}
+
+	/**
+	 * Appends the vertices of the arc (u, w) bypassing middle to the list, except for u.
+	 * Shortcuts are replaced by the two arcs (u, middle) and (middle, w) until only arcs of the input graph remain.
+	 */
+	private void unpack(int u, int w, int middle, List<Integer> vertices) {
+		final List<int[]> stack = new ArrayList<>();
+		stack.add(new int[] { u, w, middle });
+
+		while (!stack.isEmpty()) {
+			final int[] arc = stack.remove(stack.size() - 1);
+			final int m = arc[2];
+			if (m == NONE) {
+				vertices.add(arc[1]);
+				continue;
+			}
+
+			/* the middle vertex has a lower rank than both end vertices */
+			final int first = this.hierarchy.findDownArc(arc[0], m);
+			final int second = this.hierarchy.findUpArc(m, arc[1]);
+			stack.add(new int[] { m, arc[1], this.hierarchy.upMiddles[second] });
+			stack.add(new int[] { arc[0], m, this.hierarchy.downMiddles[first] });
+		}
+	}
+
+	/**
+	 * State of one direction of a query.
+	 */
+	private static class Search {
+		private final double[] dist;
+		private final int[] versions;
+		/* vertex from which each vertex has been reached, and the index of the arc used */
+		private final int[] parent;
+		private final int[] arc;
+		private final IndexedHeap queue;
+		private int version = 0;
+		private int settled;
+
+		Search(int n) {
+			this.dist = new double[n];
+			this.versions = new int[n];
+			this.parent = new int[n];
+			this.arc = new int[n];
+			this.queue = new IndexedHeap(n);
+		}
+
+		double dist(int v) {
+			return (this.versions[v] == this.version) ? this.dist[v] : Double.POSITIVE_INFINITY;
+		}
+
+		void reset(int root) {
+			this.version++;
+			this.queue.clear();
+			this.settled = 0;
+			this.update(root, 0.0, NONE, NONE);
+		}
+
+		void update(int v, double distance, int parent, int arc) {
+			this.dist[v] = distance;
+			this.versions[v] = this.version;
+			this.parent[v] = parent;
+			this.arc[v] = arc;
+			this.queue.insertOrDecrease(v, distance);
+		}
+	}
+}
@@ -0,0 +1,279 @@
+package de.uos.inf.ko.ga.graph.ch;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.concurrent.ForkJoinPool;
+
+import de.uos.inf.ko.ga.graph.Graph;
+
+/**
+ * Contraction hierarchy (Geisberger et al.) of a graph with non-negative edge weights, which answers
+ * shortest-path queries by two small Dijkstra searches instead of one large one.
+ *
+ * During preprocessing, the vertices are contracted one after another in the order of their importance:
+ * a vertex is removed from the graph, and a shortcut (u, w) is inserted for each pair of neighbors whose
+ * shortest path leads over the removed vertex. The position of a vertex in this order is its rank. Every
+ * shortest path then has a counterpart in the graph with shortcuts that first ascends and then descends in
+ * rank, so a query searches forward from the start vertex along arcs to higher-ranked vertices and backward
+ * from the target vertex along arcs from higher-ranked vertices, see {@link ChQuery}.
+ *
+ * Both kinds of arcs are stored at their lower-ranked end vertex in compressed sparse row format: the upward
+ * graph contains the arcs (v, w) with rank[v] &lt; rank[w] at v, the downward graph contains the arcs (u, v)
+ * with rank[u] &gt; rank[v] at v. For each arc, the contracted vertex it bypasses is stored as well, or NONE
+ * if it is an arc of the input graph, so that paths can be unpacked into arcs of the input graph.
+ *
+ * A hierarchy is immutable and can be saved to and loaded from a stream.
+ */
+public class ContractionHierarchy {
+
+	/** middle vertex of arcs of the input graph */
+	public static final int NONE = -1;
+
+	/* identifies streams containing a contraction hierarchy */
+	private static final int MAGIC = 0x43484741;
+	private static final int VERSION = 1;
+
+	final int n;
+	final int[] rank;
+
+	/* upward arcs (v, upTargets[i]) for upOffsets[v] <= i < upOffsets[v + 1] */
+	final int[] upOffsets;
+	final int[] upTargets;
+	final double[] upWeights;
+	final int[] upMiddles;
+
+	/* downward arcs (downSources[i], v) for downOffsets[v] <= i < downOffsets[v + 1] */
+	final int[] downOffsets;
+	final int[] downSources;
+	final double[] downWeights;
+	final int[] downMiddles;
+
+	ContractionHierarchy(int[] rank, int[] upOffsets, int[] upTargets, double[] upWeights, int[] upMiddles,
+			int[] downOffsets, int[] downSources, double[] downWeights, int[] downMiddles) {
+		this.n = rank.length;
+		this.rank = rank;
+		this.upOffsets = upOffsets;
+		this.upTargets = upTargets;
+		this.upWeights = upWeights;
+		this.upMiddles = upMiddles;
+		this.downOffsets = downOffsets;
+		this.downSources = downSources;
+		this.downWeights = downWeights;
+		this.downMiddles = downMiddles;
+	}
+
+	/**
+	 * Builds the contraction hierarchy of a graph, computing the initial priorities of the vertices in the common fork-join pool.
+	 * @param graph Input graph with non-negative edge weights
+	 * @return contraction hierarchy of the graph
+	 */
+	public static ContractionHierarchy build(Graph graph) {
+		return build(graph, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Builds the contraction hierarchy of a graph.
+	 * @param graph Input graph with non-negative edge weights
+	 * @param pool  Pool computing the initial priorities of the vertices
+	 * @return contraction hierarchy of the graph
+	 */
+	public static ContractionHierarchy build(Graph graph, ForkJoinPool pool) {
+		return new Contractor(graph).contract(pool);
+	}
+
+	public int getVertexCount() {
+		return this.n;
+	}
+
+	/**
+	 * @param v vertex
+	 * @return position of v in the contraction order
+	 */
+	public int getRank(int v) {
+		return this.rank[v];
+	}
+
+	/**
+	 * @return number of arcs of the upward and the downward graph together
+	 */
+	public int getArcCount() {
+		return this.upTargets.length + this.downSources.length;
+	}
+
+	/**
+	 * @return number of arcs that are shortcuts
+	 */
+	public int getShortcutCount() {
+		int count = 0;
+		for (int middle : this.upMiddles) {
+			if (middle != NONE) {
+				count++;
+			}
+		}
+		for (int middle : this.downMiddles) {
+			if (middle != NONE) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Writes the hierarchy to a stream in a binary format that can be read by {@link #load(DataInputStream)}.
+	 * @param out stream to write to
+	 * @throws IOException thrown in case of an output error
+	 */
+	public void save(DataOutputStream out) throws IOException {
+		out.writeInt(MAGIC);
+		out.writeInt(VERSION);
+		writeInts(out, this.rank);
+		writeInts(out, this.upOffsets);
+		writeInts(out, this.upTargets);
+		writeDoubles(out, this.upWeights);
+		writeInts(out, this.upMiddles);
+		writeInts(out, this.downOffsets);
+		writeInts(out, this.downSources);
+		writeDoubles(out, this.downWeights);
+		writeInts(out, this.downMiddles);
+		out.flush();
+	}
+
+	/**
+	 * Reads a hierarchy that has been written by {@link #save(DataOutputStream)}.
+	 * @param in stream to read from
+	 * @return contraction hierarchy
+	 * @throws IOException thrown in case of an input error or if the stream does not contain a hierarchy
+	 */
+	public static ContractionHierarchy load(DataInputStream in) throws IOException {
+		if (in.readInt() != MAGIC) {
+			throw new IOException("stream does not contain a contraction hierarchy");
+		}
+		if (in.readInt() != VERSION) {
+			throw new IOException("unsupported version of the contraction hierarchy format");
+		}
+
+		final int[] rank = readInts(in);
+		final int[] upOffsets = readInts(in);
+		final int[] upTargets = readInts(in);
+		final double[] upWeights = readDoubles(in);
+		final int[] upMiddles = readInts(in);
+		final int[] downOffsets = readInts(in);
+		final int[] downSources = readInts(in);
+		final double[] downWeights = readDoubles(in);
+		final int[] downMiddles = readInts(in);
+
+		if ((upOffsets.length != rank.length + 1) || (downOffsets.length != rank.length + 1)
+				|| (upTargets.length != upWeights.length) || (upTargets.length != upMiddles.length)
+				|| (downSources.length != downWeights.length) || (downSources.length != downMiddles.length)) {
+			throw new IOException("inconsistent contraction hierarchy");
+		}
+
+		/* corrupt indices would only fail later in a query, so they are rejected here */
+		final int n = rank.length;
+		if (!isPermutation(rank) || !isValidCsr(upOffsets, upTargets, upMiddles, n) || !isValidCsr(downOffsets, downSources, downMiddles, n)) {
+			throw new IOException("inconsistent contraction hierarchy");
+		}
+
+		return new ContractionHierarchy(rank, upOffsets, upTargets, upWeights, upMiddles, downOffsets, downSources, downWeights, downMiddles);
+	}
+
+	/**
+	 * Determines the index of the upward arc (v, w), i.e. rank[v] &lt; rank[w].
+	 * @return index of the arc, or NONE if it does not exist
+	 */
+	int findUpArc(int v, int w) {
+		for (int i = this.upOffsets[v]; i < this.upOffsets[v + 1]; ++i) {
+			if (this.upTargets[i] == w) {
+				return i;
+			}
+		}
+		return NONE;
+	}
+
+	/**
+	 * Determines the index of the downward arc (u, v), i.e. rank[u] &gt; rank[v].
+	 * @return index of the arc, or NONE if it does not exist
+	 */
+	int findDownArc(int u, int v) {
+		for (int i = this.downOffsets[v]; i < this.downOffsets[v + 1]; ++i) {
+			if (this.downSources[i] == u) {
+				return i;
+			}
+		}
+		return NONE;
+	}
+
+	/**
+	 * Tests whether the values are a permutation of 0, ..., values.length - 1.
+	 */
+	private static boolean isPermutation(int[] values) {
+		final boolean[] seen = new boolean[values.length];
+		for (int value : values) {
+			if ((value < 0) || (value >= values.length) || seen[value]) {
+				return false;
+			}
+			seen[value] = true;
+		}
+		return true;
+	}
+
+	/**
+	 * Tests whether the offsets start at 0, do not decrease and end at the number of arcs, whether the heads
+	 * of the arcs are vertices and whether the middles are vertices or NONE.
+	 */
+	private static boolean isValidCsr(int[] offsets, int[] heads, int[] middles, int n) {
+		if ((offsets[0] != 0) || (offsets[n] != heads.length)) {
+			return false;
+		}
+		for (int v = 0; v < n; ++v) {
+			if (offsets[v] > offsets[v + 1]) {
+				return false;
+			}
+		}
+		for (int i = 0; i < heads.length; ++i) {
+			if ((heads[i] < 0) || (heads[i] >= n) || (middles[i] < NONE) || (middles[i] >= n)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static void writeInts(DataOutputStream out, int[] values) throws IOException {
+		out.writeInt(values.length);
+		for (int value : values) {
+			out.writeInt(value);
+		}
+	}
+
+	private static void writeDoubles(DataOutputStream out, double[] values) throws IOException {
+		out.writeInt(values.length);
+		for (double value : values) {
+			out.writeDouble(value);
+		}
+	}
+
+	private static int[] readInts(DataInputStream in) throws IOException {
+		final int[] values = new int[readLength(in)];
+		for (int i = 0; i < values.length; ++i) {
+			values[i] = in.readInt();
+		}
+		return values;
+	}
+
+	private static double[] readDoubles(DataInputStream in) throws IOException {
+		final double[] values = new double[readLength(in)];
+		for (int i = 0; i < values.length; ++i) {
+			values[i] = in.readDouble();
+		}
+		return values;
+	}
+
+	private static int readLength(DataInputStream in) throws IOException {
+		final int length = in.readInt();
+		if (length < 0) {
+			throw new IOException("inconsistent contraction hierarchy");
+		}
+		return length;
+	}
+}
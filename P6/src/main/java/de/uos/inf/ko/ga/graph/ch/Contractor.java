@@ -0,0 +1,354 @@
+package de.uos.inf.ko.ga.graph.ch;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import de.uos.inf.ko.ga.graph.Graph;
+import de.uos.inf.ko.ga.graph.util.IndexedHeap;
+import de.uos.inf.ko.ga.graph.util.ParallelLoop;
+
+/**
+ * Preprocessing of a contraction hierarchy.
+ *
+ * The vertices are contracted in the order of their priorities, which are twice the edge difference, i.e. the
+ * number of shortcuts required for contracting the vertex minus the number of its arcs, plus the number of
+ * neighbors that have been contracted already. The second term spreads the contraction evenly over the graph. Contracting
+ * a vertex changes the priorities of its neighbors, which are therefore recomputed; since the heap only supports
+ * decreasing keys, the priority of a vertex is also recomputed when it is removed from the heap, and the vertex
+ * is put back if it is no longer the minimum (lazy updates).
+ *
+ * Whether a shortcut (u, w) is required for contracting v is decided by a witness search, a Dijkstra search from
+ * u that avoids v and stops at the length of the path (u, v, w). The searches are also limited to a number of
+ * visited vertices; if a search gives up, the shortcut is inserted, which is never wrong but may be superfluous.
+ *
+ * The initial priorities of all vertices are independent of each other and are computed in parallel. They make up
+ * a large part of the preprocessing, as each of them needs the witness searches of a simulated contraction.
+ */
+class Contractor {
+
+	/* maximum number of vertices visited by a witness search when a contraction is simulated for computing a priority,
+	 * and when a vertex is actually contracted; a priority only needs an estimate of the number of shortcuts */
+	private static final int SIMULATION_SETTLE_LIMIT = 50;
+	private static final int CONTRACTION_SETTLE_LIMIT = 1000;
+
+	private final int n;
+
+	/* arcs between the vertices that have not been contracted yet, i.e. the outgoing and incoming arcs of each vertex */
+	private final ArcList[] out;
+	private final ArcList[] in;
+
+	private final int[] contractedNeighbors;
+
+	Contractor(Graph graph) {
+		this.n = graph.getVertexCount();
+		this.out = new ArcList[this.n];
+		this.in = new ArcList[this.n];
+		this.contractedNeighbors = new int[this.n];
+
+		for (int v = 0; v < this.n; ++v) {
+			this.out[v] = new ArcList();
+			this.in[v] = new ArcList();
+		}
+
+		for (int u = 0; u < this.n; ++u) {
+			final int start = u;
+			graph.forEachSuccessor(u, (v, weight) -> {
+				if (weight < 0.0) {
+					throw new IllegalArgumentException("contraction hierarchies require non-negative edge weights");
+				}
+
+				/* loops are never part of a shortest path; of several parallel arcs, only the cheapest one is kept */
+				if (start != v) {
+					this.out[start].addOrImprove(v, weight, ContractionHierarchy.NONE);
+					this.in[v].addOrImprove(start, weight, ContractionHierarchy.NONE);
+				}
+			});
+		}
+	}
+
+	ContractionHierarchy contract(ForkJoinPool pool) {
+		final double[] priorities = new double[this.n];
+		ParallelLoop.forRange(pool, 0, this.n, (first, last) -> {
+			final WitnessSearch search = new WitnessSearch(this.n);
+			for (int v = first; v < last; ++v) {
+				priorities[v] = this.priority(v, search);
+			}
+		});
+
+		final IndexedHeap queue = new IndexedHeap(this.n);
+		for (int v = 0; v < this.n; ++v) {
+			queue.insert(v, priorities[v]);
+		}
+
+		final WitnessSearch search = new WitnessSearch(this.n);
+		final Shortcuts shortcuts = new Shortcuts();
+
+		final int[] rank = new int[this.n];
+		final ArcList[] up = new ArcList[this.n];
+		final ArcList[] down = new ArcList[this.n];
+		int contracted = 0;
+
+		while (!queue.isEmpty()) {
+			final int v = queue.poll();
+
+			/* the priority may have increased since it has been computed */
+			final double priority = this.priority(v, search);
+			if (!queue.isEmpty() && (priority > queue.peekKey())) {
+				queue.insert(v, priority);
+				continue;
+			}
+
+			shortcuts.clear();
+			this.findShortcuts(v, search, shortcuts, CONTRACTION_SETTLE_LIMIT);
+
+			/* the remaining arcs of v lead to vertices that are contracted later, i.e. have a higher rank */
+			rank[v] = contracted++;
+			up[v] = this.out[v];
+			down[v] = this.in[v];
+
+			for (int i = 0; i < up[v].size; ++i) {
+				this.in[up[v].vertices[i]].remove(v);
+			}
+			for (int i = 0; i < down[v].size; ++i) {
+				this.out[down[v].vertices[i]].remove(v);
+			}
+
+			for (int i = 0; i < shortcuts.size; ++i) {
+				final int from = shortcuts.from[i];
+				final int to = shortcuts.to[i];
+				this.out[from].addOrImprove(to, shortcuts.weights[i], v);
+				this.in[to].addOrImprove(from, shortcuts.weights[i], v);
+			}
+
+			this.updateNeighbors(up[v], queue, search);
+			this.updateNeighbors(down[v], queue, search);
+		}
+
+		final int[] upOffsets = offsets(up);
+		final int[] downOffsets = offsets(down);
+		final int[] upTargets = new int[upOffsets[this.n]];
+		final double[] upWeights = new double[upOffsets[this.n]];
+		final int[] upMiddles = new int[upOffsets[this.n]];
+		final int[] downSources = new int[downOffsets[this.n]];
+		final double[] downWeights = new double[downOffsets[this.n]];
+		final int[] downMiddles = new int[downOffsets[this.n]];
+
+		for (int v = 0; v < this.n; ++v) {
+			up[v].copyTo(upTargets, upWeights, upMiddles, upOffsets[v]);
+			down[v].copyTo(downSources, downWeights, downMiddles, downOffsets[v]);
+		}
+
+		return new ContractionHierarchy(rank, upOffsets, upTargets, upWeights, upMiddles, downOffsets, downSources, downWeights, downMiddles);
+	}
+
+	/**
+	 * Recomputes the priorities of the neighbors of a vertex that has just been contracted.
+	 */
+	private void updateNeighbors(ArcList neighbors, IndexedHeap queue, WitnessSearch search) {
+		for (int i = 0; i < neighbors.size; ++i) {
+			final int w = neighbors.vertices[i];
+			this.contractedNeighbors[w]++;
+
+			/* increases are detected when the vertex is removed from the heap */
+			final double priority = this.priority(w, search);
+			if (priority < queue.getKey(w)) {
+				queue.decreaseKey(w, priority);
+			}
+		}
+	}
+
+	/**
+	 * Computes the priority of a vertex by simulating its contraction.
+	 */
+	private double priority(int v, WitnessSearch search) {
+		final int shortcuts = this.findShortcuts(v, search, null, SIMULATION_SETTLE_LIMIT);
+		return 2 * (shortcuts - this.in[v].size - this.out[v].size) + this.contractedNeighbors[v];
+	}
+
+	/**
+	 * Determines the shortcuts required for contracting v.
+	 * @param shortcuts   list the shortcuts are added to, or null if they are only counted
+	 * @param settleLimit maximum number of vertices visited by each witness search
+	 * @return number of shortcuts
+	 */
+	private int findShortcuts(int v, WitnessSearch search, Shortcuts shortcuts, int settleLimit) {
+		final ArcList incoming = this.in[v];
+		final ArcList outgoing = this.out[v];
+
+		int count = 0;
+		for (int i = 0; i < incoming.size; ++i) {
+			final int u = incoming.vertices[i];
+			final double toV = incoming.weights[i];
+
+			/* the search can stop at the longest path over v */
+			double maxDistance = Double.NEGATIVE_INFINITY;
+			for (int j = 0; j < outgoing.size; ++j) {
+				if (outgoing.vertices[j] != u) {
+					maxDistance = Math.max(maxDistance, toV + outgoing.weights[j]);
+				}
+			}
+			if (maxDistance == Double.NEGATIVE_INFINITY) {
+				continue;
+			}
+
+			search.run(this.out, u, v, maxDistance, settleLimit);
+
+			for (int j = 0; j < outgoing.size; ++j) {
+				final int w = outgoing.vertices[j];
+				final double viaV = toV + outgoing.weights[j];
+				if ((w != u) && (search.dist(w) > viaV)) {
+					count++;
+					if (shortcuts != null) {
+						shortcuts.add(u, w, viaV);
+					}
+				}
+			}
+		}
+
+		return count;
+	}
+
+	private int[] offsets(ArcList[] arcs) {
+		final int[] offsets = new int[this.n + 1];
+		for (int v = 0; v < this.n; ++v) {
+			offsets[v + 1] = offsets[v] + arcs[v].size;
+		}
+		return offsets;
+	}
+
+	/**
+	 * Dijkstra search limited in distance and in the number of visited vertices. The distances are reset
+	 * by incrementing a version number, so that a search only costs time for the vertices it reaches.
+	 */
+	private static class WitnessSearch {
+		private final double[] dist;
+		private final int[] versions;
+		private final IndexedHeap queue;
+		private int version = 0;
+
+		WitnessSearch(int n) {
+			this.dist = new double[n];
+			this.versions = new int[n];
+			this.queue = new IndexedHeap(n);
+		}
+
+		double dist(int v) {
+			return (this.versions[v] == this.version) ? this.dist[v] : Double.POSITIVE_INFINITY;
+		}
+
+		/**
+		 * Computes the distances from source in the graph without the vertex excluded, up to maxDistance
+		 * or until settleLimit vertices have been visited.
+		 */
+		void run(ArcList[] out, int source, int excluded, double maxDistance, int settleLimit) {
+			this.version++;
+			this.queue.clear();
+
+			this.dist[source] = 0.0;
+			this.versions[source] = this.version;
+			this.queue.insert(source, 0.0);
+
+			int settled = 0;
+			while (!this.queue.isEmpty() && (this.queue.peekKey() <= maxDistance) && (settled < settleLimit)) {
+				final int x = this.queue.poll();
+				settled++;
+
+				final ArcList arcs = out[x];
+				for (int i = 0; i < arcs.size; ++i) {
+					final int y = arcs.vertices[i];
+					if (y == excluded) {
+						continue;
+					}
+
+					final double distance = this.dist[x] + arcs.weights[i];
+					if (distance < this.dist(y)) {
+						this.dist[y] = distance;
+						this.versions[y] = this.version;
+						this.queue.insertOrDecrease(y, distance);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Growable list of arcs to or from a vertex, with the contracted vertex each arc bypasses.
+	 */
+	private static class ArcList {
+		private int[] vertices = new int[4];
+		private double[] weights = new double[4];
+		private int[] middles = new int[4];
+		private int size = 0;
+
+		/**
+		 * Adds an arc to vertex v, or replaces the arc to v if it is more expensive.
+		 */
+		void addOrImprove(int v, double weight, int middle) {
+			for (int i = 0; i < this.size; ++i) {
+				if (this.vertices[i] == v) {
+					if (weight < this.weights[i]) {
+						this.weights[i] = weight;
+						this.middles[i] = middle;
+					}
+					return;
+				}
+			}
+
+			if (this.size == this.vertices.length) {
+				this.vertices = Arrays.copyOf(this.vertices, 2 * this.size);
+				this.weights = Arrays.copyOf(this.weights, 2 * this.size);
+				this.middles = Arrays.copyOf(this.middles, 2 * this.size);
+			}
+
+			this.vertices[this.size] = v;
+			this.weights[this.size] = weight;
+			this.middles[this.size] = middle;
+			this.size++;
+		}
+
+		void remove(int v) {
+			for (int i = 0; i < this.size; ++i) {
+				if (this.vertices[i] == v) {
+					this.size--;
+					this.vertices[i] = this.vertices[this.size];
+					this.weights[i] = this.weights[this.size];
+					this.middles[i] = this.middles[this.size];
+					return;
+				}
+			}
+		}
+
+		void copyTo(int[] vertices, double[] weights, int[] middles, int offset) {
+			System.arraycopy(this.vertices, 0, vertices, offset, this.size);
+			System.arraycopy(this.weights, 0, weights, offset, this.size);
+			System.arraycopy(this.middles, 0, middles, offset, this.size);
+		}
+	}
+
+	/**
+	 * Growable list of shortcuts (from[i], to[i]) with weight weights[i].
+	 */
+	private static class Shortcuts {
+		private int[] from = new int[16];
+		private int[] to = new int[16];
+		private double[] weights = new double[16];
+		private int size = 0;
+
+		void add(int u, int w, double weight) {
+			if (this.size == this.from.length) {
+				this.from = Arrays.copyOf(this.from, 2 * this.size);
+				this.to = Arrays.copyOf(this.to, 2 * this.size);
+				this.weights = Arrays.copyOf(this.weights, 2 * this.size);
+			}
+
+			this.from[this.size] = u;
+			this.to[this.size] = w;
+			this.weights[this.size] = weight;
+			this.size++;
+		}
+
+		void clear() {
+			this.size = 0;
+		}
+	}
+}
@@ -1,8 +1,13 @@
 package de.uos.inf.ko.ga.graph.converter;
 
 import de.uos.inf.ko.ga.graph.Graph;
+import de.uos.inf.ko.ga.graph.impl.CsrGraph;
+import de.uos.inf.ko.ga.graph.impl.DirectedGraphBitset;
+import de.uos.inf.ko.ga.graph.impl.DirectedGraphHashList;
 import de.uos.inf.ko.ga.graph.impl.DirectedGraphList;
 import de.uos.inf.ko.ga.graph.impl.DirectedGraphMatrix;
+import de.uos.inf.ko.ga.graph.impl.UndirectedGraphBitset;
+import de.uos.inf.ko.ga.graph.impl.UndirectedGraphHashList;
 import de.uos.inf.ko.ga.graph.impl.UndirectedGraphList;
 import de.uos.inf.ko.ga.graph.impl.UndirectedGraphMatrix;
 
@@ -27,6 +32,21 @@ public class GraphConverter {
 		}
 	}
 
+	/**
+	 * Constructs a graph represented by adjacency lists with a hash index of the edges.
+	 * Outputs an instance of DirectedGraphHashList if the input graph is directed, and outputs an instance of UndirectedGraphHashList otherwise.
+	 * The weights of the edges of the new graph are the same as the ones of the input graph.
+	 * @param graph Graph to be converted
+	 * @return graph Graph represented by indexed adjacency lists
+	 */
+	public static Graph toHashList(Graph graph) {
+		if (graph.isDirected()) {
+			return copyDirectedGraph(graph, new DirectedGraphHashList());
+		} else {
+			return copyUndirectedGraph(graph, new UndirectedGraphHashList());
+		}
+	}
+
 	/**
 	 * Constructs a graph represented by an adjacency matrix.
 	 * Outputs an instance of DirectedGraphMatrix if the input graph is directed, and outputs an instance of UndirectedGraphMatrix otherwise.
@@ -42,14 +62,55 @@ public class GraphConverter {
 		}
 	}
 	
+	/**
+	 * Constructs an unweighted graph represented by a bitset adjacency matrix.
+	 * Outputs an instance of DirectedGraphBitset if the input graph is directed, and outputs an instance of UndirectedGraphBitset otherwise.
+	 * The edges of the new graph are the same as the ones of the input graph, but their weights are dropped.
+	 * @param graph Graph to be converted
+	 * @return graph Unweighted graph represented by a bitset adjacency matrix
+	 */
+	public static Graph toBitset(Graph graph) {
+		final Graph output = graph.isDirected() ? new DirectedGraphBitset() : new UndirectedGraphBitset();
+		output.addVertices(graph.getVertexCount());
+
+		for (int u = 0; u < graph.getVertexCount(); ++u) {
+			final int start = u;
+			graph.forEachSuccessor(u, (v, weight) -> output.addEdge(start, v));
+		}
+
+		return output;
+	}
+
+	/**
+	 * Constructs an immutable graph in compressed sparse row format.
+	 * The output graph is directed if and only if the input graph is directed.
+	 * The weights of the edges of the new graph are the same as the ones of the input graph.
+	 * @param graph Graph to be converted
+	 * @return graph Graph in compressed sparse row format
+	 */
+	public static CsrGraph toCsr(Graph graph) {
+		final CsrGraph.Builder builder = new CsrGraph.Builder(graph.isDirected());
+		builder.addVertices(graph.getVertexCount());
+
+		for (int u = 0; u < graph.getVertexCount(); ++u) {
+			final int start = u;
+			graph.forEachSuccessor(u, (v, weight) -> {
+				if (graph.isDirected() || (start < v)) {
+					/* in undirected graphs, only consider each edge once */
+					builder.addEdge(start, v, weight);
+				}
+			});
+		}
+
+		return builder.build();
+	}
+	
 	private static Graph copyDirectedGraph(Graph input, Graph output) {
 		output.addVertices(input.getVertexCount());
 		
 		for (int u = 0; u < input.getVertexCount(); ++u) {
-			for (Integer v : input.getSuccessors(u)) {
-				final double weight = input.getEdgeWeight(u, v);
-				output.addEdge(u, v, weight);
-			}
+			final int start = u;
+			input.forEachSuccessor(u, (v, weight) -> output.addEdge(start, v, weight));
 		}
 
 		return output;
@@ -59,13 +120,13 @@ public class GraphConverter {
 		output.addVertices(input.getVertexCount());
 		
 		for (int u = 0; u < input.getVertexCount(); ++u) {
-			for (Integer v : input.getNeighbors(u)) {
-				if (u < v) {
+			final int start = u;
+			input.forEachNeighbor(u, (v, weight) -> {
+				if (start < v) {
 					/* only consider each edge once */
-					final double weight = input.getEdgeWeight(u, v);
-					output.addEdge(u, v, weight);
+					output.addEdge(start, v, weight);
 				}
-			}
+			});
 		}
 		
 		return output;
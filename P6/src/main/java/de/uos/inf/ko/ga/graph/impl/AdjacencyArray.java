@@ -0,0 +1,50 @@
+package de.uos.inf.ko.ga.graph.impl;
+
+import java.util.Arrays;
+
+/**
+ * Growable adjacency of a single vertex, stored as a primitive array of adjacent vertices and a primitive
+ * array of edge weights. Entries are unordered: an entry is removed by moving the last entry into its place.
+ */
+class AdjacencyArray {
+
+	/* adjacent vertices */
+	int[] vertices = new int[4];
+	/* weights of the edges to the adjacent vertices */
+	double[] weights = new double[4];
+	/* number of adjacent vertices */
+	int size = 0;
+
+	/**
+	 * Appends an entry.
+	 * @param v      adjacent vertex
+	 * @param weight weight of the edge
+	 * @return position of the new entry
+	 */
+	int add(int v, double weight) {
+		if (this.size == this.vertices.length) {
+			this.vertices = Arrays.copyOf(this.vertices, 2 * this.size);
+			this.weights = Arrays.copyOf(this.weights, 2 * this.size);
+		}
+
+		this.vertices[this.size] = v;
+		this.weights[this.size] = weight;
+		return this.size++;
+	}
+
+	/**
+	 * Removes the entry at the given position by moving the last entry into its place.
+	 * @param pos position of the entry to be removed
+	 * @return vertex of the entry that has been moved to position pos, -1 if no entry has been moved
+	 */
+	int removeAt(int pos) {
+		this.size--;
+		if (pos == this.size) {
+			return -1;
+		}
+
+		this.vertices[pos] = this.vertices[this.size];
+		this.weights[pos] = this.weights[this.size];
+		return this.vertices[pos];
+	}
+}
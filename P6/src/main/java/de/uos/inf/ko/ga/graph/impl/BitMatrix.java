@@ -0,0 +1,179 @@
+package de.uos.inf.ko.ga.graph.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import de.uos.inf.ko.ga.graph.EdgeConsumer;
+
+/**
+ * Adjacency matrix of an unweighted graph that stores each row as a bitset in a long array.
+ * Bit (v mod 64) of word (v / 64) of row u is set if and only if the arc (u, v) exists.
+ * All bits of columns and rows outside the current number of vertices are zero.
+ */
+class BitMatrix {
+
+	/* rows of the matrix; all rows have the same number of words */
+	private long[][] rows = new long[0][0];
+	/* number of rows and columns the matrix has room for */
+	private int capacity = 0;
+
+	/**
+	 * Number of longs needed to store a bitset of the given size.
+	 * @param n number of bits
+	 * @return number of words
+	 */
+	static int words(int n) {
+		return (n + 63) >>> 6;
+	}
+
+	/**
+	 * Makes sure the matrix has room for n rows and columns. Like the capacity of DirectedGraphMatrix, the capacity
+	 * grows by at least a quarter, since the memory grows with its square.
+	 * @param n number of vertices
+	 */
+	void ensureCapacity(int n) {
+		if (n <= this.capacity) {
+			return;
+		}
+
+		final int capacity = Math.max(n, this.capacity + (this.capacity >> 2));
+		final int words = words(capacity);
+
+		final long[][] rows = Arrays.copyOf(this.rows, capacity);
+		for (int i = 0; i < capacity; ++i) {
+			rows[i] = (i < this.capacity) ? Arrays.copyOf(this.rows[i], words) : new long[words];
+		}
+
+		this.rows = rows;
+		this.capacity = capacity;
+	}
+
+	boolean get(int u, int v) {
+		return (this.rows[u][v >>> 6] & (1L << v)) != 0;
+	}
+
+	void set(int u, int v) {
+		this.rows[u][v >>> 6] |= (1L << v);
+	}
+
+	void clear(int u, int v) {
+		this.rows[u][v >>> 6] &= ~(1L << v);
+	}
+
+	/**
+	 * Clears row and column v of an n x n matrix.
+	 * @param v vertex
+	 * @param n number of vertices
+	 */
+	void clearRowAndColumn(int v, int n) {
+		Arrays.fill(this.rows[v], 0L);
+		for (int u = 0; u < n; ++u) {
+			this.clear(u, v);
+		}
+	}
+
+	/**
+	 * Returns the bitset of row u. The array must not be modified.
+	 * @param u row
+	 * @return words of the row
+	 */
+	long[] row(int u) {
+		return this.rows[u];
+	}
+
+	/**
+	 * Passes the column index of all bits set in row u to the consumer, with weight 1.
+	 * @param u        row
+	 * @param consumer consumer receiving the columns
+	 */
+	void forEach(int u, EdgeConsumer consumer) {
+		final long[] row = this.rows[u];
+		for (int i = 0; i < row.length; ++i) {
+			long word = row[i];
+			while (word != 0) {
+				consumer.accept((i << 6) + Long.numberOfTrailingZeros(word), 1.0);
+				/* clear the lowest bit */
+				word &= word - 1;
+			}
+		}
+	}
+
+	/**
+	 * Passes all rows u of an n x n matrix with bit v set to the consumer, with weight 1.
+	 * @param v        column
+	 * @param n        number of rows
+	 * @param consumer consumer receiving the rows
+	 */
+	void forEachInColumn(int v, int n, EdgeConsumer consumer) {
+		final int w = v >>> 6;
+		final long mask = 1L << v;
+		for (int u = 0; u < n; ++u) {
+			if ((this.rows[u][w] & mask) != 0) {
+				consumer.accept(u, 1.0);
+			}
+		}
+	}
+
+	/**
+	 * Returns the column indices of all bits set in row u.
+	 * @param u row
+	 * @return list of columns
+	 */
+	List<Integer> toList(int u) {
+		final List<Integer> list = new ArrayList<>();
+		this.forEach(u, (v, weight) -> list.add(v));
+		return list;
+	}
+
+	/**
+	 * Computes target |= row u, word by word.
+	 * @param u      row
+	 * @param target bitset with at least as many words as needed for the vertices of the graph
+	 */
+	void or(int u, long[] target) {
+		final long[] row = this.rows[u];
+		final int words = Math.min(row.length, target.length);
+		for (int i = 0; i < words; ++i) {
+			target[i] |= row[i];
+		}
+	}
+
+	/**
+	 * Computes target &= row u, word by word.
+	 * @param u      row
+	 * @param target bitset with at least as many words as needed for the vertices of the graph
+	 */
+	void and(int u, long[] target) {
+		final long[] row = this.rows[u];
+		final int words = Math.min(row.length, target.length);
+		for (int i = 0; i < words; ++i) {
+			target[i] &= row[i];
+		}
+		Arrays.fill(target, words, target.length, 0L);
+	}
+
+	/**
+	 * Computes the transitive closure of an n x n matrix with Warshall's algorithm. Whenever row i contains
+	 * bit k, row k is merged into row i with word-parallel OR operations. The diagonal of the result is cleared.
+	 * @param n      number of vertices
+	 * @param target empty matrix with capacity for n vertices receiving the closure
+	 */
+	void closure(int n, BitMatrix target) {
+		for (int i = 0; i < n; ++i) {
+			System.arraycopy(this.rows[i], 0, target.rows[i], 0, words(n));
+		}
+
+		for (int k = 0; k < n; ++k) {
+			for (int i = 0; i < n; ++i) {
+				if (target.get(i, k)) {
+					target.or(k, target.rows[i]);
+				}
+			}
+		}
+
+		for (int i = 0; i < n; ++i) {
+			target.clear(i, i);
+		}
+	}
+}
@@ -0,0 +1,475 @@
+package de.uos.inf.ko.ga.graph.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import de.uos.inf.ko.ga.graph.EdgeConsumer;
+import de.uos.inf.ko.ga.graph.Graph;
+
+/**
+ * Immutable implementation of a directed or undirected graph in compressed sparse row (CSR) format.
+ * The outgoing edges of vertex v are stored at the positions offsets[v], ..., offsets[v + 1] - 1
+ * of the arrays targets and weights, sorted by the id of the target vertex. Hence, iterating over the
+ * successors of a vertex is a sequential walk over two primitive arrays, and testing whether an edge
+ * exists is a binary search inside a single row.
+ *
+ * For directed graphs, the incoming edges are stored in a second CSR structure such that the
+ * predecessors of a vertex can be determined as fast as its successors. For undirected graphs, each
+ * edge {u, v} is stored as the two arcs (u, v) and (v, u), and both structures coincide.
+ *
+ * Instances are created by a {@link CsrGraph.Builder}; all methods modifying the graph throw an
+ * UnsupportedOperationException.
+ */
+public class CsrGraph implements Graph {
+
+	/* edge weight that is used if no edge weight is given */
+	private static final double DEFAULT_EDGE_WEIGHT = 1.0;
+	/* threshold for testing equality of floating point numbers */
+	private static final double EPSILON = 0.0001;
+
+	/* number of vertices */
+	private final int n;
+	/* whether the graph is directed */
+	private final boolean directed;
+	/* whether the graph is weighted */
+	private final boolean weighted;
+	/* largest weight, -1 if a weight is not a non-negative int */
+	private final int maxIntegerWeight;
+
+	/* outgoing edges */
+	private final int[] offsets;
+	private final int[] targets;
+	private final double[] weights;
+
+	/* incoming edges; same arrays as the outgoing edges if the graph is undirected */
+	private final int[] inOffsets;
+	private final int[] sources;
+	private final double[] inWeights;
+
+	private CsrGraph(int n, boolean directed, Rows out, Rows in) {
+		this.n = n;
+		this.directed = directed;
+
+		this.offsets = out.offsets;
+		this.targets = out.vertices;
+		this.weights = out.weights;
+
+		this.inOffsets = in.offsets;
+		this.sources = in.vertices;
+		this.inWeights = in.weights;
+
+		boolean weighted = false;
+		for (final double weight : this.weights) {
+			if (Math.abs(weight - DEFAULT_EDGE_WEIGHT) > EPSILON) {
+				weighted = true;
+				break;
+			}
+		}
+		this.weighted = weighted;
+
+		int maxIntegerWeight = 0;
+		for (final double weight : this.weights) {
+			if ((weight >= 0.0) && (weight <= Integer.MAX_VALUE) && (weight == Math.rint(weight))) {
+				maxIntegerWeight = Math.max(maxIntegerWeight, (int) weight);
+			} else {
+				maxIntegerWeight = -1;
+				break;
+			}
+		}
+		this.maxIntegerWeight = maxIntegerWeight;
+	}
+
+	@Override
+	public void addEdge(int start, int end) {
+		throw new UnsupportedOperationException("cannot add edge to an immutable graph");
+	}
+
+	@Override
+	public void addEdge(int start, int end, double weight) {
+		throw new UnsupportedOperationException("cannot add edge to an immutable graph");
+	}
+
+	@Override
+	public void addVertex() {
+		throw new UnsupportedOperationException("cannot add vertex to an immutable graph");
+	}
+
+	@Override
+	public void addVertices(int n) {
+		throw new UnsupportedOperationException("cannot add vertices to an immutable graph");
+	}
+
+	@Override
+	public List<Integer> getNeighbors(int v) {
+		if ((v < 0) || (v >= this.n)) {
+			throw new IllegalArgumentException("cannot determine neighbors of invalid vertex");
+		}
+
+		if (!this.directed) {
+			return this.getSuccessors(v);
+		}
+
+		/* both rows are sorted, so they can be merged without duplicates */
+		final List<Integer> neighbors = new ArrayList<>();
+		int i = this.offsets[v];
+		int j = this.inOffsets[v];
+		final int iEnd = this.offsets[v + 1];
+		final int jEnd = this.inOffsets[v + 1];
+
+		while ((i < iEnd) || (j < jEnd)) {
+			if ((j >= jEnd) || ((i < iEnd) && (this.targets[i] < this.sources[j]))) {
+				neighbors.add(this.targets[i++]);
+			} else if ((i >= iEnd) || (this.sources[j] < this.targets[i])) {
+				neighbors.add(this.sources[j++]);
+			} else {
+				neighbors.add(this.targets[i]);
+				i++;
+				j++;
+			}
+		}
+
+		return neighbors;
+	}
+
+	@Override
+	public List<Integer> getPredecessors(int v) {
+		if ((v < 0) || (v >= this.n)) {
+			throw new IllegalArgumentException("cannot determine predecessors of invalid vertex");
+		}
+
+		final List<Integer> predecessors = new ArrayList<>(this.inOffsets[v + 1] - this.inOffsets[v]);
+		for (int i = this.inOffsets[v]; i < this.inOffsets[v + 1]; ++i) {
+			predecessors.add(this.sources[i]);
+		}
+
+		return predecessors;
+	}
+
+	@Override
+	public List<Integer> getSuccessors(int v) {
+		if ((v < 0) || (v >= this.n)) {
+			throw new IllegalArgumentException("cannot determine successors of invalid vertex");
+		}
+
+		final List<Integer> successors = new ArrayList<>(this.offsets[v + 1] - this.offsets[v]);
+		for (int i = this.offsets[v]; i < this.offsets[v + 1]; ++i) {
+			successors.add(this.targets[i]);
+		}
+
+		return successors;
+	}
+
+	@Override
+	public void forEachNeighbor(int v, EdgeConsumer consumer) {
+		this.forEachSuccessor(v, consumer);
+		if (this.directed) {
+			this.forEachPredecessor(v, consumer);
+		}
+	}
+
+	@Override
+	public void forEachPredecessor(int v, EdgeConsumer consumer) {
+		if ((v < 0) || (v >= this.n)) {
+			throw new IllegalArgumentException("cannot visit predecessors of invalid vertex");
+		}
+
+		for (int i = this.inOffsets[v]; i < this.inOffsets[v + 1]; ++i) {
+			consumer.accept(this.sources[i], this.inWeights[i]);
+		}
+	}
+
+	@Override
+	public void forEachSuccessor(int v, EdgeConsumer consumer) {
+		if ((v < 0) || (v >= this.n)) {
+			throw new IllegalArgumentException("cannot visit successors of invalid vertex");
+		}
+
+		for (int i = this.offsets[v]; i < this.offsets[v + 1]; ++i) {
+			consumer.accept(this.targets[i], this.weights[i]);
+		}
+	}
+
+	@Override
+	public int getVertexCount() {
+		return this.n;
+	}
+
+	/**
+	 * Method to get the number of arcs stored in the graph.
+	 * For undirected graphs, each edge is counted twice.
+	 * @return number of arcs
+	 */
+	public int getArcCount() {
+		return this.targets.length;
+	}
+
+	@Override
+	public double getEdgeWeight(int start, int end) {
+		final int idx = this.find(start, end);
+		return (idx >= 0) ? this.weights[idx] : Double.POSITIVE_INFINITY;
+	}
+
+	@Override
+	public boolean hasEdge(int start, int end) {
+		return (this.find(start, end) >= 0);
+	}
+
+	/**
+	 * Determines the position of the arc (start, end) in the arrays targets and weights.
+	 * @param start start vertex of the arc
+	 * @param end   end vertex of the arc
+	 * @return position of the arc, a negative value if the arc does not exist
+	 */
+	private int find(int start, int end) {
+		if ((start < 0) || (start >= this.n) || (end < 0) || (end >= this.n)) {
+			return -1;
+		}
+
+		return Arrays.binarySearch(this.targets, this.offsets[start], this.offsets[start + 1], end);
+	}
+
+	@Override
+	public void removeEdge(int start, int end) {
+		throw new UnsupportedOperationException("cannot remove edge from an immutable graph");
+	}
+
+	@Override
+	public void removeVertex() {
+		throw new UnsupportedOperationException("cannot remove vertex from an immutable graph");
+	}
+
+	@Override
+	public boolean isWeighted() {
+		return this.weighted;
+	}
+
+	@Override
+	public int getMaxIntegerWeight() {
+		return this.maxIntegerWeight;
+	}
+
+	@Override
+	public boolean isDirected() {
+		return this.directed;
+	}
+
+	/**
+	 * Builder collecting the vertices and edges of a CsrGraph in primitive arrays.
+	 * The builder accepts edges in arbitrary order. Self-loops are ignored, and if
+	 * an edge is added several times, the weight that has been added last is used.
+	 */
+	public static class Builder {
+
+		/* whether the graph to be built is directed */
+		private final boolean directed;
+
+		/* number of vertices */
+		private int n = 0;
+		/* number of edges */
+		private int m = 0;
+
+		/* start vertices, end vertices and weights of the edges in the order of insertion */
+		private int[] starts = new int[16];
+		private int[] ends = new int[16];
+		private double[] weights = new double[16];
+
+		/**
+		 * Creates a builder for an empty graph.
+		 * @param directed whether the graph to be built is directed
+		 */
+		public Builder(boolean directed) {
+			this.directed = directed;
+		}
+
+		/**
+		 * Adds the edge from start to end with default weight.
+		 * @param start start vertex
+		 * @param end   end vertex
+		 * @return this builder
+		 */
+		public Builder addEdge(int start, int end) {
+			return this.addEdge(start, end, DEFAULT_EDGE_WEIGHT);
+		}
+
+		/**
+		 * Adds the edge with the given weight from start to end.
+		 * @param start  start vertex
+		 * @param end    end vertex
+		 * @param weight weight of the edge
+		 * @return this builder
+		 */
+		public Builder addEdge(int start, int end, double weight) {
+			if ((start < 0) || (end < 0) || (start >= this.n) || (end >= this.n)) {
+				throw new IllegalArgumentException("cannot add edge with an invalid vertex id");
+			}
+
+			if (start == end) {
+				return this;
+			}
+
+			if (this.m == this.starts.length) {
+				final int capacity = 2 * this.m;
+				this.starts = Arrays.copyOf(this.starts, capacity);
+				this.ends = Arrays.copyOf(this.ends, capacity);
+				this.weights = Arrays.copyOf(this.weights, capacity);
+			}
+
+			this.starts[this.m] = start;
+			this.ends[this.m] = end;
+			this.weights[this.m] = weight;
+			this.m++;
+
+			return this;
+		}
+
+		/**
+		 * Adds a vertex.
+		 * @return this builder
+		 */
+		public Builder addVertex() {
+			return this.addVertices(1);
+		}
+
+		/**
+		 * Adds multiple vertices.
+		 * @param n number of vertices to add
+		 * @return this builder
+		 */
+		public Builder addVertices(int n) {
+			if (n < 0) {
+				throw new IllegalArgumentException("cannot add a negative number of vertices");
+			}
+
+			this.n += n;
+			return this;
+		}
+
+		/**
+		 * Constructs the graph from the vertices and edges added so far.
+		 * The builder can still be used afterwards.
+		 * @return immutable graph
+		 */
+		public CsrGraph build() {
+			if (this.directed) {
+				final Rows out = Rows.compress(this.n, this.m, this.starts, this.ends, this.weights);
+				final Rows in = Rows.compress(this.n, this.m, this.ends, this.starts, this.weights);
+				return new CsrGraph(this.n, true, out, in);
+			}
+
+			/* each edge {u, v} is stored as both arcs (u, v) and (v, u) */
+			final int[] from = new int[2 * this.m];
+			final int[] to = new int[2 * this.m];
+			final double[] w = new double[2 * this.m];
+			for (int i = 0; i < this.m; ++i) {
+				from[2 * i] = this.starts[i];
+				to[2 * i] = this.ends[i];
+				from[2 * i + 1] = this.ends[i];
+				to[2 * i + 1] = this.starts[i];
+				w[2 * i] = this.weights[i];
+				w[2 * i + 1] = this.weights[i];
+			}
+
+			final Rows rows = Rows.compress(this.n, 2 * this.m, from, to, w);
+			return new CsrGraph(this.n, false, rows, rows);
+		}
+	}
+
+	/**
+	 * Arrays of one CSR structure.
+	 */
+	private static class Rows {
+		private final int[] offsets;
+		private final int[] vertices;
+		private final double[] weights;
+
+		private Rows(int[] offsets, int[] vertices, double[] weights) {
+			this.offsets = offsets;
+			this.vertices = vertices;
+			this.weights = weights;
+		}
+
+		/**
+		 * Sorts a list of arcs by (from, to) with two stable counting sorts and removes duplicate arcs,
+		 * keeping the arc that appears last in the list.
+		 * @param n    number of vertices
+		 * @param m    number of arcs
+		 * @param from start vertices of the arcs
+		 * @param to   end vertices of the arcs
+		 * @param w    weights of the arcs
+		 * @return CSR structure of the arcs
+		 */
+		private static Rows compress(int n, int m, int[] from, int[] to, double[] w) {
+			/* first pass: order the arcs by their end vertex */
+			final int[] byEnd = countingSort(n, m, to, identity(m));
+
+			/* second pass: stable ordering by the start vertex */
+			final int[] order = countingSort(n, m, from, byEnd);
+
+			final int[] offsets = new int[n + 1];
+			int[] vertices = new int[m];
+			double[] weights = new double[m];
+
+			int k = 0;
+			for (int i = 0; i < m; ++i) {
+				final int e = order[i];
+
+				if ((i + 1 < m) && (from[order[i + 1]] == from[e]) && (to[order[i + 1]] == to[e])) {
+					/* a later copy of the same arc follows */
+					continue;
+				}
+
+				offsets[from[e] + 1]++;
+				vertices[k] = to[e];
+				weights[k] = w[e];
+				k++;
+			}
+
+			for (int v = 0; v < n; ++v) {
+				offsets[v + 1] += offsets[v];
+			}
+
+			if (k < m) {
+				vertices = Arrays.copyOf(vertices, k);
+				weights = Arrays.copyOf(weights, k);
+			}
+
+			return new Rows(offsets, vertices, weights);
+		}
+
+		private static int[] identity(int m) {
+			final int[] order = new int[m];
+			for (int i = 0; i < m; ++i) {
+				order[i] = i;
+			}
+			return order;
+		}
+
+		/**
+		 * Stable counting sort of a permutation of arcs by a vertex key.
+		 * @param n     number of vertices
+		 * @param m     number of arcs
+		 * @param key   key of each arc
+		 * @param order current order of the arcs
+		 * @return new order of the arcs
+		 */
+		private static int[] countingSort(int n, int m, int[] key, int[] order) {
+			final int[] count = new int[n + 1];
+			for (int i = 0; i < m; ++i) {
+				count[key[i] + 1]++;
+			}
+
+			for (int v = 0; v < n; ++v) {
+				count[v + 1] += count[v];
+			}
+
+			final int[] sorted = new int[m];
+			for (int i = 0; i < m; ++i) {
+				final int e = order[i];
+				sorted[count[key[e]]++] = e;
+			}
+
+			return sorted;
+		}
+	}
+}
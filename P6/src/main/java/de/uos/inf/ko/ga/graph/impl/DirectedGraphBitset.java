@@ -0,0 +1,220 @@
+package de.uos.inf.ko.ga.graph.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import de.uos.inf.ko.ga.graph.EdgeConsumer;
+import de.uos.inf.ko.ga.graph.Graph;
+
+/**
+ * Implementation of an unweighted directed graph with a matrix representation of the edges,
+ * in which each row is a bitset stored in an array of longs. The matrix occupies n^2 / 8 bytes.
+ * Successors are enumerated by jumping from one set bit to the next with Long.numberOfTrailingZeros.
+ * Additionally, rows can be combined with bitsets word by word, e.g. for expanding a BFS frontier,
+ * and the transitive closure is computed with word-parallel OR operations.
+ *
+ * Every arc has weight 1.0; adding an arc with any other weight is rejected.
+ */
+public class DirectedGraphBitset implements Graph {
+
+	/* the only edge weight that can be represented */
+	private static final double DEFAULT_EDGE_WEIGHT = 1.0;
+	/* threshold for testing equality of floating point numbers */
+	private static final double EPSILON = 0.0001;
+
+	/* number of vertices */
+	private int n = 0;
+	/* adjacency matrix */
+	private final BitMatrix matrix = new BitMatrix();
+
+	@Override
+	public void addEdge(int start, int end) {
+		this.addEdge(start, end, DEFAULT_EDGE_WEIGHT);
+	}
+
+	@Override
+	public void addEdge(int start, int end, double weight) {
+		if ((start < 0) || (start >= this.n) || (end < 0) || (end >= this.n)) {
+			throw new IllegalArgumentException("cannot add edge with invalid vertex id");
+		}
+
+		if (Math.abs(weight - DEFAULT_EDGE_WEIGHT) > EPSILON) {
+			throw new IllegalArgumentException("cannot add weighted edge to an unweighted graph");
+		}
+
+		if (start == end) {
+			// throw new IllegalArgumentException("cannot add self-loop");
+			return;
+		}
+
+		this.matrix.set(start, end);
+	}
+
+	@Override
+	public void addVertex() {
+		this.addVertices(1);
+	}
+
+	@Override
+	public void addVertices(int n) {
+		if (n < 0) {
+			throw new IllegalArgumentException("cannot add a negative number of vertices");
+		}
+
+		this.matrix.ensureCapacity(this.n + n);
+		this.n += n;
+	}
+
+	@Override
+	public List<Integer> getNeighbors(int v) {
+		if ((v < 0) || (v >= this.n)) {
+			throw new IllegalArgumentException("cannot determine neighbors of invalid vertex");
+		}
+
+		final List<Integer> neighbors = this.matrix.toList(v);
+		this.matrix.forEachInColumn(v, this.n, (u, weight) -> {
+			if (!this.matrix.get(v, u)) {
+				neighbors.add(u);
+			}
+		});
+
+		return neighbors;
+	}
+
+	@Override
+	public List<Integer> getPredecessors(int v) {
+		if ((v < 0) || (v >= this.n)) {
+			throw new IllegalArgumentException("cannot determine predecessors of invalid vertex");
+		}
+
+		final List<Integer> predecessors = new ArrayList<>();
+		this.matrix.forEachInColumn(v, this.n, (u, weight) -> predecessors.add(u));
+		return predecessors;
+	}
+
+	@Override
+	public List<Integer> getSuccessors(int v) {
+		if ((v < 0) || (v >= this.n)) {
+			throw new IllegalArgumentException("cannot determine successors of invalid vertex");
+		}
+
+		return this.matrix.toList(v);
+	}
+
+	@Override
+	public void forEachNeighbor(int v, EdgeConsumer consumer) {
+		this.forEachSuccessor(v, consumer);
+		this.forEachPredecessor(v, consumer);
+	}
+
+	@Override
+	public void forEachPredecessor(int v, EdgeConsumer consumer) {
+		if ((v < 0) || (v >= this.n)) {
+			throw new IllegalArgumentException("cannot visit predecessors of invalid vertex");
+		}
+
+		this.matrix.forEachInColumn(v, this.n, consumer);
+	}
+
+	@Override
+	public void forEachSuccessor(int v, EdgeConsumer consumer) {
+		if ((v < 0) || (v >= this.n)) {
+			throw new IllegalArgumentException("cannot visit successors of invalid vertex");
+		}
+
+		this.matrix.forEach(v, consumer);
+	}
+
+	/**
+	 * Adds the successors of v to a bitset, i.e. computes bits |= successors(v) word by word.
+	 * @param v    vertex id
+	 * @param bits bitset over the vertices of the graph
+	 */
+	public void orSuccessors(int v, long[] bits) {
+		if ((v < 0) || (v >= this.n)) {
+			throw new IllegalArgumentException("cannot combine successors of invalid vertex");
+		}
+
+		this.matrix.or(v, bits);
+	}
+
+	/**
+	 * Restricts a bitset to the successors of v, i.e. computes bits &= successors(v) word by word.
+	 * @param v    vertex id
+	 * @param bits bitset over the vertices of the graph
+	 */
+	public void andSuccessors(int v, long[] bits) {
+		if ((v < 0) || (v >= this.n)) {
+			throw new IllegalArgumentException("cannot combine successors of invalid vertex");
+		}
+
+		this.matrix.and(v, bits);
+	}
+
+	/**
+	 * Computes the transitive closure of the graph.
+	 * The closure contains the arc (u, v) if and only if u != v and v is reachable from u.
+	 * @return new graph containing the transitive closure
+	 */
+	public DirectedGraphBitset transitiveClosure() {
+		final DirectedGraphBitset closure = new DirectedGraphBitset();
+		closure.addVertices(this.n);
+		this.matrix.closure(this.n, closure.matrix);
+		return closure;
+	}
+
+	@Override
+	public int getVertexCount() {
+		return this.n;
+	}
+
+	@Override
+	public double getEdgeWeight(int start, int end) {
+		return this.hasEdge(start, end) ? DEFAULT_EDGE_WEIGHT : Double.POSITIVE_INFINITY;
+	}
+
+	@Override
+	public boolean hasEdge(int start, int end) {
+		if ((start < 0) || (start >= this.n) || (end < 0) || (end >= this.n)) {
+			return false;
+		}
+
+		return this.matrix.get(start, end);
+	}
+
+	@Override
+	public void removeEdge(int start, int end) {
+		if ((start < 0) || (start >= this.n) || (end < 0) || (end >= this.n)) {
+			throw new IllegalArgumentException("cannot remove edge with invalid vertex id");
+		}
+
+		this.matrix.clear(start, end);
+	}
+
+	@Override
+	public void removeVertex() {
+		if (this.n <= 0) {
+			throw new IllegalStateException("cannot remove vertex from empty graph");
+		}
+
+		this.n--;
+		this.matrix.clearRowAndColumn(this.n, this.n);
+	}
+
+	@Override
+	public boolean isWeighted() {
+		return false;
+	}
+
+	@Override
+	public int getMaxIntegerWeight() {
+		/* all edges have the weight 1 */
+		return 1;
+	}
+
+	@Override
+	public boolean isDirected() {
+		return true;
+	}
+
+}
@@ -0,0 +1,253 @@
+package de.uos.inf.ko.ga.graph.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import de.uos.inf.ko.ga.graph.EdgeConsumer;
+import de.uos.inf.ko.ga.graph.Graph;
+
+/**
+ * Implementation of a directed graph with a list representation of the edges that is indexed by hash maps.
+ * Each vertex has a primitive array of outgoing and a primitive array of incoming arcs. Additionally, two
+ * hash maps store the position of each arc (u, v) inside the outgoing arcs of u and inside the incoming arcs
+ * of v. Hence, hasEdge, getEdgeWeight and removeEdge take expected constant time independently of the
+ * degrees of the vertices, while iterating over the adjacency of a vertex is still linear in its degree.
+ *
+ * In contrast to DirectedGraphList, adding an arc that already exists replaces its weight.
+ */
+public class DirectedGraphHashList implements Graph {
+
+	/* edge weight that is used if no edge weight is given */
+	private static final double DEFAULT_EDGE_WEIGHT = 1.0;
+	/* threshold for testing equality of floating point numbers */
+	private static final double EPSILON = 0.0001;
+
+	/* number of vertices */
+	private int n = 0;
+	/* whether the graph is weighted */
+	private boolean weighted = false;
+	/* largest weight added so far, -1 once a weight has been added that is not a non-negative int */
+	private int maxIntegerWeight = 0;
+	/* outgoing and incoming arcs of each vertex */
+	private final List<AdjacencyArray> outgoing = new ArrayList<>();
+	private final List<AdjacencyArray> incoming = new ArrayList<>();
+	/* position of arc (u, v) in outgoing[u] and in incoming[v] */
+	private final EdgeIndex outgoingIndex = new EdgeIndex();
+	private final EdgeIndex incomingIndex = new EdgeIndex();
+
+	@Override
+	public void addEdge(int start, int end) {
+		this.addEdge(start, end, DEFAULT_EDGE_WEIGHT);
+	}
+
+	@Override
+	public void addEdge(int start, int end, double weight) {
+		if ((start < 0) || (end < 0) || (start >= this.n) || (end >= this.n)) {
+			throw new IllegalArgumentException("cannot add edge with an invalid vertex id");
+		}
+
+		if (start == end) {
+			// throw new IllegalArgumentException("cannot add self-loop");
+			return;
+		}
+
+		if (Math.abs(weight - DEFAULT_EDGE_WEIGHT) > EPSILON) {
+			this.weighted = true;
+		}
+		if ((this.maxIntegerWeight >= 0) && (weight >= 0.0) && (weight <= Integer.MAX_VALUE) && (weight == Math.rint(weight))) {
+			this.maxIntegerWeight = Math.max(this.maxIntegerWeight, (int) weight);
+		} else {
+			this.maxIntegerWeight = -1;
+		}
+
+		final int pos = this.outgoingIndex.get(start, end);
+		if (pos >= 0) {
+			/* the arc exists already; only update its weight */
+			this.outgoing.get(start).weights[pos] = weight;
+			this.incoming.get(end).weights[this.incomingIndex.get(start, end)] = weight;
+			return;
+		}
+
+		this.outgoingIndex.put(start, end, this.outgoing.get(start).add(end, weight));
+		this.incomingIndex.put(start, end, this.incoming.get(end).add(start, weight));
+	}
+
+	@Override
+	public void addVertex() {
+		this.addVertices(1);
+	}
+
+	@Override
+	public void addVertices(int n) {
+		if (n < 0) {
+			throw new IllegalArgumentException("cannot add a negative number of vertices");
+		}
+
+		for (int i = 0; i < n; i++) {
+			this.outgoing.add(new AdjacencyArray());
+			this.incoming.add(new AdjacencyArray());
+		}
+
+		this.n += n;
+	}
+
+	@Override
+	public List<Integer> getNeighbors(int v) {
+		final List<Integer> vertexList = this.getSuccessors(v);
+
+		/* add predecessors that are not successors as well */
+		final AdjacencyArray in = this.incoming.get(v);
+		for (int i = 0; i < in.size; ++i) {
+			if (this.outgoingIndex.get(v, in.vertices[i]) < 0) {
+				vertexList.add(in.vertices[i]);
+			}
+		}
+
+		return vertexList;
+	}
+
+	@Override
+	public List<Integer> getPredecessors(int v) {
+		if ((v < 0) || (v >= this.n)) {
+			throw new IllegalArgumentException("cannot get list of predecessors for invalid vertex id");
+		}
+
+		return toList(this.incoming.get(v));
+	}
+
+	@Override
+	public List<Integer> getSuccessors(int v) {
+		if ((v < 0) || (v >= this.n)) {
+			throw new IllegalArgumentException("cannot get list of successors for invalid vertex id");
+		}
+
+		return toList(this.outgoing.get(v));
+	}
+
+	private static List<Integer> toList(AdjacencyArray adjacency) {
+		final List<Integer> vertexList = new ArrayList<>(adjacency.size);
+		for (int i = 0; i < adjacency.size; ++i) {
+			vertexList.add(adjacency.vertices[i]);
+		}
+		return vertexList;
+	}
+
+	@Override
+	public void forEachNeighbor(int v, EdgeConsumer consumer) {
+		this.forEachSuccessor(v, consumer);
+		this.forEachPredecessor(v, consumer);
+	}
+
+	@Override
+	public void forEachPredecessor(int v, EdgeConsumer consumer) {
+		if ((v < 0) || (v >= this.n)) {
+			throw new IllegalArgumentException("cannot visit predecessors of invalid vertex id");
+		}
+
+		final AdjacencyArray in = this.incoming.get(v);
+		for (int i = 0; i < in.size; ++i) {
+			consumer.accept(in.vertices[i], in.weights[i]);
+		}
+	}
+
+	@Override
+	public void forEachSuccessor(int v, EdgeConsumer consumer) {
+		if ((v < 0) || (v >= this.n)) {
+			throw new IllegalArgumentException("cannot visit successors of invalid vertex id");
+		}
+
+		final AdjacencyArray out = this.outgoing.get(v);
+		for (int i = 0; i < out.size; ++i) {
+			consumer.accept(out.vertices[i], out.weights[i]);
+		}
+	}
+
+	@Override
+	public int getVertexCount() {
+		return this.n;
+	}
+
+	@Override
+	public double getEdgeWeight(int start, int end) {
+		if ((start < 0) || (end < 0) || (start >= this.n) || (end >= this.n)) {
+			return Double.POSITIVE_INFINITY;
+		}
+
+		final int pos = this.outgoingIndex.get(start, end);
+		return (pos >= 0) ? this.outgoing.get(start).weights[pos] : Double.POSITIVE_INFINITY;
+	}
+
+	@Override
+	public boolean hasEdge(int start, int end) {
+		if ((start < 0) || (end < 0) || (start >= this.n) || (end >= this.n)) {
+			return false;
+		}
+
+		return (this.outgoingIndex.get(start, end) >= 0);
+	}
+
+	@Override
+	public void removeEdge(int start, int end) {
+		if ((start < 0) || (end < 0) || (start >= this.n) || (end >= this.n)) {
+			throw new IllegalArgumentException("cannot remove edge with an invalid vertex id");
+		}
+
+		final int pos = this.outgoingIndex.remove(start, end);
+		if (pos < 0) {
+			return;
+		}
+
+		/* the last arc of each adjacency array is moved into the gap; update its position in the index */
+		final int movedEnd = this.outgoing.get(start).removeAt(pos);
+		if (movedEnd >= 0) {
+			this.outgoingIndex.put(start, movedEnd, pos);
+		}
+
+		final int inPos = this.incomingIndex.remove(start, end);
+		final int movedStart = this.incoming.get(end).removeAt(inPos);
+		if (movedStart >= 0) {
+			this.incomingIndex.put(movedStart, end, inPos);
+		}
+	}
+
+	@Override
+	public void removeVertex() {
+		if (this.n <= 0) {
+			throw new IllegalStateException("cannot remove vertex from empty graph");
+		}
+
+		final int v = this.n - 1;
+
+		/* remove all arcs incident to this vertex, starting at the end of the arrays to avoid moving entries */
+		final AdjacencyArray out = this.outgoing.get(v);
+		while (out.size > 0) {
+			this.removeEdge(v, out.vertices[out.size - 1]);
+		}
+
+		final AdjacencyArray in = this.incoming.get(v);
+		while (in.size > 0) {
+			this.removeEdge(in.vertices[in.size - 1], v);
+		}
+
+		/* remove the adjacency arrays */
+		this.outgoing.remove(v);
+		this.incoming.remove(v);
+		this.n--;
+	}
+
+	@Override
+	public boolean isWeighted() {
+		return this.weighted;
+	}
+
+	@Override
+	public int getMaxIntegerWeight() {
+		return this.maxIntegerWeight;
+	}
+
+	@Override
+	public boolean isDirected() {
+		return true;
+	}
+
+}
@@ -1,12 +1,25 @@
 package de.uos.inf.ko.ga.graph.impl;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
+import de.uos.inf.ko.ga.graph.EdgeConsumer;
 import de.uos.inf.ko.ga.graph.Graph;
 
 /**
  * Implementation of a directed graph with a matrix representation of the edges.
+ * The matrix is stored in a single primitive array in row-major order, i.e. the weight
+ * of the arc (u, v) is found at position u * capacity + v, and the successors of a vertex
+ * are determined by a sequential scan of one row. Arcs that are not present are marked by
+ * the weight Double.POSITIVE_INFINITY, which is the weight getEdgeWeight returns for
+ * missing arcs anyway; adding an arc with infinite weight is equivalent to removing it.
+ *
+ * Similar to an ArrayList, the matrix has room for more vertices than currently exist. If
+ * vertices are added beyond this capacity, the capacity grows by at least a quarter, such that
+ * adding n vertices one by one copies O(n^2) entries in total. The factor is smaller than the one
+ * of an ArrayList because the memory grows with the square of the capacity. Removing the last
+ * vertex only clears its row and column.
  * @author Tobias Oelschlägel
  *
  */
@@ -16,13 +29,21 @@ public class DirectedGraphMatrix implements Graph {
 	private static final double DEFAULT_EDGE_WEIGHT = 1.0;
 	/* threshold for testing equality of floating point numbers */
 	private static final double EPSILON = 0.0001;
+	/* weight marking that an edge is not present */
+	private static final double NO_EDGE = Double.POSITIVE_INFINITY;
+	/* maximum number of vertices such that capacity * capacity entries fit into an array */
+	private static final int MAX_CAPACITY = 46340;
 
 	/* number of vertices */
 	private int n = 0;
 	/* whether the graph is weighted */
 	private boolean weighted = false;
-	/* weights of the edges, null if an edge is not present */
-	private Double[][] weights = new Double[0][0];
+	/* largest weight added so far, -1 once a weight has been added that is not a non-negative int */
+	private int maxIntegerWeight = 0;
+	/* number of vertices the matrix has room for; length of a row */
+	private int capacity = 0;
+	/* weights of the edges in row-major order, NO_EDGE if an edge is not present or outside of the n x n matrix */
+	private double[] weights = new double[0];
  
 	@Override
 	public void addEdge(int start, int end) {
@@ -40,12 +61,17 @@ public class DirectedGraphMatrix implements Graph {
 			return;
 		}
 
-		this.weights[start][end] = weight;
+		this.weights[start * this.capacity + end] = weight;
 
 		/* if an edge with non-default edge weight is added, then the graph becomes weighted */
 		if (Math.abs(weight - DEFAULT_EDGE_WEIGHT) > EPSILON) {
 			this.weighted = true;
 		}
+		if ((this.maxIntegerWeight >= 0) && (weight >= 0.0) && (weight <= Integer.MAX_VALUE) && (weight == Math.rint(weight))) {
+			this.maxIntegerWeight = Math.max(this.maxIntegerWeight, (int) weight);
+		} else {
+			this.maxIntegerWeight = -1;
+		}
 	}
 
 	@Override
@@ -61,16 +87,47 @@ public class DirectedGraphMatrix implements Graph {
 			return;
 		}
 
-		/* copy existing weights into new array of greater size */
-		Double[][] newWeights = new Double[this.n + n][this.n + n];
-		for (int i = 0; i < this.n; ++i) {
-			for (int j = 0; j < this.n; ++j) {
-				newWeights[i][j] = this.weights[i][j];
-			}
+		if (n > MAX_CAPACITY - this.n) {
+			throw new IllegalArgumentException("cannot add more than " + MAX_CAPACITY + " vertices");
 		}
-		
-		/* replace the old adjacency matrix */
+
+		/* grow geometrically; the new rows and columns are already marked as empty */
+		if (this.n + n > this.capacity) {
+			this.setCapacity(Math.min(MAX_CAPACITY, Math.max(this.capacity + (this.capacity >> 2), this.n + n)));
+		}
+
 		this.n += n;
+	}
+
+	/**
+	 * @return number of vertices the matrix has room for
+	 */
+	public int getCapacity() {
+		return this.capacity;
+	}
+
+	/**
+	 * Reduces the capacity of the matrix to the current number of vertices.
+	 */
+	public void trimToSize() {
+		if (this.capacity > this.n) {
+			this.setCapacity(this.n);
+		}
+	}
+
+	/**
+	 * Copies the existing weights row by row into a new array with the given row length.
+	 * @param capacity new capacity, at least the number of vertices
+	 */
+	private void setCapacity(int capacity) {
+		final double[] newWeights = new double[capacity * capacity];
+		Arrays.fill(newWeights, NO_EDGE);
+
+		for (int i = 0; i < this.n; ++i) {
+			System.arraycopy(this.weights, i * this.capacity, newWeights, i * capacity, this.n);
+		}
+
+		this.capacity = capacity;
 		this.weights = newWeights;
 	}
 
@@ -82,7 +139,7 @@ public class DirectedGraphMatrix implements Graph {
 
 		final List<Integer> neighbors = new ArrayList<>();
 		for (int i = 0; i < this.n; ++i) {
-			if (this.hasEdge(i, v) || this.hasEdge(v, i)) {
+			if ((this.weights[i * this.capacity + v] != NO_EDGE) || (this.weights[v * this.capacity + i] != NO_EDGE)) {
 				neighbors.add(i);
 			}
 		}
@@ -97,8 +154,8 @@ public class DirectedGraphMatrix implements Graph {
 		}
 
 		final List<Integer> neighbors = new ArrayList<>();
-		for (int i = 0; i < this.n; ++i) {
-			if (this.hasEdge(i, v)) {
+		for (int i = 0, idx = v; i < this.n; ++i, idx += this.capacity) {
+			if (this.weights[idx] != NO_EDGE) {
 				neighbors.add(i);
 			}
 		}
@@ -113,8 +170,9 @@ public class DirectedGraphMatrix implements Graph {
 		}
 		
 		final List<Integer> neighbors = new ArrayList<>();
+		final int offset = v * this.capacity;
 		for (int i = 0; i < this.n; ++i) {
-			if (this.hasEdge(v, i)) {
+			if (this.weights[offset + i] != NO_EDGE) {
 				neighbors.add(i);
 			}
 		}
@@ -122,6 +180,40 @@ public class DirectedGraphMatrix implements Graph {
 		return neighbors;
 	}
 
+	@Override
+	public void forEachNeighbor(int v, EdgeConsumer consumer) {
+		this.forEachSuccessor(v, consumer);
+		this.forEachPredecessor(v, consumer);
+	}
+
+	@Override
+	public void forEachPredecessor(int v, EdgeConsumer consumer) {
+		if ((v < 0) || (v >= this.n)) {
+			throw new IllegalArgumentException("cannot visit predecessors of invalid vertex");
+		}
+
+		for (int i = 0, idx = v; i < this.n; ++i, idx += this.capacity) {
+			if (this.weights[idx] != NO_EDGE) {
+				consumer.accept(i, this.weights[idx]);
+			}
+		}
+	}
+
+	@Override
+	public void forEachSuccessor(int v, EdgeConsumer consumer) {
+		if ((v < 0) || (v >= this.n)) {
+			throw new IllegalArgumentException("cannot visit successors of invalid vertex");
+		}
+
+		final int offset = v * this.capacity;
+		for (int i = 0; i < this.n; ++i) {
+			final double weight = this.weights[offset + i];
+			if (weight != NO_EDGE) {
+				consumer.accept(i, weight);
+			}
+		}
+	}
+
 	@Override
 	public int getVertexCount() {
 		return this.n;
@@ -133,7 +225,7 @@ public class DirectedGraphMatrix implements Graph {
 			return Double.POSITIVE_INFINITY;
 		}
 		
-		return (this.weights[start][end] != null) ? this.weights[start][end] : Double.POSITIVE_INFINITY;
+		return this.weights[start * this.capacity + end];
 	}
 
 	@Override
@@ -142,7 +234,7 @@ public class DirectedGraphMatrix implements Graph {
 			return false;
 		}
 		
-		return (this.weights[start][end] != null);
+		return (this.weights[start * this.capacity + end] != NO_EDGE);
 	}
 
 	@Override
@@ -151,7 +243,7 @@ public class DirectedGraphMatrix implements Graph {
 			throw new IllegalArgumentException("cannot remove edge with invalid vertex id");
 		}
 		
-		this.weights[start][end] = null;
+		this.weights[start * this.capacity + end] = NO_EDGE;
 	}
 
 	@Override
@@ -161,14 +253,13 @@ public class DirectedGraphMatrix implements Graph {
 		}
 		
 		this.n--;
-		Double[][] newWeights = new Double[this.n][this.n];
-		for (int i = 0; i < this.n; ++i) {
-			for (int j = 0; j < this.n; ++j) {
-				newWeights[i][j] = this.weights[i][j];
-			}
-		}
 
-		this.weights = newWeights;
+		/* clear the row and column of the removed vertex such that a vertex added later has no edges */
+		final int offset = this.n * this.capacity;
+		Arrays.fill(this.weights, offset, offset + this.n, NO_EDGE);
+		for (int idx = this.n; idx < offset; idx += this.capacity) {
+			this.weights[idx] = NO_EDGE;
+		}
 	}
 
 	@Override
@@ -176,6 +267,11 @@ public class DirectedGraphMatrix implements Graph {
 		return this.weighted;
 	}
 
+	@Override
+	public int getMaxIntegerWeight() {
+		return this.maxIntegerWeight;
+	}
+
 	@Override
 	public boolean isDirected() {
 		return true;
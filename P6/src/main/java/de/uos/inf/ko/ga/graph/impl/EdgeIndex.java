@@ -0,0 +1,145 @@
+package de.uos.inf.ko.ga.graph.impl;
+
+import java.util.Arrays;
+
+/**
+ * Hash map from arcs (u, v) to non-negative int values, e.g. the position of the arc inside an adjacency array.
+ * Both vertex ids are packed into a single long key, and the keys are stored in a primitive array using
+ * open addressing with linear probing. Removed entries are deleted by shifting the subsequent entries of the
+ * probe sequence backwards, so no tombstones accumulate and lookups, insertions and removals take expected
+ * constant time.
+ */
+class EdgeIndex {
+
+	/* marker of an empty slot; valid keys are non-negative as vertex ids are non-negative */
+	private static final long EMPTY = -1L;
+	/* multiplier for Fibonacci hashing */
+	private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+	/* keys of the entries, EMPTY if a slot is not used */
+	private long[] keys;
+	/* values of the entries */
+	private int[] values;
+	/* number of entries */
+	private int size = 0;
+	/* number of bits of the slot index, i.e. there are 2^bits slots */
+	private int bits;
+
+	EdgeIndex() {
+		this.allocate(4);
+	}
+
+	private void allocate(int bits) {
+		this.bits = bits;
+		this.keys = new long[1 << bits];
+		this.values = new int[1 << bits];
+		Arrays.fill(this.keys, EMPTY);
+	}
+
+	private static long key(int u, int v) {
+		return ((long) u << 32) | v;
+	}
+
+	private int slot(long key) {
+		return (int) ((key * GOLDEN_RATIO) >>> (64 - this.bits));
+	}
+
+	/**
+	 * Determines the slot containing the given key or the empty slot at which the key would be inserted.
+	 * @param key key to be searched
+	 * @return slot index
+	 */
+	private int find(long key) {
+		final int mask = this.keys.length - 1;
+		int i = this.slot(key);
+		while ((this.keys[i] != EMPTY) && (this.keys[i] != key)) {
+			i = (i + 1) & mask;
+		}
+		return i;
+	}
+
+	/**
+	 * Returns the value associated with the arc (u, v).
+	 * @param u start vertex
+	 * @param v end vertex
+	 * @return value of the arc, -1 if the arc is not contained
+	 */
+	int get(int u, int v) {
+		final int i = this.find(key(u, v));
+		return (this.keys[i] != EMPTY) ? this.values[i] : -1;
+	}
+
+	/**
+	 * Associates a value with the arc (u, v), replacing a previous value.
+	 * @param u     start vertex
+	 * @param v     end vertex
+	 * @param value non-negative value
+	 */
+	void put(int u, int v, int value) {
+		final long key = key(u, v);
+		final int i = this.find(key);
+
+		if (this.keys[i] == EMPTY) {
+			this.keys[i] = key;
+			this.size++;
+		}
+		this.values[i] = value;
+
+		/* keep the load factor below 1/2 */
+		if (2 * this.size > this.keys.length) {
+			this.rehash();
+		}
+	}
+
+	/**
+	 * Removes the arc (u, v).
+	 * @param u start vertex
+	 * @param v end vertex
+	 * @return value that was associated with the arc, -1 if the arc was not contained
+	 */
+	int remove(int u, int v) {
+		int i = this.find(key(u, v));
+		if (this.keys[i] == EMPTY) {
+			return -1;
+		}
+
+		final int value = this.values[i];
+		final int mask = this.keys.length - 1;
+
+		/* move subsequent entries of the probe sequence into the gap unless their ideal slot lies behind the gap */
+		int j = i;
+		while (true) {
+			j = (j + 1) & mask;
+			if (this.keys[j] == EMPTY) {
+				break;
+			}
+
+			final int k = this.slot(this.keys[j]);
+			final boolean reachable = (i <= j) ? ((i < k) && (k <= j)) : ((i < k) || (k <= j));
+			if (!reachable) {
+				this.keys[i] = this.keys[j];
+				this.values[i] = this.values[j];
+				i = j;
+			}
+		}
+
+		this.keys[i] = EMPTY;
+		this.size--;
+
+		return value;
+	}
+
+	private void rehash() {
+		final long[] oldKeys = this.keys;
+		final int[] oldValues = this.values;
+
+		this.allocate(this.bits + 1);
+		for (int i = 0; i < oldKeys.length; ++i) {
+			if (oldKeys[i] != EMPTY) {
+				final int j = this.find(oldKeys[i]);
+				this.keys[j] = oldKeys[i];
+				this.values[j] = oldValues[i];
+			}
+		}
+	}
+}
@@ -0,0 +1,198 @@
+package de.uos.inf.ko.ga.graph.impl;
+
+import java.util.List;
+
+import de.uos.inf.ko.ga.graph.EdgeConsumer;
+import de.uos.inf.ko.ga.graph.Graph;
+
+/**
+ * Implementation of an unweighted undirected graph with a matrix representation of the edges,
+ * in which each row is a bitset stored in an array of longs. The matrix is kept symmetric, so the
+ * neighbors of a vertex are the bits of its row, enumerated with Long.numberOfTrailingZeros.
+ * Additionally, rows can be combined with bitsets word by word, e.g. for expanding a BFS frontier,
+ * and the transitive closure is computed with word-parallel OR operations.
+ *
+ * Every edge has weight 1.0; adding an edge with any other weight is rejected.
+ */
+public class UndirectedGraphBitset implements Graph {
+
+	/* the only edge weight that can be represented */
+	private static final double DEFAULT_EDGE_WEIGHT = 1.0;
+	/* threshold for testing equality of floating point numbers */
+	private static final double EPSILON = 0.0001;
+
+	/* number of vertices */
+	private int n = 0;
+	/* symmetric adjacency matrix */
+	private final BitMatrix matrix = new BitMatrix();
+
+	@Override
+	public void addEdge(int start, int end) {
+		this.addEdge(start, end, DEFAULT_EDGE_WEIGHT);
+	}
+
+	@Override
+	public void addEdge(int start, int end, double weight) {
+		if ((start < 0) || (start >= this.n) || (end < 0) || (end >= this.n)) {
+			throw new IllegalArgumentException("cannot add edge with invalid vertex ids");
+		}
+
+		if (Math.abs(weight - DEFAULT_EDGE_WEIGHT) > EPSILON) {
+			throw new IllegalArgumentException("cannot add weighted edge to an unweighted graph");
+		}
+
+		if (start == end) {
+			// throw new IllegalArgumentException("cannot add self-loop");
+			return;
+		}
+
+		this.matrix.set(start, end);
+		this.matrix.set(end, start);
+	}
+
+	@Override
+	public void addVertex() {
+		this.addVertices(1);
+	}
+
+	@Override
+	public void addVertices(int n) {
+		if (n < 0) {
+			throw new IllegalArgumentException("cannot add a negative number of vertices");
+		}
+
+		this.matrix.ensureCapacity(this.n + n);
+		this.n += n;
+	}
+
+	@Override
+	public List<Integer> getNeighbors(int v) {
+		if ((v < 0) || (v >= this.n)) {
+			throw new IllegalArgumentException("cannot determine neighbors of invalid vertex");
+		}
+
+		return this.matrix.toList(v);
+	}
+
+	@Override
+	public List<Integer> getPredecessors(int v) {
+		return this.getNeighbors(v);
+	}
+
+	@Override
+	public List<Integer> getSuccessors(int v) {
+		return this.getNeighbors(v);
+	}
+
+	@Override
+	public void forEachNeighbor(int v, EdgeConsumer consumer) {
+		if ((v < 0) || (v >= this.n)) {
+			throw new IllegalArgumentException("cannot visit neighbors of invalid vertex");
+		}
+
+		this.matrix.forEach(v, consumer);
+	}
+
+	@Override
+	public void forEachPredecessor(int v, EdgeConsumer consumer) {
+		this.forEachNeighbor(v, consumer);
+	}
+
+	@Override
+	public void forEachSuccessor(int v, EdgeConsumer consumer) {
+		this.forEachNeighbor(v, consumer);
+	}
+
+	/**
+	 * Adds the neighbors of v to a bitset, i.e. computes bits |= neighbors(v) word by word.
+	 * @param v    vertex id
+	 * @param bits bitset over the vertices of the graph
+	 */
+	public void orNeighbors(int v, long[] bits) {
+		if ((v < 0) || (v >= this.n)) {
+			throw new IllegalArgumentException("cannot combine neighbors of invalid vertex");
+		}
+
+		this.matrix.or(v, bits);
+	}
+
+	/**
+	 * Restricts a bitset to the neighbors of v, i.e. computes bits &= neighbors(v) word by word.
+	 * @param v    vertex id
+	 * @param bits bitset over the vertices of the graph
+	 */
+	public void andNeighbors(int v, long[] bits) {
+		if ((v < 0) || (v >= this.n)) {
+			throw new IllegalArgumentException("cannot combine neighbors of invalid vertex");
+		}
+
+		this.matrix.and(v, bits);
+	}
+
+	/**
+	 * Computes the transitive closure of the graph, in which each connected component becomes a clique.
+	 * @return new graph containing the transitive closure
+	 */
+	public UndirectedGraphBitset transitiveClosure() {
+		final UndirectedGraphBitset closure = new UndirectedGraphBitset();
+		closure.addVertices(this.n);
+		this.matrix.closure(this.n, closure.matrix);
+		return closure;
+	}
+
+	@Override
+	public int getVertexCount() {
+		return this.n;
+	}
+
+	@Override
+	public double getEdgeWeight(int start, int end) {
+		return this.hasEdge(start, end) ? DEFAULT_EDGE_WEIGHT : Double.POSITIVE_INFINITY;
+	}
+
+	@Override
+	public boolean hasEdge(int start, int end) {
+		if ((start < 0) || (start >= this.n) || (end < 0) || (end >= this.n)) {
+			return false;
+		}
+
+		return this.matrix.get(start, end);
+	}
+
+	@Override
+	public void removeEdge(int start, int end) {
+		if ((start < 0) || (start >= this.n) || (end < 0) || (end >= this.n)) {
+			throw new IllegalArgumentException("cannot remove edge with invalid vertex ids");
+		}
+
+		this.matrix.clear(start, end);
+		this.matrix.clear(end, start);
+	}
+
+	@Override
+	public void removeVertex() {
+		if (this.n <= 0) {
+			throw new IllegalStateException("cannot remove vertex from empty graph");
+		}
+
+		this.n--;
+		this.matrix.clearRowAndColumn(this.n, this.n);
+	}
+
+	@Override
+	public boolean isWeighted() {
+		return false;
+	}
+
+	@Override
+	public int getMaxIntegerWeight() {
+		/* all edges have the weight 1 */
+		return 1;
+	}
+
+	@Override
+	public boolean isDirected() {
+		return false;
+	}
+
+}
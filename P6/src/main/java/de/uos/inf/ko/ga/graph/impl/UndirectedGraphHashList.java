@@ -0,0 +1,223 @@
+package de.uos.inf.ko.ga.graph.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import de.uos.inf.ko.ga.graph.EdgeConsumer;
+import de.uos.inf.ko.ga.graph.Graph;
+
+/**
+ * Implementation of an undirected graph with a list representation of the edges that is indexed by a hash map.
+ * Each vertex has a primitive array of its neighbors, and each edge {u, v} is stored as entry v in the array of
+ * u and as entry u in the array of v. A hash map stores the position of v in the array of u for each such pair
+ * (u, v). Hence, hasEdge, getEdgeWeight and removeEdge take expected constant time independently of the
+ * degrees of the vertices, while iterating over the neighbors of a vertex is still linear in its degree.
+ *
+ * In contrast to UndirectedGraphList, adding an edge that already exists replaces its weight.
+ */
+public class UndirectedGraphHashList implements Graph {
+
+	/* edge weight that is used if no edge weight is given */
+	private static final double DEFAULT_EDGE_WEIGHT = 1.0;
+	/* threshold for testing equality of floating point numbers */
+	private static final double EPSILON = 0.0001;
+
+	/* number of vertices */
+	private int n = 0;
+	/* whether the graph is weighted */
+	private boolean weighted = false;
+	/* largest weight added so far, -1 once a weight has been added that is not a non-negative int */
+	private int maxIntegerWeight = 0;
+	/* neighbors of each vertex */
+	private final List<AdjacencyArray> edges = new ArrayList<>();
+	/* position of v in edges[u] for each edge {u, v} */
+	private final EdgeIndex index = new EdgeIndex();
+
+	@Override
+	public void addEdge(int start, int end) {
+		this.addEdge(start, end, DEFAULT_EDGE_WEIGHT);
+	}
+
+	@Override
+	public void addEdge(int start, int end, double weight) {
+		if ((start < 0) || (end < 0) || (start >= this.n) || (end >= this.n)) {
+			throw new IllegalArgumentException("cannot add edge with an invalid vertex id");
+		}
+
+		if (start == end) {
+			// throw new IllegalArgumentException("cannot add self-loop");
+			return;
+		}
+
+		if (Math.abs(weight - DEFAULT_EDGE_WEIGHT) > EPSILON) {
+			this.weighted = true;
+		}
+		if ((this.maxIntegerWeight >= 0) && (weight >= 0.0) && (weight <= Integer.MAX_VALUE) && (weight == Math.rint(weight))) {
+			this.maxIntegerWeight = Math.max(this.maxIntegerWeight, (int) weight);
+		} else {
+			this.maxIntegerWeight = -1;
+		}
+
+		final int pos = this.index.get(start, end);
+		if (pos >= 0) {
+			/* the edge exists already; only update its weight */
+			this.edges.get(start).weights[pos] = weight;
+			this.edges.get(end).weights[this.index.get(end, start)] = weight;
+			return;
+		}
+
+		this.index.put(start, end, this.edges.get(start).add(end, weight));
+		this.index.put(end, start, this.edges.get(end).add(start, weight));
+	}
+
+	@Override
+	public void addVertex() {
+		this.addVertices(1);
+	}
+
+	@Override
+	public void addVertices(int n) {
+		if (n < 0) {
+			throw new IllegalArgumentException("cannot add a negative number of vertices");
+		}
+
+		for (int i = 0; i < n; ++i) {
+			this.edges.add(new AdjacencyArray());
+		}
+
+		this.n += n;
+	}
+
+	@Override
+	public List<Integer> getNeighbors(int v) {
+		if ((v < 0) || (v >= this.n)) {
+			throw new IllegalArgumentException("cannot get list of neighbors for invalid vertex id");
+		}
+
+		final AdjacencyArray adjacency = this.edges.get(v);
+		final List<Integer> list = new ArrayList<>(adjacency.size);
+		for (int i = 0; i < adjacency.size; ++i) {
+			list.add(adjacency.vertices[i]);
+		}
+		return list;
+	}
+
+	@Override
+	public List<Integer> getPredecessors(int v) {
+		return this.getNeighbors(v);
+	}
+
+	@Override
+	public List<Integer> getSuccessors(int v) {
+		return this.getNeighbors(v);
+	}
+
+	@Override
+	public void forEachNeighbor(int v, EdgeConsumer consumer) {
+		if ((v < 0) || (v >= this.n)) {
+			throw new IllegalArgumentException("cannot visit neighbors of invalid vertex id");
+		}
+
+		final AdjacencyArray adjacency = this.edges.get(v);
+		for (int i = 0; i < adjacency.size; ++i) {
+			consumer.accept(adjacency.vertices[i], adjacency.weights[i]);
+		}
+	}
+
+	@Override
+	public void forEachPredecessor(int v, EdgeConsumer consumer) {
+		this.forEachNeighbor(v, consumer);
+	}
+
+	@Override
+	public void forEachSuccessor(int v, EdgeConsumer consumer) {
+		this.forEachNeighbor(v, consumer);
+	}
+
+	@Override
+	public int getVertexCount() {
+		return this.n;
+	}
+
+	@Override
+	public double getEdgeWeight(int start, int end) {
+		if ((start < 0) || (end < 0) || (start >= this.n) || (end >= this.n) || (start == end)) {
+			return Double.POSITIVE_INFINITY;
+		}
+
+		final int pos = this.index.get(start, end);
+		return (pos >= 0) ? this.edges.get(start).weights[pos] : Double.POSITIVE_INFINITY;
+	}
+
+	@Override
+	public boolean hasEdge(int start, int end) {
+		if ((start < 0) || (end < 0) || (start >= this.n) || (end >= this.n) || (start == end)) {
+			return false;
+		}
+
+		return (this.index.get(start, end) >= 0);
+	}
+
+	@Override
+	public void removeEdge(int start, int end) {
+		if ((start < 0) || (end < 0) || (start >= this.n) || (end >= this.n)) {
+			throw new IllegalArgumentException("cannot remove edge with an invalid vertex id");
+		}
+
+		if (start == end) {
+			throw new IllegalArgumentException("cannot remove self-loop");
+		}
+
+		this.removeEntry(start, end);
+		this.removeEntry(end, start);
+	}
+
+	/**
+	 * Removes the entry v from the neighbors of u and updates the position of the entry moved into the gap.
+	 * @param u vertex whose neighbors are modified
+	 * @param v neighbor to be removed
+	 */
+	private void removeEntry(int u, int v) {
+		final int pos = this.index.remove(u, v);
+		if (pos < 0) {
+			return;
+		}
+
+		final int moved = this.edges.get(u).removeAt(pos);
+		if (moved >= 0) {
+			this.index.put(u, moved, pos);
+		}
+	}
+
+	@Override
+	public void removeVertex() {
+		if (this.n <= 0) {
+			throw new IllegalStateException("cannot remove vertex from empty graph");
+		}
+
+		final int v = this.n - 1;
+		final AdjacencyArray adjacency = this.edges.get(v);
+		while (adjacency.size > 0) {
+			this.removeEdge(v, adjacency.vertices[adjacency.size - 1]);
+		}
+
+		this.n--;
+		this.edges.remove(this.n);
+	}
+
+	@Override
+	public boolean isWeighted() {
+		return this.weighted;
+	}
+
+	@Override
+	public int getMaxIntegerWeight() {
+		return this.maxIntegerWeight;
+	}
+
+	@Override
+	public boolean isDirected() {
+		return false;
+	}
+
+}
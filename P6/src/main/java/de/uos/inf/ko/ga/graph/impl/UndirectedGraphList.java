@@ -3,6 +3,7 @@ package de.uos.inf.ko.ga.graph.impl;
 import java.util.ArrayList;
 import java.util.List;
 
+import de.uos.inf.ko.ga.graph.EdgeConsumer;
 import de.uos.inf.ko.ga.graph.Graph;
 
 /**
@@ -21,6 +22,8 @@ public class UndirectedGraphList implements Graph {
 	private int n = 0;
 	/* whether the graph is weighted */
 	private boolean weighted = false;
+	/* largest weight added so far, -1 once a weight has been added that is not a non-negative int */
+	private int maxIntegerWeight = 0;
 	/* weights of the edges, null if an edge is not present */
 	private List<List<Edge>> edges = new ArrayList<>();
 
@@ -43,6 +46,11 @@ public class UndirectedGraphList implements Graph {
 		if (Math.abs(weight - DEFAULT_EDGE_WEIGHT) > EPSILON) {
 			this.weighted = true;
 		}
+		if ((this.maxIntegerWeight >= 0) && (weight >= 0.0) && (weight <= Integer.MAX_VALUE) && (weight == Math.rint(weight))) {
+			this.maxIntegerWeight = Math.max(this.maxIntegerWeight, (int) weight);
+		} else {
+			this.maxIntegerWeight = -1;
+		}
 
 		this.edges.get(start).add(new Edge(end, weight));
 		this.edges.get(end).add(new Edge(start, weight));
@@ -80,6 +88,23 @@ public class UndirectedGraphList implements Graph {
 		return this.getNeighbors(v);
 	}
 
+	@Override
+	public void forEachNeighbor(int v, EdgeConsumer consumer) {
+		for (final Edge edge : this.edges.get(v)) {
+			consumer.accept(edge.v, edge.weight);
+		}
+	}
+
+	@Override
+	public void forEachPredecessor(int v, EdgeConsumer consumer) {
+		this.forEachNeighbor(v, consumer);
+	}
+
+	@Override
+	public void forEachSuccessor(int v, EdgeConsumer consumer) {
+		this.forEachNeighbor(v, consumer);
+	}
+
 	@Override
 	public int getVertexCount() {
 		return this.n;
@@ -151,6 +176,11 @@ public class UndirectedGraphList implements Graph {
 		return this.weighted;
 	}
 
+	@Override
+	public int getMaxIntegerWeight() {
+		return this.maxIntegerWeight;
+	}
+
 	@Override
 	public boolean isDirected() {
 		return false;
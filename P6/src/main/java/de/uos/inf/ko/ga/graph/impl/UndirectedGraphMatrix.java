@@ -1,8 +1,10 @@
 package de.uos.inf.ko.ga.graph.impl;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
+import de.uos.inf.ko.ga.graph.EdgeConsumer;
 import de.uos.inf.ko.ga.graph.Graph;
 
 /**
@@ -18,6 +20,14 @@ import de.uos.inf.ko.ga.graph.Graph;
  * the array. If the upper triangular part is used, the addition/removal of a vertex
  * requires a complete rearrangement of the entries. As Java does not allow dynamic
  * resizing, we need to copy the matrix anyway, but rearrangement is not necessary.
+ *
+ * The entries are stored in a primitive array. Edges that are not present are marked by
+ * the weight Double.POSITIVE_INFINITY, which is the weight getEdgeWeight returns for
+ * missing edges anyway; adding an edge with infinite weight is equivalent to removing it.
+ *
+ * Similar to an ArrayList, the array has room for more vertices than currently exist, and
+ * its capacity grows like the one of DirectedGraphMatrix. Removing the last vertex only clears
+ * its entries.
  * @author Tobias Oelschlägel
  *
  */
@@ -27,22 +37,30 @@ public class UndirectedGraphMatrix implements Graph {
 	private static final double DEFAULT_EDGE_WEIGHT = 1.0;
 	/* threshold for testing equality of floating point numbers */
 	private static final double EPSILON = 0.0001;
+	/* weight marking that an edge is not present */
+	private static final double NO_EDGE = Double.POSITIVE_INFINITY;
+	/* maximum number of vertices such that all entries fit into an array */
+	private static final int MAX_CAPACITY = 65535;
 
 	/* number of vertices */
 	private int n = 0;
 	/* whether the graph is weighted */
 	private boolean weighted = false;
-	/* weights of the edges, null if an edge is not present */
-	private Double[] weights = new Double[0];
+	/* largest weight added so far, -1 once a weight has been added that is not a non-negative int */
+	private int maxIntegerWeight = 0;
+	/* number of vertices the array has room for */
+	private int capacity = 0;
+	/* weights of the edges, NO_EDGE if an edge is not present or belongs to a vertex that does not exist */
+	private double[] weights = new double[0];
 
 	private static int pos(int start, int end) {
 		final int u = Math.max(start, end);
 		final int v = Math.min(start, end);
-		return v + u * (u - 1) / 2;
+		return v + (int) ((long) u * (u - 1) / 2);
 	}
 	
 	private static int matrixSize(int n) {
-		return n * (n + 1) / 2;
+		return (int) ((long) n * (n + 1) / 2);
 	}
 
 	@Override
@@ -65,6 +83,11 @@ public class UndirectedGraphMatrix implements Graph {
 		if (Math.abs(weight - DEFAULT_EDGE_WEIGHT) > EPSILON) {
 			this.weighted = true;
 		}
+		if ((this.maxIntegerWeight >= 0) && (weight >= 0.0) && (weight <= Integer.MAX_VALUE) && (weight == Math.rint(weight))) {
+			this.maxIntegerWeight = Math.max(this.maxIntegerWeight, (int) weight);
+		} else {
+			this.maxIntegerWeight = -1;
+		}
 	}
 
 	@Override
@@ -74,19 +97,47 @@ public class UndirectedGraphMatrix implements Graph {
 
 	@Override
 	public void addVertices(int n) {
-		final int oldSize = matrixSize(this.n);
-		final int newSize = matrixSize(this.n + n);
+		if (n < 0) {
+			throw new IllegalArgumentException("cannot add a negative number of vertices");
+		}
 
-		Double[] newWeights = new Double[newSize];
-		for (int i = 0; i < oldSize; ++i) {
-			newWeights[i] = this.weights[i];
+		if (n > MAX_CAPACITY - this.n) {
+			throw new IllegalArgumentException("cannot add more than " + MAX_CAPACITY + " vertices");
 		}
-		
-		for (int i = oldSize; i < newSize; ++i) {
-			newWeights[i] = null;
+
+		/* grow geometrically; the entries of the new vertices are already marked as empty */
+		if (this.n + n > this.capacity) {
+			this.setCapacity(Math.min(MAX_CAPACITY, Math.max(this.capacity + (this.capacity >> 2), this.n + n)));
 		}
 
 		this.n += n;
+	}
+
+	/**
+	 * @return number of vertices the array has room for
+	 */
+	public int getCapacity() {
+		return this.capacity;
+	}
+
+	/**
+	 * Reduces the capacity of the array to the current number of vertices.
+	 */
+	public void trimToSize() {
+		if (this.capacity > this.n) {
+			this.setCapacity(this.n);
+		}
+	}
+
+	/**
+	 * Copies the entries of the existing vertices into a new array.
+	 * @param capacity new capacity, at least the number of vertices
+	 */
+	private void setCapacity(int capacity) {
+		final double[] newWeights = Arrays.copyOf(this.weights, matrixSize(capacity));
+		Arrays.fill(newWeights, Math.min(this.weights.length, newWeights.length), newWeights.length, NO_EDGE);
+
+		this.capacity = capacity;
 		this.weights = newWeights;
 	}
 
@@ -94,11 +145,18 @@ public class UndirectedGraphMatrix implements Graph {
 	public List<Integer> getNeighbors(int v) {
 		final List<Integer> list = new ArrayList<>();
 
-		for (int u = 0; u < this.n; ++u) {
-			if (u != v) {
-				if (this.hasEdge(u, v)) {
-					list.add(u);
-				}
+		/* entries a_{v0}, ..., a_{v(v-1)} are stored consecutively */
+		final int offset = pos(v, 0);
+		for (int u = 0; u < v; ++u) {
+			if (this.weights[offset + u] != NO_EDGE) {
+				list.add(u);
+			}
+		}
+
+		/* entries a_{uv} with u > v are found in the rows below */
+		for (int u = v + 1; u < this.n; ++u) {
+			if (this.weights[pos(u, v)] != NO_EDGE) {
+				list.add(u);
 			}
 		}
 		
@@ -115,6 +173,40 @@ public class UndirectedGraphMatrix implements Graph {
 		return this.getNeighbors(v);
 	}
 
+	@Override
+	public void forEachNeighbor(int v, EdgeConsumer consumer) {
+		if ((v < 0) || (v >= this.n)) {
+			throw new IllegalArgumentException("cannot visit neighbors of invalid vertex");
+		}
+
+		/* entries a_{v0}, ..., a_{v(v-1)} are stored consecutively */
+		final int offset = pos(v, 0);
+		for (int u = 0; u < v; ++u) {
+			final double weight = this.weights[offset + u];
+			if (weight != NO_EDGE) {
+				consumer.accept(u, weight);
+			}
+		}
+
+		/* entries a_{uv} with u > v are found in the rows below */
+		for (int u = v + 1; u < this.n; ++u) {
+			final double weight = this.weights[pos(u, v)];
+			if (weight != NO_EDGE) {
+				consumer.accept(u, weight);
+			}
+		}
+	}
+
+	@Override
+	public void forEachPredecessor(int v, EdgeConsumer consumer) {
+		this.forEachNeighbor(v, consumer);
+	}
+
+	@Override
+	public void forEachSuccessor(int v, EdgeConsumer consumer) {
+		this.forEachNeighbor(v, consumer);
+	}
+
 	@Override
 	public int getVertexCount() {
 		return this.n;
@@ -130,8 +222,7 @@ public class UndirectedGraphMatrix implements Graph {
 			return Double.POSITIVE_INFINITY;
 		}
 		
-		final int idx = pos(start, end);
-		return (this.weights[idx] != null) ? this.weights[idx] : Double.POSITIVE_INFINITY;
+		return this.weights[pos(start, end)];
 	}
 
 	@Override
@@ -144,8 +235,7 @@ public class UndirectedGraphMatrix implements Graph {
 			return false;
 		}
 
-		final int idx = pos(start, end);
-		return (this.weights[idx] != null);
+		return (this.weights[pos(start, end)] != NO_EDGE);
 	}
 
 	@Override
@@ -154,8 +244,7 @@ public class UndirectedGraphMatrix implements Graph {
 			throw new IllegalArgumentException("cannot remove edge with invalid vertex ids");
 		}
 
-		final int idx = pos(start, end);
-		this.weights[idx] = null;
+		this.weights[pos(start, end)] = NO_EDGE;
 	}
 
 	@Override
@@ -164,13 +253,10 @@ public class UndirectedGraphMatrix implements Graph {
 			throw new IllegalStateException("cannot remove vertex from empty graph");
 		}
 
+		/* clear the entries a_{v0}, ..., a_{v(v-1)} such that a vertex added later has no edges */
 		this.n--;
-		Double[] newWeights = new Double[matrixSize(this.n)];
-		for (int i = 0; i < matrixSize(this.n); ++i) {
-			newWeights[i] = this.weights[i];
-		}
-
-		this.weights = newWeights;
+		final int offset = pos(this.n, 0);
+		Arrays.fill(this.weights, offset, offset + this.n, NO_EDGE);
 	}
 
 	@Override
@@ -178,6 +264,11 @@ public class UndirectedGraphMatrix implements Graph {
 		return this.weighted;
 	}
 
+	@Override
+	public int getMaxIntegerWeight() {
+		return this.maxIntegerWeight;
+	}
+
 	@Override
 	public boolean isDirected() {
 		return false;
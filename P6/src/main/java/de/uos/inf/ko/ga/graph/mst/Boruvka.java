@@ -0,0 +1,212 @@
+package de.uos.inf.ko.ga.graph.mst;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import de.uos.inf.ko.ga.graph.Graph;
+import de.uos.inf.ko.ga.graph.impl.UndirectedGraphList;
+import de.uos.inf.ko.ga.graph.util.ConcurrentDisjointSet;
+import de.uos.inf.ko.ga.graph.util.ParallelLoop;
+
+/**
+ * Parallel implementation of Borůvka's algorithm for computing minimum spanning trees.
+ * The algorithm proceeds in rounds. In each round, the cheapest edge leaving each component is
+ * determined, and all of these edges are added to the tree at once. Since the number of components
+ * at least halves in each round, there are at most log n rounds.
+ *
+ * Both phases of a round are executed in parallel with fork-join tasks: the edges are scanned in
+ * blocks, and the cheapest edge of each component is updated with compare-and-set operations; then
+ * the components are merged in a concurrent disjoint-set structure. Edges inside a component are
+ * removed from the edge list after each round.
+ *
+ * Edges are compared by their weights and then by their indices. This total order makes the cheapest
+ * edges unique, so the edges chosen in a round never close a cycle, even if weights are equal.
+ */
+public class Boruvka {
+
+	/* marks components without an outgoing edge */
+	private static final int NONE = -1;
+
+	/**
+	 * Computes a minimum spanning tree of an undirected graph using Borůvka's algorithm,
+	 * executed by the common fork-join pool.
+	 * If the graph is not connected, a minimum spanning forest is computed.
+	 * @param graph Input graph
+	 * @return Minimum spanning tree of the input graph
+	 */
+	public static Graph minimumSpanningTree(Graph graph) {
+		return minimumSpanningTree(graph, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Computes a minimum spanning tree of an undirected graph using Borůvka's algorithm,
+	 * executed by a given number of threads.
+	 * If the graph is not connected, a minimum spanning forest is computed.
+	 * @param graph   Input graph
+	 * @param threads Number of threads
+	 * @return Minimum spanning tree of the input graph
+	 */
+	public static Graph minimumSpanningTree(Graph graph, int threads) {
+		if (threads < 1) {
+			throw new IllegalArgumentException("number of threads must be positive");
+		}
+
+		final ForkJoinPool pool = new ForkJoinPool(threads);
+		try {
+			return minimumSpanningTree(graph, pool);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Computes a minimum spanning tree of an undirected graph using Borůvka's algorithm,
+	 * executed by the workers of a fork-join pool.
+	 * If the graph is not connected, a minimum spanning forest is computed.
+	 * @param graph Input graph
+	 * @param pool  Pool executing the parallel phases
+	 * @return Minimum spanning tree of the input graph
+	 */
+	public static Graph minimumSpanningTree(Graph graph, ForkJoinPool pool) {
+		assert(graph != null);
+		assert(!graph.isDirected());
+
+		final EdgeList edges = EdgeList.of(graph);
+		final int n = edges.n;
+
+		final ConcurrentDisjointSet components = new ConcurrentDisjointSet(n);
+
+		/* for each component root: index of the cheapest edge leaving the component */
+		final AtomicIntegerArray cheapest = new AtomicIntegerArray(n);
+		for (int v = 0; v < n; ++v) {
+			cheapest.set(v, NONE);
+		}
+
+		/* for each edge: true iff the edge belongs to the minimum spanning tree */
+		final boolean[] selected = new boolean[edges.size()];
+
+		/* indices of the edges that may still connect different components */
+		int[] active = new int[edges.size()];
+		for (int e = 0; e < active.length; ++e) {
+			active[e] = e;
+		}
+		int m = active.length;
+
+		while (m > 0) {
+			final int[] current = active;
+
+			/* find the cheapest edge leaving each component */
+			ParallelLoop.forRange(pool, 0, m, (start, end) -> {
+				for (int i = start; i < end; ++i) {
+					final int e = current[i];
+					final int cu = components.find(edges.from[e]);
+					final int cv = components.find(edges.to[e]);
+					if (cu != cv) {
+						updateCheapest(edges, cheapest, cu, e);
+						updateCheapest(edges, cheapest, cv, e);
+					}
+				}
+			});
+
+			/* add the cheapest edges to the tree and merge the components; an edge may be the cheapest
+			 * one of both of its components, but only the first union succeeds */
+			ParallelLoop.forRange(pool, 0, n, (start, end) -> {
+				for (int v = start; v < end; ++v) {
+					final int e = cheapest.get(v);
+					if (e != NONE) {
+						cheapest.set(v, NONE);
+						if (components.union(edges.from[e], edges.to[e])) {
+							selected[e] = true;
+						}
+					}
+				}
+			});
+
+			/* remove the edges that do not leave a component any more */
+			active = compact(pool, edges, components, current, m);
+			m = active.length;
+		}
+
+		/* create graph to which the edges of the minimum spanning tree will be added */
+		final Graph mst = new UndirectedGraphList();
+		mst.addVertices(n);
+
+		for (int e = 0; e < selected.length; ++e) {
+			if (selected[e]) {
+				mst.addEdge(edges.from[e], edges.to[e], edges.weights[e]);
+			}
+		}
+
+		return mst;
+	}
+
+	/**
+	 * Replaces the cheapest known edge of a component by edge e if e is cheaper.
+	 */
+	private static void updateCheapest(EdgeList edges, AtomicIntegerArray cheapest, int component, int e) {
+		while (true) {
+			final int current = cheapest.get(component);
+			if ((current != NONE) && !isCheaper(edges, e, current)) {
+				return;
+			}
+
+			if (cheapest.compareAndSet(component, current, e)) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Compares two edges by their weights, and by their indices if the weights are equal.
+	 */
+	private static boolean isCheaper(EdgeList edges, int e, int f) {
+		final double we = edges.weights[e];
+		final double wf = edges.weights[f];
+		return (we < wf) || ((we == wf) && (e < f));
+	}
+
+	/**
+	 * Determines the edges among active[0], ..., active[m - 1] that connect different components, keeping their order.
+	 * Each block of edges is filtered in parallel; the blocks are then concatenated at offsets given by the prefix sums
+	 * of their sizes.
+	 */
+	private static int[] compact(ForkJoinPool pool, EdgeList edges, ConcurrentDisjointSet components, int[] active, int m) {
+		final int grain = ParallelLoop.grain(pool, m);
+		final int blocks = (m + grain - 1) / grain;
+
+		/* mark the edges that are kept and count them per block */
+		final boolean[] keep = new boolean[m];
+		final int[] offsets = new int[blocks + 1];
+		ParallelLoop.forRange(pool, 0, blocks, 1, (first, last) -> {
+			for (int b = first; b < last; ++b) {
+				int count = 0;
+				for (int i = b * grain; i < Math.min(m, (b + 1) * grain); ++i) {
+					final int e = active[i];
+					keep[i] = components.find(edges.from[e]) != components.find(edges.to[e]);
+					if (keep[i]) {
+						count++;
+					}
+				}
+				offsets[b + 1] = count;
+			}
+		});
+
+		for (int b = 0; b < blocks; ++b) {
+			offsets[b + 1] += offsets[b];
+		}
+
+		final int[] result = new int[offsets[blocks]];
+		ParallelLoop.forRange(pool, 0, blocks, 1, (first, last) -> {
+			for (int b = first; b < last; ++b) {
+				int pos = offsets[b];
+				for (int i = b * grain; i < Math.min(m, (b + 1) * grain); ++i) {
+					if (keep[i]) {
+						result[pos++] = active[i];
+					}
+				}
+			}
+		});
+
+		return result;
+	}
+}
@@ -0,0 +1,158 @@
+package de.uos.inf.ko.ga.graph.mst;
+
+import java.util.Arrays;
+
+import de.uos.inf.ko.ga.graph.Graph;
+
+/**
+ * Edges of an undirected graph stored in primitive arrays, where edge i is { from[i], to[i] } with weight weights[i].
+ */
+class EdgeList {
+
+	final int n;
+	final int[] from;
+	final int[] to;
+	final double[] weights;
+
+	EdgeList(int n, int[] from, int[] to, double[] weights) {
+		if ((from.length != to.length) || (from.length != weights.length)) {
+			throw new IllegalArgumentException("arrays of the edge list must have the same length");
+		}
+
+		for (int i = 0; i < from.length; ++i) {
+			if ((from[i] < 0) || (from[i] >= n) || (to[i] < 0) || (to[i] >= n)) {
+				throw new IllegalArgumentException("edge list contains invalid vertex id");
+			}
+		}
+
+		this.n = n;
+		this.from = from;
+		this.to = to;
+		this.weights = weights;
+	}
+
+	/**
+	 * Extracts all edges of an undirected graph. Each edge { u, v } is contained once, with u < v.
+	 * @param graph undirected graph
+	 * @return edge list of the graph
+	 */
+	static EdgeList of(Graph graph) {
+		assert(!graph.isDirected());
+
+		final int n = graph.getVertexCount();
+
+		/* count the edges first so that the arrays are allocated exactly once */
+		final int[] count = new int[1];
+		for (int u = 0; u < n; ++u) {
+			final int start = u;
+			graph.forEachNeighbor(u, (v, weight) -> {
+				if (start < v) {
+					count[0]++;
+				}
+			});
+		}
+
+		final int[] from = new int[count[0]];
+		final int[] to = new int[count[0]];
+		final double[] weights = new double[count[0]];
+
+		final int[] m = new int[1];
+		for (int u = 0; u < n; ++u) {
+			final int start = u;
+			graph.forEachNeighbor(u, (v, weight) -> {
+				if (start < v) {
+					from[m[0]] = start;
+					to[m[0]] = v;
+					weights[m[0]] = weight;
+					m[0]++;
+				}
+			});
+		}
+
+		return new EdgeList(n, from, to, weights);
+	}
+
+	int size() {
+		return this.from.length;
+	}
+
+	/**
+	 * Sorts the edges by their weights without moving them.
+	 * The float approximation of each weight is packed into the high 32 bits of a long key such that the keys
+	 * compare like the weights, and the index of the edge into the low 32 bits. These keys are sorted with the
+	 * parallel primitive sort of the JDK. Since rounding to float preserves the order of the weights, only edges
+	 * with the same float key can be in the wrong order afterwards; each such run is sorted by the exact weights
+	 * with a merge sort, so that distinct weights sharing a float (e.g. integers above 2^24) cost O(r log r) per run.
+	 * @return indices of the edges in ascending order of their weights
+	 */
+	int[] sortedOrder() {
+		final int m = this.size();
+
+		final long[] keys = new long[m];
+		for (int i = 0; i < m; ++i) {
+			keys[i] = ((long) sortableBits((float) this.weights[i]) << 32) | i;
+		}
+
+		Arrays.parallelSort(keys);
+
+		final int[] order = new int[m];
+		for (int i = 0; i < m; ++i) {
+			order[i] = (int) keys[i];
+		}
+
+		/* sort each run of equal float keys by the exact weights */
+		int[] buffer = null;
+		int start = 0;
+		for (int i = 1; i <= m; ++i) {
+			if ((i == m) || ((keys[i] >>> 32) != (keys[start] >>> 32))) {
+				if (i - start > 1) {
+					if (buffer == null) {
+						buffer = new int[m];
+					}
+					this.mergeSort(order, buffer, start, i);
+				}
+				start = i;
+			}
+		}
+
+		return order;
+	}
+
+	/**
+	 * Sorts order[lo], ..., order[hi - 1] stably by the weights of the edges, using buffer as temporary storage.
+	 */
+	private void mergeSort(int[] order, int[] buffer, int lo, int hi) {
+		if (hi - lo < 2) {
+			return;
+		}
+
+		final int middle = (lo + hi) >>> 1;
+		this.mergeSort(order, buffer, lo, middle);
+		this.mergeSort(order, buffer, middle, hi);
+
+		/* the halves are already in order */
+		if (this.weights[order[middle - 1]] <= this.weights[order[middle]]) {
+			return;
+		}
+
+		System.arraycopy(order, lo, buffer, lo, hi - lo);
+		int i = lo;
+		int j = middle;
+		for (int k = lo; k < hi; ++k) {
+			if ((j >= hi) || ((i < middle) && (this.weights[buffer[i]] <= this.weights[buffer[j]]))) {
+				order[k] = buffer[i++];
+			} else {
+				order[k] = buffer[j++];
+			}
+		}
+	}
+
+	/**
+	 * Maps a float to an int such that comparing the ints as signed values is equivalent to comparing the floats.
+	 */
+	private static int sortableBits(float f) {
+		final int bits = Float.floatToIntBits(f);
+		/* negative floats are stored as sign and magnitude; flip their magnitude bits to reverse their order */
+		return bits ^ ((bits >> 31) & 0x7fffffff);
+	}
+}
@@ -0,0 +1,67 @@
+package de.uos.inf.ko.ga.graph.mst;
+
+import de.uos.inf.ko.ga.graph.Graph;
+import de.uos.inf.ko.ga.graph.impl.UndirectedGraphList;
+import de.uos.inf.ko.ga.graph.util.DisjointSet;
+
+/**
+ * Implementation of Kruskal's algorithm for computing minimum spanning trees.
+ * The edges are sorted by their weights once and then added to the tree in this order,
+ * skipping edges whose end vertices are already connected. Connectivity is maintained
+ * in a disjoint-set structure. The running time is dominated by sorting, i.e. O(m log m),
+ * which makes Kruskal faster than Prim for very sparse graphs.
+ */
+public class Kruskal {
+
+	/**
+	 * Computes a minimum spanning tree of an undirected graph using Kruskal's algorithm.
+	 * If the graph is not connected, a minimum spanning forest is computed.
+	 * @param graph Input graph
+	 * @return Minimum spanning tree of the input graph
+	 */
+	public static Graph minimumSpanningTree(Graph graph) {
+		assert(graph != null);
+		assert(!graph.isDirected());
+
+		return minimumSpanningTree(EdgeList.of(graph));
+	}
+
+	/**
+	 * Computes a minimum spanning tree of an undirected graph that is given as a list of edges,
+	 * where edge i is { from[i], to[i] } with weight weights[i].
+	 * If the graph is not connected, a minimum spanning forest is computed.
+	 * @param n       Number of vertices
+	 * @param from    First end vertex of each edge
+	 * @param to      Second end vertex of each edge
+	 * @param weights Weight of each edge
+	 * @return Minimum spanning tree of the input graph
+	 */
+	public static Graph minimumSpanningTree(int n, int[] from, int[] to, double[] weights) {
+		return minimumSpanningTree(new EdgeList(n, from, to, weights));
+	}
+
+	private static Graph minimumSpanningTree(EdgeList edges) {
+		final int n = edges.n;
+
+		/* create graph to which the edges of the minimum spanning tree will be added */
+		final Graph mst = new UndirectedGraphList();
+		mst.addVertices(n);
+
+		final DisjointSet components = new DisjointSet(n);
+		final int[] order = edges.sortedOrder();
+
+		/* a spanning forest with a single component is complete */
+		for (int i = 0; (i < order.length) && (components.getCount() > 1); ++i) {
+			final int e = order[i];
+			final int u = edges.from[e];
+			final int v = edges.to[e];
+
+			/* the cheapest remaining edge is added if it connects two different components */
+			if (components.union(u, v)) {
+				mst.addEdge(u, v, edges.weights[e]);
+			}
+		}
+
+		return mst;
+	}
+}
@@ -5,8 +5,10 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.PriorityQueue;
 
+import de.uos.inf.ko.ga.graph.EdgeConsumer;
 import de.uos.inf.ko.ga.graph.Graph;
 import de.uos.inf.ko.ga.graph.impl.UndirectedGraphList;
+import de.uos.inf.ko.ga.graph.util.IndexedHeap;
 
 public class Prim {
 
@@ -45,9 +47,7 @@ public class Prim {
 			final int root = last_unseen - 1;
 			visited[root] = true;
 				
-			for (final int v : graph.getNeighbors(root)) {
-				outgoing.add(new WeightedEdge(root, v, graph.getEdgeWeight(root, v)));
-			}
+			graph.forEachNeighbor(root, (v, weight) -> updateOutgoingEdgeWeight(outgoing, root, v, weight));
 
 			/* iterate as long as there are outgoing edges from this component */
 			while (!outgoing.isEmpty()) {
@@ -64,11 +64,11 @@ public class Prim {
 				mst.addEdge(edge.getStart(), edge.getEnd(), edge.getWeight());
 				
 				/* add edges to all neighbors of edge.v that have not been visited and update the existing ones */
-				for (final int v : graph.getNeighbors(u)) {
+				graph.forEachNeighbor(u, (v, weight) -> {
 					if (!visited[v]) {
-						updateOutgoingEdgeWeight(outgoing, u, v, graph.getEdgeWeight(u, v));
+						updateOutgoingEdgeWeight(outgoing, u, v, weight);
 					}
-				}
+				});
 			}
 		}
 		
@@ -162,6 +162,9 @@ public class Prim {
 			}
 		});
 
+		/* a single consumer is reused for updating the edges to the neighbors of all visited vertices */
+		final Relaxation relaxation = new Relaxation(visited, outgoing, outgoingQueue);
+
 		while (last_unseen < n) {
 			/* find some unseen vertex at which we can start the growth phase */
 			if (visited[last_unseen++]) {
@@ -170,11 +173,9 @@ public class Prim {
 			
 			final int root = last_unseen - 1;
 			visited[root] = true;
-				
-			for (final int v : graph.getNeighbors(root)) {
-				outgoing[v] = new WeightedEdge(root, v, graph.getEdgeWeight(root, v));
-				outgoingQueue.add(outgoing[v]);
-			}
+
+			relaxation.u = root;
+			graph.forEachNeighbor(root, relaxation);
 
 			/* iterate as long as there are outgoing edges from this component */
 			while (!outgoingQueue.isEmpty()) {
@@ -190,22 +191,8 @@ public class Prim {
 				mst.addEdge(edge.getStart(), edge.getEnd(), edge.getWeight());
 				
 				/* add edges to all neighbors of edge.v that have not been visited and update the existing ones */
-				for (final int v : graph.getNeighbors(u)) {
-					if (!visited[v]) {
-						final double weight = graph.getEdgeWeight(u, v);
-
-						if (outgoing[v] == null) {
-							/* found edge that connects new vertex 'v' to the current component */
-							outgoing[v] = new WeightedEdge(u, v, weight);
-							outgoingQueue.add(outgoing[v]);
-						} else if (weight < outgoing[v].getWeight()) {
-							/* weight of the existing edge needs to be decreased; remove the old edge from the heap before inserting the new one */
-							outgoingQueue.remove(outgoing[v]);
-							outgoing[v] = new WeightedEdge(u, v, weight);
-							outgoingQueue.add(outgoing[v]);
-						}
-					}
-				}
+				relaxation.u = u;
+				graph.forEachNeighbor(u, relaxation);
 			}
 		}
 		
@@ -214,6 +201,136 @@ public class Prim {
 		return mst;
 	}
 
+	/**
+	 * Consumer updating the cheapest edges from the current component to the unvisited neighbors of vertex 'u'.
+	 */
+	private static class Relaxation implements EdgeConsumer {
+		private final boolean[] visited;
+		private final WeightedEdge[] outgoing;
+		private final PriorityQueue<WeightedEdge> outgoingQueue;
+
+		/* vertex that has just been added to the component */
+		private int u;
+
+		public Relaxation(boolean[] visited, WeightedEdge[] outgoing, PriorityQueue<WeightedEdge> outgoingQueue) {
+			this.visited = visited;
+			this.outgoing = outgoing;
+			this.outgoingQueue = outgoingQueue;
+		}
+
+		@Override
+		public void accept(int v, double weight) {
+			if (this.visited[v]) {
+				return;
+			}
+
+			if (this.outgoing[v] == null) {
+				/* found edge that connects new vertex 'v' to the current component */
+				this.outgoing[v] = new WeightedEdge(this.u, v, weight);
+				this.outgoingQueue.add(this.outgoing[v]);
+			} else if (weight < this.outgoing[v].getWeight()) {
+				/* weight of the existing edge needs to be decreased; remove the old edge from the heap before inserting the new one */
+				this.outgoingQueue.remove(this.outgoing[v]);
+				this.outgoing[v] = new WeightedEdge(this.u, v, weight);
+				this.outgoingQueue.add(this.outgoing[v]);
+			}
+		}
+	}
+
+	/**
+	 * Computes a minimum spanning tree of an undirected graph using Prim's algorithm.
+	 * The vertices outside the current component are kept in an indexed heap, sorted by the
+	 * weight key[v] of the cheapest edge { parent[v], v } that connects them to the component.
+	 * Updating this edge is a decrease-key operation in O(log n) and does not allocate any objects.
+	 * If the graph is not connected, a minimum spanning forest is computed.
+	 * @param graph Input graph
+	 * @return Minimum spanning tree of the input graph
+	 */
+	public static Graph minimumSpanningTreeIndexedHeap(Graph graph) {
+		assert(graph != null);
+		assert(!graph.isDirected());
+
+		final int n = graph.getVertexCount();
+
+		/* create graph to which the edges of the minimum spanning tree will be added */
+		final Graph mst = new UndirectedGraphList();
+		mst.addVertices(n);
+
+		/* for each vertex 'v': visited[v] == true iff v has been added to some tree */
+		int last_unseen = 0;
+		final boolean[] visited = new boolean[n];
+
+		/* for each vertex 'v' outside the component: the cheapest known edge { parent[v], v } to the component has weight key[v] */
+		final double[] key = new double[n];
+		final int[] parent = new int[n];
+		final IndexedHeap queue = new IndexedHeap(n);
+
+		/* a single consumer is reused for updating the edges to the neighbors of all visited vertices */
+		final KeyUpdate update = new KeyUpdate(visited, key, parent, queue);
+
+		while (last_unseen < n) {
+			/* find some unseen vertex at which we can start the growth phase */
+			if (visited[last_unseen++]) {
+				continue;
+			}
+
+			final int root = last_unseen - 1;
+			visited[root] = true;
+
+			update.u = root;
+			graph.forEachNeighbor(root, update);
+
+			/* iterate as long as there are outgoing edges from this component */
+			while (!queue.isEmpty()) {
+				/* the vertex with the cheapest edge to the component is added next */
+				final int v = queue.poll();
+
+				visited[v] = true;
+				mst.addEdge(parent[v], v, key[v]);
+
+				/* update the edges to all neighbors of 'v' that have not been visited */
+				update.u = v;
+				graph.forEachNeighbor(v, update);
+			}
+		}
+
+		return mst;
+	}
+
+	/**
+	 * Consumer decreasing the keys of the unvisited neighbors of vertex 'u', which has just been added to the component.
+	 */
+	private static class KeyUpdate implements EdgeConsumer {
+		private final boolean[] visited;
+		private final double[] key;
+		private final int[] parent;
+		private final IndexedHeap queue;
+
+		/* vertex that has just been added to the component */
+		private int u;
+
+		public KeyUpdate(boolean[] visited, double[] key, int[] parent, IndexedHeap queue) {
+			this.visited = visited;
+			this.key = key;
+			this.parent = parent;
+			this.queue = queue;
+		}
+
+		@Override
+		public void accept(int v, double weight) {
+			if (this.visited[v]) {
+				return;
+			}
+
+			if (!this.queue.contains(v) || (weight < this.key[v])) {
+				/* edge { u, v } is the cheapest known edge that connects 'v' to the current component */
+				this.key[v] = weight;
+				this.parent[v] = this.u;
+				this.queue.insertOrDecrease(v, weight);
+			}
+		}
+	}
+
 	private static class WeightedEdge {
 		private int u;
 		private int v;
@@ -6,6 +6,7 @@ import java.io.FileReader;
 import java.io.IOException;
 
 import de.uos.inf.ko.ga.graph.Graph;
+import de.uos.inf.ko.ga.graph.impl.CsrGraph;
 import de.uos.inf.ko.ga.graph.impl.DirectedGraphMatrix;
 import de.uos.inf.ko.ga.graph.impl.UndirectedGraphMatrix;
 
@@ -107,4 +108,54 @@ public class GraphReader {
 		return graph;
 	}
 
+	/**
+	 * Converts the content of the given file to an immutable graph in compressed sparse row format.
+	 * The edges are passed to a CsrGraph.Builder directly, i.e. no intermediate adjacency matrix is created.
+	 * For undirected graphs, only the entries above the diagonal are considered.
+	 * 
+	 * @param f        File with the content to be converted
+	 * @param directed whether the file contains a directed graph
+	 * @return resulting graph in compressed sparse row format
+	 * @throws NumberFormatException thrown in case that the file contains letters
+	 *                               in case a number is expected
+	 * @throws IOException           thrown in case of an input error
+	 */
+	public static CsrGraph readCsrGraph(File f, boolean directed) throws NumberFormatException, IOException {
+		final CsrGraph.Builder builder = new CsrGraph.Builder(directed);
+		final BufferedReader reader = new BufferedReader(new FileReader(f));
+
+		try {
+			String s;
+			while ((s = reader.readLine()) != null) {
+				/* remove leading and trailing spaces */
+				s = s.trim();
+
+				if (s.startsWith("#") || s.isEmpty()) {
+					continue;
+				}
+
+				if (s.startsWith("n")) {
+					/* FORMAT: n <number of vertices> */
+					s = s.replace("n", "").trim();
+					builder.addVertices(Integer.parseInt(s));
+				} else {
+					/* FORMAT: <start vertex>: <weight to vertex 0> <weight to vertex 1> ... */
+					String[] split = s.split(":");
+					final int ids = Integer.parseInt(split[0].trim());
+
+					split = split[1].trim().split("\\s+");
+					for (int i = 0; i < split.length; i++) {
+						if (!"x".equals(split[i]) && (directed || (ids < i))) {
+							builder.addEdge(ids, i, Double.parseDouble(split[i]));
+						}
+					}
+				}
+			}
+		} finally {
+			reader.close();
+		}
+
+		return builder.build();
+	}
+
 }
@@ -0,0 +1,145 @@
+package de.uos.inf.ko.ga.graph.shortestpath;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import de.uos.inf.ko.ga.graph.EdgeConsumer;
+import de.uos.inf.ko.ga.graph.Graph;
+import de.uos.inf.ko.ga.graph.util.IndexedHeap;
+
+/**
+ * Implementation of A* for computing shortest paths between two vertices in a graph with non-negative
+ * edge weights. A* is Dijkstra with the tentative distance g(v) of each vertex replaced by g(v) + h(v),
+ * where h is a heuristic estimate of the remaining distance to the target. Vertices in the direction of
+ * the target are visited first, so a good heuristic shrinks the set of visited vertices considerably.
+ *
+ * The arrays and the heap are allocated once per instance and reset by a version stamp, like in
+ * DijkstraWorkspace, so a query only touches the vertices it reaches. An instance is not thread-safe.
+ *
+ * Each instance counts the vertices visited and the arcs relaxed by the last query, in order to compare
+ * heuristics with each other and with Dijkstra.
+ */
+public class AStar {
+
+	private static final int NONE = -1;
+
+	private final Graph graph;
+	private final Heuristic heuristic;
+
+	/* state of the current query; dist and parent are only valid for vertices whose version is the current version */
+	private final double[] dist;
+	private final int[] parent;
+	private final int[] versions;
+	private final IndexedHeap queue;
+	private int version = 0;
+	private int target;
+	/* vertex whose arcs are relaxed */
+	private int v;
+	private final Relaxation relaxation = new Relaxation();
+
+	/* statistics of the last query */
+	private int settledCount = 0;
+	private long relaxedCount = 0;
+
+	/**
+	 * @param graph     Input graph with non-negative edge weights
+	 * @param heuristic Admissible estimate of the distance to the target
+	 */
+	public AStar(Graph graph, Heuristic heuristic) {
+		final int n = graph.getVertexCount();
+		this.graph = graph;
+		this.heuristic = heuristic;
+		this.dist = new double[n];
+		this.parent = new int[n];
+		this.versions = new int[n];
+		this.queue = new IndexedHeap(n);
+	}
+
+	/**
+	 * Computes a shortest path from a start vertex to a target vertex.
+	 * @param start  Start vertex
+	 * @param target Target vertex
+	 * @return Distance and vertices of a shortest path, or a path without vertices if the target is not reachable
+	 */
+	public Path shortestPath(int start, int target) {
+		final int n = this.dist.length;
+		if ((start < 0) || (start >= n) || (target < 0) || (target >= n)) {
+			throw new IllegalArgumentException("invalid start or target vertex");
+		}
+
+		/* forget the previous query; the versions are only cleared when the counter overflows */
+		this.queue.clear();
+		if (this.version == Integer.MAX_VALUE) {
+			Arrays.fill(this.versions, 0);
+			this.version = 0;
+		}
+		this.version++;
+
+		this.target = target;
+		this.settledCount = 0;
+		this.relaxedCount = 0;
+
+		this.dist[start] = 0.0;
+		this.parent[start] = NONE;
+		this.versions[start] = this.version;
+		this.queue.insert(start, this.heuristic.estimate(start, target));
+
+		while (!this.queue.isEmpty()) {
+			this.v = this.queue.poll();
+			this.settledCount++;
+
+			if (this.v == target) {
+				return new Path(this.dist[target], this.pathTo(target));
+			}
+
+			this.graph.forEachSuccessor(this.v, this.relaxation);
+		}
+
+		return Path.unreachable();
+	}
+
+	/**
+	 * Consumer relaxing the outgoing arcs of the vertex 'v' that has just been visited.
+	 */
+	private class Relaxation implements EdgeConsumer {
+		@Override
+		public void accept(int w, double weight) {
+			AStar.this.relaxedCount++;
+
+			final double distance = AStar.this.dist[AStar.this.v] + weight;
+			if ((AStar.this.versions[w] != AStar.this.version) || (distance < AStar.this.dist[w])) {
+				AStar.this.dist[w] = distance;
+				AStar.this.parent[w] = AStar.this.v;
+				AStar.this.versions[w] = AStar.this.version;
+
+				/* with a heuristic that is admissible but not consistent, visited vertices may have to be visited again */
+				AStar.this.queue.insertOrDecrease(w, distance + AStar.this.heuristic.estimate(w, AStar.this.target));
+			}
+		}
+	}
+
+	private List<Integer> pathTo(int w) {
+		final List<Integer> path = new ArrayList<>();
+		for (int u = w; u != NONE; u = this.parent[u]) {
+			path.add(u);
+		}
+		Collections.reverse(path);
+		return path;
+	}
+
+	/**
+	 * @return number of vertices visited (removed from the priority queue) by the last query
+	 */
+	public int getSettledCount() {
+		return this.settledCount;
+	}
+
+	/**
+	 * @return number of arcs relaxed by the last query
+	 */
+	public long getRelaxedCount() {
+		return this.relaxedCount;
+	}
+}
@@ -1,6 +1,15 @@
 package de.uos.inf.ko.ga.graph.shortestpath;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import de.uos.inf.ko.ga.graph.EdgeConsumer;
 import de.uos.inf.ko.ga.graph.Graph;
+import de.uos.inf.ko.ga.graph.util.AtomicBitSet;
+import de.uos.inf.ko.ga.graph.util.ParallelLoop;
 
 /**
  * Shortest-path computation with Bellman-Ford for determining the distances
@@ -21,36 +30,396 @@ public class BellmanFord {
 	public static double[] shortestPaths(Graph graph, int start) {
 		final int n = graph.getVertexCount();
 
-		double[] d_cur = new double[n];
-		double[] d_next = new double[n];
-
 		/* set the initial distances */
+		final double[] d_start = new double[n];
+		Arrays.fill(d_start, Double.POSITIVE_INFINITY);
+		d_start[start] = 0.0;
+		graph.forEachSuccessor(start, (v, weight) -> d_start[v] = Math.min(d_start[v], weight));
+
+		return iterate(graph, d_start, n - 1, new Relaxation());
+	}
+
+	/**
+	 * Computes distances to all vertices in a graph starting at a certain vertex with Bellman-Ford,
+	 * using the common fork-join pool.
+	 * @param graph Input graph
+	 * @param start Start vertex for the computation of the distances
+	 * @return Array containing the distance d[v] from the start node for each vertex v
+	 * @see #shortestPathsParallel(Graph, int, ForkJoinPool)
+	 */
+	public static double[] shortestPathsParallel(Graph graph, int start) {
+		return shortestPathsParallel(graph, start, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Computes distances to all vertices in a graph starting at a certain vertex with Bellman-Ford,
+	 * processing the vertices of each iteration in parallel. The distances after each iteration are the
+	 * same as the ones of {@link #shortestPaths(Graph, int)}, but only the arcs leaving the frontier, i.e.
+	 * the vertices whose distance has changed in the previous iteration, are relaxed, since all other arcs
+	 * cannot lead to further improvements. Each iteration consists of three parallel phases:
+	 * marking the successors of the frontier, recomputing the distances of the marked vertices from their
+	 * predecessors in the frontier, and publishing the changed distances, which form the next frontier.
+	 * The sets of vertices are concurrent bitsets, so that blocks of 64 unaffected vertices are skipped at once.
+	 * @param graph Input graph
+	 * @param start Start vertex for the computation of the distances
+	 * @param pool  Pool executing the phases of each iteration
+	 * @return Array containing the distance d[v] from the start node for each vertex v
+	 */
+	public static double[] shortestPathsParallel(Graph graph, int start, ForkJoinPool pool) {
+		return parallel(graph, start, pool, null, null);
+	}
+
+	/**
+	 * Computes distances to all vertices in a graph starting at a certain vertex with the parallel Bellman-Ford,
+	 * together with the parent of each vertex on a shortest path, using the common fork-join pool.
+	 * @param graph Input graph without cycles of negative length
+	 * @param start Start vertex for the computation of the distances
+	 * @return Shortest-path tree rooted at the start vertex
+	 * @see #shortestPathsParallel(Graph, int, ForkJoinPool)
+	 */
+	public static ShortestPathTree shortestPathTreeParallel(Graph graph, int start) {
+		return shortestPathTreeParallel(graph, start, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Computes distances to all vertices in a graph starting at a certain vertex with the parallel Bellman-Ford,
+	 * together with the parent of each vertex on a shortest path. The parent of a vertex is recorded by the thread
+	 * that recomputes its distance, so recording the parents does not require any synchronization.
+	 * @param graph Input graph without cycles of negative length
+	 * @param start Start vertex for the computation of the distances
+	 * @param pool  Pool executing the phases of each iteration
+	 * @return Shortest-path tree rooted at the start vertex
+	 * @see #shortestPathsParallel(Graph, int, ForkJoinPool)
+	 */
+	public static ShortestPathTree shortestPathTreeParallel(Graph graph, int start, ForkJoinPool pool) {
+		final int[] parent = new int[graph.getVertexCount()];
+		final double[] parentWeight = new double[graph.getVertexCount()];
+		Arrays.fill(parent, ShortestPathTree.NONE);
+		final double[] dist = parallel(graph, start, pool, parent, parentWeight);
+		return new ShortestPathTree(start, dist, parent, parentWeight);
+	}
+
+	/**
+	 * Parallel Bellman-Ford, storing the parent of each vertex in parent and the weight of the arc from it
+	 * in parentWeight if they are not null.
+	 */
+	private static double[] parallel(Graph graph, int start, ForkJoinPool pool, int[] parent, double[] parentWeight) {
+		final int n = graph.getVertexCount();
+
+		/* set the initial distances as in the sequential version; all reached vertices form the first frontier */
+		final double[] d_cur = new double[n];
+		Arrays.fill(d_cur, Double.POSITIVE_INFINITY);
 		d_cur[start] = 0.0;
+		graph.forEachSuccessor(start, (v, weight) -> {
+			if (weight < d_cur[v]) {
+				d_cur[v] = weight;
+				if (parent != null) {
+					parent[v] = start;
+					parentWeight[v] = weight;
+				}
+			}
+		});
+
+		/* new distances of the vertices in the next frontier */
+		final double[] d_next = new double[n];
+
+		AtomicBitSet frontier = new AtomicBitSet(n);
+		AtomicBitSet next = new AtomicBitSet(n);
+		final AtomicBitSet touched = new AtomicBitSet(n);
+		for (int v = 0; v < n; ++v) {
+			if (d_cur[v] != Double.POSITIVE_INFINITY) {
+				frontier.set(v);
+			}
+		}
+
+		final int words = frontier.wordCount();
+		final int grain = Math.max(1, words / (8 * pool.getParallelism()));
+
+		for (int k = 1; (k < n) && !frontier.isEmpty(); ++k) {
+			final AtomicBitSet current = frontier;
+			final AtomicBitSet changed = next;
+
+			/* phase 1: mark all successors of the frontier */
+			ParallelLoop.forRange(pool, 0, words, grain, (first, last) -> {
+				final EdgeConsumer mark = (v, weight) -> touched.set(v);
+				for (int w = first; w < last; ++w) {
+					for (long bits = current.getWord(w); bits != 0; bits &= bits - 1) {
+						graph.forEachSuccessor((w << 6) + Long.numberOfTrailingZeros(bits), mark);
+					}
+				}
+			});
+
+			/* phase 2: relax the arcs from the frontier to each marked vertex */
+			ParallelLoop.forRange(pool, 0, words, grain, (first, last) -> {
+				final PullRelaxation relaxation = new PullRelaxation(current, d_cur);
+				for (int w = first; w < last; ++w) {
+					for (long bits = touched.getWord(w); bits != 0; bits &= bits - 1) {
+						final int v = (w << 6) + Long.numberOfTrailingZeros(bits);
+						relaxation.best = d_cur[v];
+						graph.forEachPredecessor(v, relaxation);
+						if (relaxation.best < d_cur[v]) {
+							d_next[v] = relaxation.best;
+							changed.set(v);
+							if (parent != null) {
+								parent[v] = relaxation.bestParent;
+								parentWeight[v] = relaxation.bestWeight;
+							}
+						}
+					}
+				}
+			});
+
+			/* phase 3: publish the new distances once no thread reads the old ones any more */
+			ParallelLoop.forRange(pool, 0, words, grain, (first, last) -> {
+				for (int w = first; w < last; ++w) {
+					for (long bits = changed.getWord(w); bits != 0; bits &= bits - 1) {
+						final int v = (w << 6) + Long.numberOfTrailingZeros(bits);
+						d_cur[v] = d_next[v];
+					}
+				}
+			});
+
+			/* the changed vertices form the next frontier */
+			current.clear();
+			touched.clear();
+			frontier = changed;
+			next = current;
+		}
+
+		return d_cur;
+	}
+
+	/**
+	 * Consumer computing the minimum distance of a vertex via its predecessors in the frontier.
+	 */
+	private static class PullRelaxation implements EdgeConsumer {
+		private final AtomicBitSet frontier;
+		private final double[] d_cur;
+
+		/* minimum distance found so far, and the predecessor and the arc weight it has been found for */
+		private double best;
+		private int bestParent;
+		private double bestWeight;
+
+		PullRelaxation(AtomicBitSet frontier, double[] d_cur) {
+			this.frontier = frontier;
+			this.d_cur = d_cur;
+		}
+
+		@Override
+		public void accept(int u, double c) {
+			/* the arcs from all other vertices have been relaxed with the same distances before */
+			if (this.frontier.get(u) && (this.d_cur[u] + c < this.best)) {
+				this.best = this.d_cur[u] + c;
+				this.bestParent = u;
+				this.bestWeight = c;
+			}
+		}
+	}
+
+	/**
+	 * Computes distances to all vertices in a graph starting at a certain vertex with the queue-based
+	 * label-correcting variant of Bellman-Ford. Instead of relaxing the arcs of all vertices in each
+	 * iteration, only the outgoing arcs of vertices whose distance has changed are relaxed; these vertices
+	 * are kept in a FIFO queue. Vertices are processed in the same rounds as in the classical algorithm,
+	 * but graphs whose distances converge after a few rounds are processed in a fraction of the time.
+	 *
+	 * In the absence of negative cycles, each vertex enters the queue at most n - 1 times. If a vertex enters
+	 * the queue more often, the arcs from the vertices to their current predecessors on shortest paths are
+	 * checked for a cycle; such a cycle has negative length and is reported.
+	 * @param graph Input graph
+	 * @param start Start vertex for the computation of the distances
+	 * @return Array containing the distance d[v] from the start node for each vertex v
+	 * @throws NegativeCycleException if a cycle of negative length is reachable from the start vertex
+	 */
+	public static double[] shortestPathsQueue(Graph graph, int start) {
+		final int n = graph.getVertexCount();
+
+		final double[] dist = new double[n];
+		Arrays.fill(dist, Double.POSITIVE_INFINITY);
+		dist[start] = 0.0;
+
+		final LabelCorrection correction = new LabelCorrection(dist);
+		correction.enqueue(start);
+		correction.run(graph);
+
+		return dist;
+	}
+
+	/**
+	 * Computes distances to all vertices in a graph starting at a certain vertex with the queue-based Bellman-Ford,
+	 * together with the parent of each vertex on a shortest path, which the label-correcting algorithm maintains anyway.
+	 * @param graph Input graph
+	 * @param start Start vertex for the computation of the distances
+	 * @return Shortest-path tree rooted at the start vertex
+	 * @throws NegativeCycleException if a cycle of negative length is reachable from the start vertex
+	 * @see #shortestPathsQueue(Graph, int)
+	 */
+	public static ShortestPathTree shortestPathTree(Graph graph, int start) {
+		final int n = graph.getVertexCount();
+
+		final double[] dist = new double[n];
+		Arrays.fill(dist, Double.POSITIVE_INFINITY);
+		dist[start] = 0.0;
+
+		final LabelCorrection correction = new LabelCorrection(dist);
+		correction.enqueue(start);
+		correction.run(graph);
+
+		return new ShortestPathTree(start, dist, correction.parent, correction.parentWeight);
+	}
+
+	/**
+	 * Computes a potential function for the reweighting of Johnson's algorithm, i.e. the distances from
+	 * a virtual vertex that is connected to all vertices by arcs of weight 0. These distances are at most 0,
+	 * and w(u, v) + p[u] - p[v] is non-negative for all arcs (u, v).
+	 * @param graph Input graph
+	 * @return Array containing the potential p[v] of each vertex v
+	 * @throws NegativeCycleException if the graph contains a cycle of negative length
+	 */
+	public static double[] potentials(Graph graph) {
+		final int n = graph.getVertexCount();
+
+		/* the arcs from the virtual vertex give all vertices distance 0, so all vertices are queued initially */
+		final double[] p = new double[n];
+		final LabelCorrection correction = new LabelCorrection(p);
 		for (int v = 0; v < n; ++v) {
-			if (v != start) {
-				d_cur[v] = graph.getEdgeWeight(start, v);
+			correction.enqueue(v);
+		}
+		correction.run(graph);
+
+		return p;
+	}
+
+	/**
+	 * Queue-based label-correcting computation of distances, relaxing the outgoing arcs of vertex 'u'.
+	 */
+	private static class LabelCorrection implements EdgeConsumer {
+		/* marks vertices without predecessor */
+		private static final int NONE = -1;
+
+		private final int n;
+		private final double[] dist;
+		/* predecessor of each vertex on the shortest known path, and the weight of the arc from it */
+		private final int[] parent;
+		private final double[] parentWeight;
+		/* number of times each vertex has entered the queue */
+		private final int[] count;
+
+		/* FIFO queue of the vertices whose outgoing arcs have to be relaxed, as ring buffer */
+		private final int[] queue;
+		private final boolean[] queued;
+		private int head = 0;
+		private int size = 0;
+
+		/* vertex whose outgoing arcs are relaxed */
+		private int u;
+
+		LabelCorrection(double[] dist) {
+			this.n = dist.length;
+			this.dist = dist;
+			this.parent = new int[this.n];
+			this.parentWeight = new double[this.n];
+			this.count = new int[this.n];
+			this.queue = new int[this.n];
+			this.queued = new boolean[this.n];
+			Arrays.fill(this.parent, NONE);
+		}
+
+		void enqueue(int v) {
+			if (this.queued[v]) {
+				return;
+			}
+
+			this.queue[(this.head + this.size) % this.n] = v;
+			this.queued[v] = true;
+			this.size++;
+
+			if (++this.count[v] >= this.n) {
+				/* more than n - 1 rounds: there is a negative cycle, but it may not be closed by the parent arcs yet */
+				final List<Integer> cycle = this.findParentCycle(v);
+				if (cycle != null) {
+					throw new NegativeCycleException(cycle);
+				}
+			}
+		}
+
+		void run(Graph graph) {
+			while (this.size > 0) {
+				this.u = this.queue[this.head];
+				this.head = (this.head + 1) % this.n;
+				this.size--;
+				this.queued[this.u] = false;
+
+				graph.forEachSuccessor(this.u, this);
 			}
 		}
 
-		/* flag whether any distance has changed during the last iteration */
-		boolean changed;
+		@Override
+		public void accept(int v, double weight) {
+			final double distance = this.dist[this.u] + weight;
+			if (distance < this.dist[v]) {
+				this.dist[v] = distance;
+				this.parent[v] = this.u;
+				this.parentWeight[v] = weight;
+				this.enqueue(v);
+			}
+		}
 
-		for (int k = 1; k < n; ++k) {
-			changed = false;
+		/**
+		 * Follows the parent arcs starting at v and returns the vertices of a cycle if one is found.
+		 * Every cycle formed by parent arcs has negative length.
+		 */
+		private List<Integer> findParentCycle(int v) {
+			final boolean[] visited = new boolean[this.n];
+			while ((v != NONE) && !visited[v]) {
+				visited[v] = true;
+				v = this.parent[v];
+			}
+
+			if (v == NONE) {
+				return null;
+			}
+
+			/* v lies on the cycle; the parent arcs point backwards along the cycle */
+			final List<Integer> cycle = new ArrayList<>();
+			int w = v;
+			do {
+				cycle.add(w);
+				w = this.parent[w];
+			} while (w != v);
+
+			Collections.reverse(cycle);
+			return cycle;
+		}
+	}
+
+	/**
+	 * Performs iterations of Bellman-Ford until no distance changes or the maximum number of iterations is reached.
+	 * After the call, relaxation.changed tells whether the last iteration has changed any distance.
+	 * @param graph      Input graph
+	 * @param d_start    Initial distances
+	 * @param iterations Maximum number of iterations
+	 * @param relaxation Consumer used for relaxing the arcs
+	 * @return distances after the last iteration
+	 */
+	private static double[] iterate(Graph graph, double[] d_start, int iterations, Relaxation relaxation) {
+		final int n = graph.getVertexCount();
+
+		double[] d_cur = d_start;
+		double[] d_next = new double[n];
+
+		for (int k = 0; k < iterations; ++k) {
+			relaxation.d_cur = d_cur;
+			relaxation.d_next = d_next;
+			relaxation.changed = false;
 
 			for (int v = 0; v < n; ++v) {
 				/* copy old entries to the new array 'd_next' */
 				d_next[v] = d_cur[v];
 
-				for (int u : graph.getPredecessors(v)) {
-					final double c = graph.getEdgeWeight(u, v);
-	
-					/* update the minimum distance */
-					if (d_cur[u] + c < d_next[v]) {
-						d_next[v] = d_cur[u] + c;
-						changed = true;
-					}
-				}
+				relaxation.v = v;
+				graph.forEachPredecessor(v, relaxation);
 			}
 
 			/* swap both array */
@@ -59,7 +428,7 @@ public class BellmanFord {
 			d_next = d_tmp;
 			
 			/* abort if nothing has changed */
-			if (!changed) {
+			if (!relaxation.changed) {
 				break;
 			}
 		}
@@ -67,4 +436,26 @@ public class BellmanFord {
 		return d_cur;
 	}
 
+	/**
+	 * Consumer updating the distance of vertex 'v' via the arcs (u, v).
+	 */
+	private static class Relaxation implements EdgeConsumer {
+		private double[] d_cur;
+		private double[] d_next;
+
+		/* vertex whose incoming edges are relaxed */
+		private int v;
+		/* flag whether any distance has changed during the current iteration */
+		private boolean changed;
+
+		@Override
+		public void accept(int u, double c) {
+			/* update the minimum distance */
+			if (this.d_cur[u] + c < this.d_next[this.v]) {
+				this.d_next[this.v] = this.d_cur[u] + c;
+				this.changed = true;
+			}
+		}
+	}
+
 }
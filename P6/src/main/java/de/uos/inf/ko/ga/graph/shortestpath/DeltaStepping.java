@@ -0,0 +1,490 @@
+package de.uos.inf.ko.ga.graph.shortestpath;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import de.uos.inf.ko.ga.graph.EdgeConsumer;
+import de.uos.inf.ko.ga.graph.Graph;
+import de.uos.inf.ko.ga.graph.util.ParallelLoop;
+
+/**
+ * Implementation of delta-stepping (Meyer and Sanders) for computing distances from some vertex
+ * to all other vertices in a graph with non-negative edge weights, using several threads.
+ *
+ * The vertices are kept in buckets of width delta according to their tentative distances, i.e.
+ * bucket i contains the vertices with distance in [i * delta, (i + 1) * delta). The buckets are
+ * processed in ascending order. Arcs of weight at most delta (light arcs) may lead back into the current
+ * bucket, so the light arcs of the vertices of the current bucket are relaxed repeatedly until the bucket
+ * stays empty; the heavy arcs of all vertices removed from the bucket are relaxed once afterwards.
+ * All vertices of a phase are relaxed in parallel, and the distances are updated with compare-and-set.
+ *
+ * With delta smaller than the minimum edge weight, the algorithm behaves like Dijkstra; with delta
+ * larger than all distances, it behaves like the queue-based Bellman-Ford. Larger values expose more
+ * parallelism at the cost of more relaxations.
+ */
+public class DeltaStepping {
+
+	/* states of the vertices while repairing the parents */
+	private static final byte PENDING = 1;
+	private static final byte RESOLVED = 2;
+
+	/**
+	 * Computes distances to all vertices in a graph starting at a certain vertex,
+	 * using an automatically chosen delta and the common fork-join pool.
+	 * The distances returned is Double.POSITIVE_INFINITY if a vertex is not
+	 * reachable from the start vertex.
+	 * @param graph Input graph with non-negative edge weights
+	 * @param start Start vertex for the computation of the distances
+	 * @return Array containing the distance d[v] from the start node for each vertex v
+	 */
+	public static double[] shortestPaths(Graph graph, int start) {
+		return shortestPaths(graph, start, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Computes distances to all vertices in a graph starting at a certain vertex,
+	 * using an automatically chosen delta.
+	 * @param graph Input graph with non-negative edge weights
+	 * @param start Start vertex for the computation of the distances
+	 * @param pool  Pool executing the relaxations
+	 * @return Array containing the distance d[v] from the start node for each vertex v
+	 * @see #autoDelta(Graph)
+	 */
+	public static double[] shortestPaths(Graph graph, int start, ForkJoinPool pool) {
+		return shortestPaths(graph, start, autoDelta(graph), pool);
+	}
+
+	/**
+	 * Computes distances to all vertices in a graph starting at a certain vertex.
+	 * @param graph Input graph with non-negative edge weights
+	 * @param start Start vertex for the computation of the distances
+	 * @param delta Width of the buckets
+	 * @param pool  Pool executing the relaxations
+	 * @return Array containing the distance d[v] from the start node for each vertex v
+	 */
+	public static double[] shortestPaths(Graph graph, int start, double delta, ForkJoinPool pool) {
+		return run(graph, start, delta, pool, null, null);
+	}
+
+	/**
+	 * Computes distances to all vertices in a graph starting at a certain vertex, together with the parent
+	 * of each vertex on a shortest path, using an automatically chosen delta and the common fork-join pool.
+	 * @param graph Input graph with non-negative edge weights
+	 * @param start Start vertex for the computation of the distances
+	 * @return Shortest-path tree rooted at the start vertex
+	 */
+	public static ShortestPathTree shortestPathTree(Graph graph, int start) {
+		return shortestPathTree(graph, start, autoDelta(graph), ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Computes distances to all vertices in a graph starting at a certain vertex, together with the parent
+	 * of each vertex on a shortest path. The parent of a vertex and the weight of the arc from it are written
+	 * by the thread whose compare-and-set has decreased the distance of the vertex. Since two threads may
+	 * decrease the same distance at the same time, the parent written last may belong to the larger of both
+	 * distances; such parents are detected afterwards and replaced, see Search.repairParents.
+	 * @param graph Input graph with non-negative edge weights
+	 * @param start Start vertex for the computation of the distances
+	 * @param delta Width of the buckets
+	 * @param pool  Pool executing the relaxations
+	 * @return Shortest-path tree rooted at the start vertex
+	 */
+	public static ShortestPathTree shortestPathTree(Graph graph, int start, double delta, ForkJoinPool pool) {
+		final int[] parent = new int[graph.getVertexCount()];
+		final double[] parentWeight = new double[graph.getVertexCount()];
+		Arrays.fill(parent, ShortestPathTree.NONE);
+		final double[] dist = run(graph, start, delta, pool, parent, parentWeight);
+		return new ShortestPathTree(start, dist, parent, parentWeight);
+	}
+
+	/**
+	 * Delta-stepping, storing the parent of each vertex in parent and the weight of the arc from it
+	 * in parentWeight if they are not null.
+	 */
+	private static double[] run(Graph graph, int start, double delta, ForkJoinPool pool, int[] parent, double[] parentWeight) {
+		if (!(delta > 0.0) || Double.isInfinite(delta)) {
+			throw new IllegalArgumentException("delta must be positive and finite");
+		}
+
+		final int n = graph.getVertexCount();
+		if ((start < 0) || (start >= n)) {
+			throw new IllegalArgumentException("invalid start vertex");
+		}
+
+		final Search search = new Search(graph, delta, pool, parent, parentWeight);
+		search.run(start);
+		if (parent != null) {
+			search.repairParents();
+		}
+
+		final double[] dist = new double[n];
+		for (int v = 0; v < n; ++v) {
+			dist[v] = search.dist(v);
+		}
+
+		return dist;
+	}
+
+	/**
+	 * Chooses delta as the maximum edge weight divided by the average out-degree of the graph.
+	 * In graphs with random weights, a vertex then has about one light arc on average,
+	 * which balances the number of phases against the number of repeated relaxations.
+	 * @param graph Input graph with non-negative edge weights
+	 * @return width of the buckets
+	 */
+	public static double autoDelta(Graph graph) {
+		final int n = graph.getVertexCount();
+
+		final double[] maxWeight = { 0.0 };
+		final long[] arcs = { 0 };
+		for (int u = 0; u < n; ++u) {
+			graph.forEachSuccessor(u, (v, weight) -> {
+				if (weight < 0.0) {
+					throw new IllegalArgumentException("delta-stepping requires non-negative edge weights");
+				}
+				maxWeight[0] = Math.max(maxWeight[0], weight);
+				arcs[0]++;
+			});
+		}
+
+		if (maxWeight[0] == 0.0) {
+			/* all distances are 0 or infinite; any width works */
+			return 1.0;
+		}
+
+		final double degree = Math.max(1.0, (double) arcs[0] / n);
+		return maxWeight[0] / degree;
+	}
+
+	/**
+	 * State of a single delta-stepping computation.
+	 */
+	private static class Search {
+		private final Graph graph;
+		private final double delta;
+		private final ForkJoinPool pool;
+
+		/* tentative distances as bits of non-negative doubles, which compare like the doubles */
+		private final AtomicLongArray dist;
+		/* non-empty buckets by index; may contain vertices that have moved to a smaller bucket since */
+		private final TreeMap<Long, IntList> buckets = new TreeMap<>();
+
+		/* marks for removing duplicates from the vertices of a phase and from the settled vertices */
+		private final boolean[] inPhase;
+		private final boolean[] inSettled;
+		/* parent of each vertex and weight of the arc from it, or null if the parents are not recorded */
+		private final int[] parent;
+		private final double[] parentWeight;
+		/* vertices whose parent may have been written by a thread whose distance has been overtaken */
+		private final boolean[] suspect;
+
+		Search(Graph graph, double delta, ForkJoinPool pool, int[] parent, double[] parentWeight) {
+			final int n = graph.getVertexCount();
+			this.graph = graph;
+			this.delta = delta;
+			this.pool = pool;
+			this.parent = parent;
+			this.parentWeight = parentWeight;
+			this.suspect = (parent != null) ? new boolean[n] : null;
+			this.dist = new AtomicLongArray(n);
+			this.inPhase = new boolean[n];
+			this.inSettled = new boolean[n];
+
+			final long infinity = Double.doubleToRawLongBits(Double.POSITIVE_INFINITY);
+			for (int v = 0; v < n; ++v) {
+				this.dist.set(v, infinity);
+			}
+		}
+
+		double dist(int v) {
+			return Double.longBitsToDouble(this.dist.get(v));
+		}
+
+		private long bucketOf(int v) {
+			return (long) Math.floor(this.dist(v) / this.delta);
+		}
+
+		private void addToBucket(int v) {
+			this.buckets.computeIfAbsent(this.bucketOf(v), b -> new IntList()).add(v);
+		}
+
+		void run(int start) {
+			this.dist.set(start, Double.doubleToRawLongBits(0.0));
+			this.addToBucket(start);
+
+			final IntList phase = new IntList();
+			final IntList settled = new IntList();
+
+			while (!this.buckets.isEmpty()) {
+				final Map.Entry<Long, IntList> entry = this.buckets.pollFirstEntry();
+				final long i = entry.getKey();
+				IntList bucket = entry.getValue();
+
+				settled.clear();
+
+				while (bucket != null) {
+					/* take the vertices that are still in bucket i, without duplicates */
+					phase.clear();
+					for (int k = 0; k < bucket.size; ++k) {
+						final int v = bucket.values[k];
+						if (!this.inPhase[v] && (this.bucketOf(v) == i)) {
+							this.inPhase[v] = true;
+							phase.add(v);
+						}
+					}
+
+					for (int k = 0; k < phase.size; ++k) {
+						final int v = phase.values[k];
+						this.inPhase[v] = false;
+						if (!this.inSettled[v]) {
+							this.inSettled[v] = true;
+							settled.add(v);
+						}
+					}
+
+					/* light arcs may lead back into bucket i, which is then processed again */
+					this.relax(phase, true);
+					bucket = this.buckets.remove(i);
+				}
+
+				/* the distances of the vertices removed from bucket i are final now; heavy arcs lead to later buckets */
+				for (int k = 0; k < settled.size; ++k) {
+					this.inSettled[settled.values[k]] = false;
+				}
+				this.relax(settled, false);
+			}
+		}
+
+		/**
+		 * Relaxes the light or heavy arcs leaving the given vertices in parallel
+		 * and adds the vertices whose distances have decreased to their buckets.
+		 */
+		private void relax(IntList vertices, boolean light) {
+			final ConcurrentLinkedQueue<IntList> improved = new ConcurrentLinkedQueue<>();
+
+			ParallelLoop.forRange(this.pool, 0, vertices.size, (first, last) -> {
+				final Relaxation relaxation = new Relaxation(this.dist, this.delta, light, this.parent, this.parentWeight, this.suspect);
+				for (int k = first; k < last; ++k) {
+					final int u = vertices.values[k];
+					relaxation.u = u;
+					relaxation.du = this.dist(u);
+					this.graph.forEachSuccessor(u, relaxation);
+				}
+				if (relaxation.improved.size > 0) {
+					improved.add(relaxation.improved);
+				}
+			});
+
+			for (IntList list : improved) {
+				for (int k = 0; k < list.size; ++k) {
+					this.addToBucket(list.values[k]);
+				}
+			}
+		}
+
+		/**
+		 * Replaces the parents that have been overwritten by a thread with a larger distance, such that the
+		 * parents form a tree. The final distance of each vertex has been computed as d(u) + w(u, v) for some
+		 * predecessor u with its final distance d(u), so an exact comparison finds such a predecessor. Choosing
+		 * any of them may close a cycle of arcs along which the distance does not grow, e.g. of zero-weight arcs.
+		 *
+		 * Therefore, a parent is only kept if it has not been overwritten concurrently, matches the distance,
+		 * and has a smaller distance than the vertex; following such parents, the distance strictly decreases.
+		 * The other vertices first look for a matching predecessor with a smaller distance in parallel. The
+		 * vertices still pending then take a matching predecessor that is not pending, and the vertices reached
+		 * this way pass their distance on to pending successors in breadth-first order. Since each of these
+		 * parents has been resolved before its child, no cycle can be closed. Every pending vertex is resolved:
+		 * the vertex that first reached its distance did so from a vertex with a smaller distance or the root.
+		 */
+		void repairParents() {
+			final int n = this.parent.length;
+			final byte[] state = new byte[n];
+			final ConcurrentLinkedQueue<IntList> pendingLists = new ConcurrentLinkedQueue<>();
+
+			ParallelLoop.forRange(this.pool, 0, n, (first, last) -> {
+				final ParentSearch search = new ParentSearch(this.dist, state, true);
+				final IntList pending = new IntList();
+				for (int v = first; v < last; ++v) {
+					final int u = this.parent[v];
+					if (u == ShortestPathTree.NONE) {
+						continue;
+					}
+
+					final double dv = this.dist(v);
+					final double du = this.dist(u);
+					if (!this.suspect[v] && (du + this.parentWeight[v] == dv) && (du < dv)) {
+						continue;
+					}
+
+					search.dv = dv;
+					search.found = ShortestPathTree.NONE;
+					this.graph.forEachPredecessor(v, search);
+					if (search.found != ShortestPathTree.NONE) {
+						this.parent[v] = search.found;
+						this.parentWeight[v] = search.weight;
+					} else {
+						state[v] = PENDING;
+						pending.add(v);
+					}
+				}
+				if (pending.size > 0) {
+					pendingLists.add(pending);
+				}
+			});
+
+			/* vertices resolved from a vertex with the same distance, in the order of their resolution */
+			final IntList queue = new IntList();
+			final ParentSearch search = new ParentSearch(this.dist, state, false);
+			for (IntList pending : pendingLists) {
+				for (int k = 0; k < pending.size; ++k) {
+					final int v = pending.values[k];
+					search.dv = this.dist(v);
+					search.found = ShortestPathTree.NONE;
+					this.graph.forEachPredecessor(v, search);
+					if (search.found != ShortestPathTree.NONE) {
+						this.resolve(v, search.found, search.weight, state, queue);
+					}
+				}
+			}
+
+			for (int k = 0; k < queue.size; ++k) {
+				final int u = queue.values[k];
+				final double du = this.dist(u);
+				this.graph.forEachSuccessor(u, (v, weight) -> {
+					if ((state[v] == PENDING) && (du + weight == this.dist(v))) {
+						this.resolve(v, u, weight, state, queue);
+					}
+				});
+			}
+		}
+
+		private void resolve(int v, int u, double weight, byte[] state, IntList queue) {
+			this.parent[v] = u;
+			this.parentWeight[v] = weight;
+			state[v] = RESOLVED;
+			queue.add(v);
+		}
+	}
+
+	/**
+	 * Consumer looking for a predecessor u of a vertex with distance dv such that d(u) + w(u, v) = dv,
+	 * and either d(u) < dv or u is not pending.
+	 */
+	private static class ParentSearch implements EdgeConsumer {
+		private final AtomicLongArray dist;
+		private final byte[] state;
+		private final boolean smaller;
+
+		private double dv;
+		private int found;
+		private double weight;
+
+		ParentSearch(AtomicLongArray dist, byte[] state, boolean smaller) {
+			this.dist = dist;
+			this.state = state;
+			this.smaller = smaller;
+		}
+
+		@Override
+		public void accept(int u, double weight) {
+			if (this.found != ShortestPathTree.NONE) {
+				return;
+			}
+
+			final double du = Double.longBitsToDouble(this.dist.get(u));
+			if ((du + weight == this.dv) && (this.smaller ? (du < this.dv) : (this.state[u] != PENDING))) {
+				this.found = u;
+				this.weight = weight;
+			}
+		}
+	}
+
+	/**
+	 * Consumer relaxing the light or the heavy arcs leaving a vertex with distance du.
+	 */
+	private static class Relaxation implements EdgeConsumer {
+		private final AtomicLongArray dist;
+		private final double delta;
+		private final boolean light;
+
+		/* parent of each vertex, weight of the arc from it and suspect marks, or null if the parents are not recorded */
+		private final int[] parent;
+		private final double[] parentWeight;
+		private final boolean[] suspect;
+
+		/* vertices whose distance has been decreased by this consumer */
+		private final IntList improved = new IntList();
+
+		/* vertex whose arcs are relaxed and its distance */
+		private int u;
+		private double du;
+
+		Relaxation(AtomicLongArray dist, double delta, boolean light, int[] parent, double[] parentWeight, boolean[] suspect) {
+			this.dist = dist;
+			this.delta = delta;
+			this.light = light;
+			this.parent = parent;
+			this.parentWeight = parentWeight;
+			this.suspect = suspect;
+		}
+
+		@Override
+		public void accept(int v, double weight) {
+			if ((weight <= this.delta) != this.light) {
+				return;
+			}
+
+			if (weight < 0.0) {
+				throw new IllegalArgumentException("delta-stepping requires non-negative edge weights");
+			}
+
+			final long bits = Double.doubleToRawLongBits(this.du + weight);
+			while (true) {
+				final long current = this.dist.get(v);
+				if (bits >= current) {
+					return;
+				}
+
+				if (this.dist.compareAndSet(v, current, bits)) {
+					if (this.parent != null) {
+						this.parent[v] = this.u;
+						this.parentWeight[v] = weight;
+						/*
+						 * the volatile write of the unchanged distance orders the parent before the writes of threads
+						 * decreasing the distance later; if it fails, another thread has decreased the distance between
+						 * both compare-and-set operations and its parent may have been overwritten by this one
+						 */
+						if (!this.dist.compareAndSet(v, bits, bits)) {
+							this.suspect[v] = true;
+						}
+					}
+					this.improved.add(v);
+					return;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Growable list of ints.
+	 */
+	private static class IntList {
+		private int[] values = new int[16];
+		private int size = 0;
+
+		void add(int value) {
+			if (this.size == this.values.length) {
+				this.values = Arrays.copyOf(this.values, 2 * this.size);
+			}
+			this.values[this.size++] = value;
+		}
+
+		void clear() {
+			this.size = 0;
+		}
+	}
+}
@@ -1,12 +1,16 @@
 package de.uos.inf.ko.ga.graph.shortestpath;
 
-import java.util.Comparator;
+import java.util.Arrays;
 import java.util.LinkedList;
-import java.util.PriorityQueue;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
 
+import de.uos.inf.ko.ga.graph.EdgeConsumer;
 import de.uos.inf.ko.ga.graph.Graph;
 import de.uos.inf.ko.ga.graph.impl.DirectedGraphList;
+import de.uos.inf.ko.ga.graph.util.IndexedHeap;
+import de.uos.inf.ko.ga.graph.util.ParallelLoop;
 
 /**
  * Implementation of Dijkstra for computing distances from some vertex
@@ -19,88 +23,253 @@ public class Dijkstra {
 
 	private static final double EPS = 0.0001;
 
+	/**
+	 * Consumer receiving the result of one run of a batch.
+	 */
+	@FunctionalInterface
+	public interface SourceConsumer {
+		/**
+		 * Receives the result of the run from a source vertex. This method may be called concurrently by several threads,
+		 * each time with a different workspace. The workspace is reused for another source after this method returns,
+		 * so the distances have to be read or copied here.
+		 * @param source    source vertex
+		 * @param workspace workspace containing the distances from the source
+		 */
+		void accept(int source, DijkstraWorkspace workspace);
+	}
+
+	/**
+	 * Body of the loop run by forEachSource.
+	 */
+	@FunctionalInterface
+	interface IndexTask {
+		/**
+		 * @param index     index between 0 and count - 1
+		 * @param workspace workspace that is not used by any other thread during this call
+		 */
+		void run(int index, DijkstraWorkspace workspace);
+	}
+
 	/**
 	 * Computes distances to all vertices in a graph starting at a certain vertex.
 	 * The distances returned is Double.POSITIVE_INFINITY if a vertex is not
 	 * reachable from the start vertex.
+	 * If all edge weights are non-negative integers, a bucket queue or a radix heap is used
+	 * instead of a heap (see {@link IntegerDijkstra}).
 	 * @param graph Input graph
 	 * @param start Start vertex for the computation of the distances
 	 * @return Array containing the distance d[v] from the start node for each vertex v
 	 */
 	public static double[] shortestPaths(Graph graph, int start) {
-		final int n = graph.getVertexCount();
+		if (graph.getMaxIntegerWeight() >= 0) {
+			return IntegerDijkstra.shortestPaths(graph, start);
+		}
+		return shortestPaths(graph, start, IndexedHeap.DEFAULT_ARITY);
+	}
 
-		final boolean seen[] = new boolean[n];
-		final double dist[] = new double[n];
+	/**
+	 * Computes distances to all vertices in a graph starting at a certain vertex,
+	 * using a d-ary indexed heap with the given arity as priority queue.
+	 * The distances returned is Double.POSITIVE_INFINITY if a vertex is not
+	 * reachable from the start vertex.
+	 * @param graph Input graph
+	 * @param start Start vertex for the computation of the distances
+	 * @param arity Arity of the heap (2, 4 or 8)
+	 * @return Array containing the distance d[v] from the start node for each vertex v
+	 */
+	public static double[] shortestPaths(Graph graph, int start, int arity) {
+		return search(graph, start, arity, false, null, null);
+	}
 
-		/* list of edges going out of the set of visited vertices */
-		final WeightedEdge[] outgoing = new WeightedEdge[n];
-		
-		/* priority queue sorted by the weights of the edges in ascending order */
-		final PriorityQueue<WeightedEdge> queueOutgoing = new PriorityQueue<>(n, new Comparator<WeightedEdge>() {
-			@Override
-			public int compare(WeightedEdge o1, WeightedEdge o2) {
-				if (o1.getWeight() < o2.getWeight()) {
-					return -1;
-				} else if (o1.getWeight() > o2.getWeight()) {
-					return 1;
-				}
+	/**
+	 * Computes distances to all vertices in a graph starting at a certain vertex,
+	 * together with the parent of each vertex on a shortest path, which is recorded during the search.
+	 * @param graph Input graph
+	 * @param start Start vertex for the computation of the distances
+	 * @return Shortest-path tree rooted at the start vertex
+	 */
+	public static ShortestPathTree shortestPathTree(Graph graph, int start) {
+		final int[] parent = new int[graph.getVertexCount()];
+		final double[] parentWeight = new double[graph.getVertexCount()];
+		Arrays.fill(parent, ShortestPathTree.NONE);
+		final double[] dist = search(graph, start, IndexedHeap.DEFAULT_ARITY, false, parent, parentWeight);
+		return new ShortestPathTree(start, dist, parent, parentWeight);
+	}
+
+	/**
+	 * Computes distances from each of several source vertices using the common fork-join pool
+	 * and passes them to a consumer, one source vertex at a time.
+	 * @param graph    Input graph
+	 * @param sources  Source vertices
+	 * @param consumer Consumer receiving the distances from each source vertex
+	 */
+	public static void shortestPaths(Graph graph, int[] sources, SourceConsumer consumer) {
+		shortestPaths(graph, sources, ForkJoinPool.commonPool(), consumer);
+	}
+
+	/**
+	 * Computes distances from each of several source vertices and passes them to a consumer, one source vertex at a time.
+	 * The runs are executed by the workers of a fork-join pool, each in a workspace that is reused for the following runs of
+	 * the same worker; hence, only one workspace per worker is allocated, and the runs themselves do not allocate memory.
+	 * The consumer is called from these workers; the method returns after all sources have been processed.
+	 * @param graph    Input graph
+	 * @param sources  Source vertices
+	 * @param pool     Pool executing the runs
+	 * @param consumer Consumer receiving the distances from each source vertex
+	 */
+	public static void shortestPaths(Graph graph, int[] sources, ForkJoinPool pool, SourceConsumer consumer) {
+		forEachSource(graph, sources.length, pool, (i, workspace) -> {
+			workspace.run(sources[i]);
+			consumer.accept(sources[i], workspace);
+		});
+	}
+
+	/**
+	 * Calls a body for the indices 0, ..., count - 1 in parallel, passing a workspace that is not used by any other thread
+	 * at the same time. Idle workspaces are kept in a queue, so that at most one workspace per worker is allocated.
+	 * @param body receives an index and a workspace
+	 */
+	static void forEachSource(Graph graph, int count, ForkJoinPool pool, IndexTask body) {
+		final ConcurrentLinkedQueue<DijkstraWorkspace> idle = new ConcurrentLinkedQueue<>();
+
+		ParallelLoop.forRange(pool, 0, count, 1, (first, last) -> {
+			DijkstraWorkspace workspace = idle.poll();
+			if (workspace == null) {
+				workspace = new DijkstraWorkspace(graph);
+			}
 
-				return 0;
+			for (int i = first; i < last; ++i) {
+				body.run(i, workspace);
 			}
+
+			idle.add(workspace);
 		});
+	}
+
+	/**
+	 * Computes the distances from all vertices of a graph to a certain vertex by searching backwards along the
+	 * incoming arcs. For undirected graphs, these are the distances from the vertex.
+	 * The distance is Double.POSITIVE_INFINITY if the target vertex is not reachable from a vertex.
+	 * @param graph  Input graph
+	 * @param target Vertex to which the distances are computed
+	 * @return Array containing the distance d[v] from each vertex v to the target vertex
+	 */
+	static double[] distancesTo(Graph graph, int target) {
+		return search(graph, target, IndexedHeap.DEFAULT_ARITY, graph.isDirected(), null, null);
+	}
+
+	/**
+	 * Runs Dijkstra's algorithm from a root vertex along the outgoing arcs, or along the incoming arcs if reverse is set.
+	 * If parent is not null, the vertex from which each vertex has been reached last is stored in it,
+	 * and the weight of the corresponding arc in parentWeight.
+	 */
+	private static double[] search(Graph graph, int start, int arity, boolean reverse, int[] parent, double[] parentWeight) {
+		final int n = graph.getVertexCount();
+
+		final boolean seen[] = new boolean[n];
+		final double dist[] = new double[n];
+
+		/* priority queue of the vertices reachable from the set of visited vertices, sorted by their tentative distances;
+		 * each vertex is contained at most once, so that updating a distance is a decrease-key operation in O(log n) */
+		final IndexedHeap queue = new IndexedHeap(n, arity);
 
 		for (int v = 0; v < n; ++v) {
 			dist[v] = Double.POSITIVE_INFINITY;
 		}
 		
-		seen[start] = true;
 		dist[start] = 0.0;
-		
-		/* the start vertex is visited first; insert all outgoing edges into the priority queue */
-		for (int v : graph.getSuccessors(start)) {
-			final double distance = graph.getEdgeWeight(start, v);
-			outgoing[v] = new WeightedEdge(start, v, distance);
-			queueOutgoing.add(outgoing[v]);
-		}
+		queue.insert(start, 0.0);
 
-		while (!queueOutgoing.isEmpty()) {
-			/* get the cheapest edge that leaves the set of visited vertices */
-			final WeightedEdge edge = queueOutgoing.poll();
-			final int u = edge.getStart();
-			final int v = edge.getEnd();
+		/* a single consumer is reused for relaxing the outgoing edges of all visited vertices */
+		final Relaxation relaxation = new Relaxation(seen, dist, queue, parent, parentWeight);
 
-			/* the shortest path from 'start' to 'v' passes through 'u' */
+		while (!queue.isEmpty()) {
+			/* get the closest vertex that has not been visited yet; its tentative distance is final */
+			final int v = queue.poll();
 			seen[v] = true;
-			dist[v] = dist[u] + graph.getEdgeWeight(u, v);
 
 			/* test whether the distances to the successors of 'v' can be updated */
-			for (int w : graph.getSuccessors(v)) {
-				if (!seen[w]) {
-					/* vertex 'w' has not been visited yet */
-					final double weight = graph.getEdgeWeight(v, w);
-					final double distance = dist[v] + weight;
-
-					if (outgoing[w] != null) {
-						/* vertex 'w' is aleady reachable via some other vertex */
-						if (distance < outgoing[w].getWeight()) {
-							/* path from 'start' to 'v' to 'w' is shorter than the path that was known before */
-							queueOutgoing.remove(outgoing[w]);
-							outgoing[w] = new WeightedEdge(v, w, distance);
-							queueOutgoing.add(outgoing[w]);
-						}
-					} else {
-						/* vertex 'w' is currently only reachable via 'u'; add a new entry to the priority queue */
-						outgoing[w] = new WeightedEdge(v, w, distance);
-						queueOutgoing.add(outgoing[w]);
-					}
-				}
+			relaxation.v = v;
+			if (reverse) {
+				graph.forEachPredecessor(v, relaxation);
+			} else {
+				graph.forEachSuccessor(v, relaxation);
 			}
 		}
 
 		return dist;
 	}
+
+	/**
+	 * Consumer updating the tentative distances of the successors of the vertex 'v' that has just been visited.
+	 */
+	private static class Relaxation implements EdgeConsumer {
+		private final boolean[] seen;
+		private final double[] dist;
+		private final IndexedHeap queue;
+		/* parent of each vertex and weight of the arc from it, or null if the parents are not recorded */
+		private final int[] parent;
+		private final double[] parentWeight;
+
+		/* vertex whose outgoing edges are relaxed */
+		private int v;
+
+		public Relaxation(boolean[] seen, double[] dist, IndexedHeap queue, int[] parent, double[] parentWeight) {
+			this.seen = seen;
+			this.dist = dist;
+			this.queue = queue;
+			this.parent = parent;
+			this.parentWeight = parentWeight;
+		}
+
+		@Override
+		public void accept(int w, double weight) {
+			if (this.seen[w]) {
+				return;
+			}
+
+			/* vertex 'w' has not been visited yet */
+			final double distance = this.dist[this.v] + weight;
+
+			if (distance < this.dist[w]) {
+				/* path from 'start' to 'v' to 'w' is shorter than the path that was known before */
+				this.dist[w] = distance;
+				this.queue.insertOrDecrease(w, distance);
+				if (this.parent != null) {
+					this.parent[w] = this.v;
+					this.parentWeight[w] = weight;
+				}
+			}
+		}
+	}
 	
+	/**
+	 * Computes a shortest path from a start vertex to a target vertex. The search stops as soon as the
+	 * target vertex is visited, so only the vertices closer to the start vertex than the target are visited.
+	 * Each call allocates the search state; for many queries on the same graph, a DijkstraQuery should be reused.
+	 * @param graph  Input graph
+	 * @param start  Start vertex
+	 * @param target Target vertex
+	 * @return Distance and vertices of a shortest path, or a path without vertices if the target is not reachable
+	 * @see DijkstraQuery#shortestPath(int, int)
+	 */
+	public static Path shortestPath(Graph graph, int start, int target) {
+		return new DijkstraQuery(graph).shortestPath(start, target);
+	}
+
+	/**
+	 * Computes a shortest path from a start vertex to a target vertex with bidirectional search.
+	 * Each call allocates the search state; for many queries on the same graph, a DijkstraQuery should be reused.
+	 * @param graph  Input graph
+	 * @param start  Start vertex
+	 * @param target Target vertex
+	 * @return Distance and vertices of a shortest path, or a path without vertices if the target is not reachable
+	 * @see DijkstraQuery#shortestPathBidirectional(int, int)
+	 */
+	public static Path shortestPathBidirectional(Graph graph, int start, int target) {
+		return new DijkstraQuery(graph).shortestPathBidirectional(start, target);
+	}
+
 	/**
 	 * Constructs a directed shortest-path tree from the distances of a shortest-path computation.
 	 * This method determines the edges used by shortest paths between the start vertex and
@@ -110,6 +279,7 @@ public class Dijkstra {
 	 * @param start Start vertex
 	 * @param dist distances of the vertices from the start vertex
 	 * @return Graph containing edges of the shortest paths starting at the start vertex
+	 * @see #shortestPathTree(Graph, int), which records the tree during the search instead
 	 */
 	public static Graph shortestPathGraphFromDistances(Graph graph, int start, double dist[]) {
 		final int n = graph.getVertexCount();
@@ -130,42 +300,18 @@ public class Dijkstra {
 			final int u = queue.poll();
 
 			/* determine the neighbors of 'u' that are reachable from 'start' via 'u' in a shortest path */
-			for (final int v : graph.getSuccessors(u)) {
+			graph.forEachSuccessor(u, (v, weight) -> {
 				if (!seen[v]) {
 					/* test whether the value dist[v] obtained its value from the value dist[u] */
-					if (Math.abs(dist[u] + graph.getEdgeWeight(u, v) - dist[v]) <= EPS) {
+					if (Math.abs(dist[u] + weight - dist[v]) <= EPS) {
 						seen[v] = true;
-						shortestPathTree.addEdge(u, v, graph.getEdgeWeight(u, v));
+						shortestPathTree.addEdge(u, v, weight);
 						queue.add(v);
 					}
 				}
-			}
+			});
 		}
 		
 		return shortestPathTree;
 	}
-
-	private static class WeightedEdge {
-		private final int u;
-		private final int v;
-		private final double weight;
-		
-		public WeightedEdge(int u, int v, double weight) {
-			this.u = u;
-			this.v = v;
-			this.weight = weight;
-		}
-		
-		public int getStart() {
-			return this.u;
-		}
-		
-		public int getEnd() {
-			return this.v;
-		}
-		
-		public double getWeight() {
-			return this.weight;
-		}
-	}
 }
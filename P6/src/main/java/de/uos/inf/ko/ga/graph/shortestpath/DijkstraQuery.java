@@ -0,0 +1,241 @@
+package de.uos.inf.ko.ga.graph.shortestpath;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import de.uos.inf.ko.ga.graph.EdgeConsumer;
+import de.uos.inf.ko.ga.graph.Graph;
+import de.uos.inf.ko.ga.graph.util.IndexedHeap;
+
+/**
+ * Reusable engine for point-to-point queries with Dijkstra on the same graph, either by a single search that
+ * stops at the target or by a bidirectional search. The arrays and heaps of both directions are allocated once
+ * by the constructor, and the distances are reset between queries by incrementing a version number, so that a
+ * query only costs time for the vertices it visits.
+ *
+ * An instance is not thread-safe; concurrent queries need one instance per thread.
+ */
+public class DijkstraQuery {
+
+	private static final int NONE = -1;
+
+	private final Search forward;
+	private final Search backward;
+
+	/**
+	 * @param graph Input graph with non-negative edge weights
+	 */
+	public DijkstraQuery(Graph graph) {
+		this.forward = new Search(graph, true);
+		this.backward = new Search(graph, false);
+		this.forward.other = this.backward;
+		this.backward.other = this.forward;
+	}
+
+	/**
+	 * Computes a shortest path from a start vertex to a target vertex. The search stops as soon as the
+	 * target vertex is visited, so only the vertices closer to the start vertex than the target are visited.
+	 * @param start  Start vertex
+	 * @param target Target vertex
+	 * @return Distance and vertices of a shortest path, or a path without vertices if the target is not reachable
+	 */
+	public Path shortestPath(int start, int target) {
+		this.check(start, target);
+		this.forward.reset(start, false);
+		this.backward.settled = 0;
+
+		while (!this.forward.queue.isEmpty()) {
+			if (this.forward.settle() == target) {
+				return new Path(this.forward.dist[target], this.forward.pathTo(target));
+			}
+		}
+
+		return Path.unreachable();
+	}
+
+	/**
+	 * Computes a shortest path from a start vertex to a target vertex with bidirectional search.
+	 * A forward search from the start vertex over the outgoing arcs and a backward search from the target
+	 * vertex over the incoming arcs are run alternately, always advancing the search whose next vertex is
+	 * closer. Whenever an arc connects both searches, the length of the path through this arc is recorded.
+	 * As soon as the sum of the distances of the next vertices of both searches is at least the length mu
+	 * of the shortest such path, no shorter path can exist and mu is the distance. Both searches together
+	 * usually visit far fewer vertices than a single search that stops at the target.
+	 * @param start  Start vertex
+	 * @param target Target vertex
+	 * @return Distance and vertices of a shortest path, or a path without vertices if the target is not reachable
+	 */
+	public Path shortestPathBidirectional(int start, int target) {
+		this.check(start, target);
+		final Search forward = this.forward;
+		final Search backward = this.backward;
+		forward.reset(start, true);
+		backward.reset(target, true);
+
+		/* the start vertex meets the target vertex if both are the same */
+		if (start == target) {
+			return new Path(0.0, forward.pathTo(start));
+		}
+
+		while (!forward.queue.isEmpty() && !backward.queue.isEmpty()) {
+			final double mu = Math.min(forward.mu, backward.mu);
+			if (forward.queue.peekKey() + backward.queue.peekKey() >= mu) {
+				break;
+			}
+
+			if (forward.queue.peekKey() <= backward.queue.peekKey()) {
+				forward.settle();
+			} else {
+				backward.settle();
+			}
+		}
+
+		/* the best meeting point recorded by either search */
+		final Search best = (forward.mu <= backward.mu) ? forward : backward;
+		if (best.meet == NONE) {
+			return Path.unreachable();
+		}
+
+		final List<Integer> vertices = forward.pathTo(best.meet);
+		final List<Integer> tail = backward.pathTo(best.meet);
+		/* the backward path leads from the target to the meeting vertex, which is already contained */
+		for (int i = tail.size() - 2; i >= 0; --i) {
+			vertices.add(tail.get(i));
+		}
+
+		return new Path(best.mu, vertices);
+	}
+
+	/**
+	 * @return number of vertices visited by the last query, in both directions
+	 */
+	public int getSettledCount() {
+		return this.forward.settled + this.backward.settled;
+	}
+
+	private void check(int start, int target) {
+		final int n = this.forward.dist.length;
+		if ((start < 0) || (start >= n) || (target < 0) || (target >= n)) {
+			throw new IllegalArgumentException("invalid start or target vertex");
+		}
+	}
+
+	/**
+	 * State of a search in one direction that stops early; relaxes the arcs of the vertex 'v' that has just been visited.
+	 */
+	private static class Search implements EdgeConsumer {
+		private final Graph graph;
+		/* true for a search over outgoing arcs, false for a search over incoming arcs */
+		private final boolean forward;
+
+		/* distance and parent are only valid for vertices whose version is the current version;
+		 * a vertex has been visited if its settled version is the current version */
+		private final double[] dist;
+		private final int[] parent;
+		private final int[] versions;
+		private final int[] settledVersions;
+		private final IndexedHeap queue;
+		private int version = 0;
+		private int settled;
+
+		/* search in the opposite direction */
+		private Search other;
+		/* whether the other search runs in the current query */
+		private boolean bidirectional;
+		/* length of the shortest path found via an arc between both searches, and the vertex where it meets the other search */
+		private double mu;
+		private int meet;
+
+		/* vertex whose arcs are relaxed */
+		private int v;
+
+		Search(Graph graph, boolean forward) {
+			final int n = graph.getVertexCount();
+			this.graph = graph;
+			this.forward = forward;
+			this.dist = new double[n];
+			this.parent = new int[n];
+			this.versions = new int[n];
+			this.settledVersions = new int[n];
+			this.queue = new IndexedHeap(n);
+		}
+
+		double dist(int w) {
+			return (this.versions[w] == this.version) ? this.dist[w] : Double.POSITIVE_INFINITY;
+		}
+
+		void reset(int source, boolean bidirectional) {
+			/* forget the previous query; the versions are only cleared when the counter overflows */
+			this.queue.clear();
+			if (this.version == Integer.MAX_VALUE) {
+				Arrays.fill(this.versions, 0);
+				Arrays.fill(this.settledVersions, 0);
+				this.version = 0;
+			}
+			this.version++;
+
+			this.settled = 0;
+			this.bidirectional = bidirectional;
+			this.mu = Double.POSITIVE_INFINITY;
+			this.meet = NONE;
+
+			this.dist[source] = 0.0;
+			this.parent[source] = NONE;
+			this.versions[source] = this.version;
+			this.queue.insert(source, 0.0);
+		}
+
+		/**
+		 * Visits the closest vertex that has not been visited yet and relaxes its arcs.
+		 * @return visited vertex
+		 */
+		int settle() {
+			this.v = this.queue.poll();
+			this.settledVersions[this.v] = this.version;
+			this.settled++;
+
+			if (this.forward) {
+				this.graph.forEachSuccessor(this.v, this);
+			} else {
+				this.graph.forEachPredecessor(this.v, this);
+			}
+
+			return this.v;
+		}
+
+		@Override
+		public void accept(int w, double weight) {
+			final double distance = this.dist[this.v] + weight;
+
+			if ((this.settledVersions[w] != this.version) && (distance < this.dist(w))) {
+				this.dist[w] = distance;
+				this.parent[w] = this.v;
+				this.versions[w] = this.version;
+				this.queue.insertOrDecrease(w, distance);
+			}
+
+			if (this.bidirectional) {
+				/* 'w' connects both searches if it has been reached by the other search */
+				final double total = this.dist(w) + this.other.dist(w);
+				if (total < this.mu) {
+					this.mu = total;
+					this.meet = w;
+				}
+			}
+		}
+
+		/**
+		 * @return vertices on the path from the source of this search to w, in the order of the search
+		 */
+		List<Integer> pathTo(int w) {
+			final List<Integer> path = new ArrayList<>();
+			for (int u = w; u != NONE; u = this.parent[u]) {
+				path.add(u);
+			}
+			Collections.reverse(path);
+			return path;
+		}
+	}
+}
@@ -0,0 +1,226 @@
+package de.uos.inf.ko.ga.graph.shortestpath;
+
+import java.util.Arrays;
+
+import de.uos.inf.ko.ga.graph.EdgeConsumer;
+import de.uos.inf.ko.ga.graph.Graph;
+import de.uos.inf.ko.ga.graph.util.IndexedHeap;
+
+/**
+ * Reusable state for running Dijkstra on the same graph many times, e.g. from many source vertices.
+ * All arrays and the heap are allocated once by the constructor, so that a run does not allocate any memory.
+ *
+ * Instead of refilling the arrays before each run, each vertex carries the number of the run in which its
+ * distance has been set; a distance belonging to an older run counts as infinite. Starting a run therefore
+ * takes constant time, and a run only touches the vertices it reaches. This makes the workspace particularly
+ * cheap for searches that stop early.
+ *
+ * The results of the last run can be read until the next run is started. A workspace is not thread-safe;
+ * concurrent runs need one workspace per thread.
+ */
+public class DijkstraWorkspace {
+
+	private final Graph graph;
+
+	/* tentative distances; only valid for vertices whose version is the current version */
+	private final double[] dist;
+	private final int[] versions;
+	/* vertices whose distance is final, in the order in which they have been visited */
+	private final int[] settled;
+	private final boolean[] isSettled;
+	private int settledCount = 0;
+
+	private final IndexedHeap queue;
+	private final Relaxation relaxation = new Relaxation();
+
+	private int version = 0;
+	private int source = -1;
+	/* potential of the current run, or null */
+	private double[] potential;
+
+	/**
+	 * Creates a workspace using a 4-ary heap.
+	 * @param graph Input graph with non-negative edge weights
+	 */
+	public DijkstraWorkspace(Graph graph) {
+		this(graph, IndexedHeap.DEFAULT_ARITY);
+	}
+
+	/**
+	 * @param graph Input graph with non-negative edge weights
+	 * @param arity Arity of the heap (2, 4 or 8)
+	 */
+	public DijkstraWorkspace(Graph graph, int arity) {
+		final int n = graph.getVertexCount();
+		this.graph = graph;
+		this.dist = new double[n];
+		this.versions = new int[n];
+		this.settled = new int[n];
+		this.isSettled = new boolean[n];
+		this.queue = new IndexedHeap(n, arity);
+	}
+
+	public Graph getGraph() {
+		return this.graph;
+	}
+
+	/**
+	 * @return source vertex of the last run
+	 */
+	public int getSource() {
+		return this.source;
+	}
+
+	/**
+	 * Computes the distances from a source vertex to all vertices.
+	 * @param source Start vertex for the computation of the distances
+	 */
+	public void run(int source) {
+		this.run(source, null);
+	}
+
+	/**
+	 * Computes the distances from a source vertex to all vertices with respect to the reduced weights
+	 * w(u, v) + p[u] - p[v], which must be non-negative; the distances are translated back when they are read.
+	 * @param source    Start vertex for the computation of the distances
+	 * @param potential Potential of each vertex, or null to use the weights of the graph as they are
+	 */
+	void run(int source, double[] potential) {
+		this.start(source, potential);
+		while (!this.queue.isEmpty()) {
+			this.settle();
+		}
+	}
+
+	/**
+	 * Computes the distance from a source vertex to a target vertex. The search stops as soon as the target is visited,
+	 * so afterwards only the distances of the visited vertices are final.
+	 * @param source Start vertex
+	 * @param target Target vertex
+	 * @return distance from source to target, or Double.POSITIVE_INFINITY if target is not reachable
+	 */
+	public double run(int source, int target) {
+		this.start(source, null);
+		while (!this.queue.isEmpty()) {
+			if (this.settle() == target) {
+				return this.dist[target];
+			}
+		}
+		return Double.POSITIVE_INFINITY;
+	}
+
+	/**
+	 * @param v vertex
+	 * @return distance from the source of the last run to v, or Double.POSITIVE_INFINITY if v has not been reached
+	 */
+	public double getDistance(int v) {
+		if (this.versions[v] != this.version) {
+			return Double.POSITIVE_INFINITY;
+		}
+
+		if (this.potential != null) {
+			return this.dist[v] - this.potential[this.source] + this.potential[v];
+		}
+
+		return this.dist[v];
+	}
+
+	/**
+	 * Copies the distances of the vertices visited by the last run into an array; all other entries are set to
+	 * Double.POSITIVE_INFINITY. After a run to all vertices, these are the distances of all vertices.
+	 * @param target array of length n receiving the distance of each vertex
+	 */
+	public void copyDistances(double[] target) {
+		Arrays.fill(target, Double.POSITIVE_INFINITY);
+		for (int i = 0; i < this.settledCount; ++i) {
+			final int v = this.settled[i];
+			target[v] = this.getDistance(v);
+		}
+	}
+
+	/**
+	 * @return number of vertices visited by the last run
+	 */
+	public int getSettledCount() {
+		return this.settledCount;
+	}
+
+	/**
+	 * Returns the vertices visited by the last run in ascending order of their distances,
+	 * which allows iterating over the reachable vertices without scanning all vertices.
+	 * @param i index between 0 and getSettledCount() - 1
+	 * @return i-th vertex visited by the last run
+	 */
+	public int getSettledVertex(int i) {
+		if ((i < 0) || (i >= this.settledCount)) {
+			throw new IndexOutOfBoundsException("no visited vertex with this index");
+		}
+		return this.settled[i];
+	}
+
+	private void start(int source, double[] potential) {
+		if ((source < 0) || (source >= this.dist.length)) {
+			throw new IllegalArgumentException("invalid start vertex");
+		}
+
+		/* forget the previous run; the versions are only cleared when the counter overflows */
+		for (int i = 0; i < this.settledCount; ++i) {
+			this.isSettled[this.settled[i]] = false;
+		}
+		this.settledCount = 0;
+		this.queue.clear();
+
+		if (this.version == Integer.MAX_VALUE) {
+			Arrays.fill(this.versions, 0);
+			this.version = 0;
+		}
+		this.version++;
+
+		this.source = source;
+		this.potential = potential;
+		this.relaxation.potential = potential;
+
+		this.dist[source] = 0.0;
+		this.versions[source] = this.version;
+		this.queue.insert(source, 0.0);
+	}
+
+	/**
+	 * Visits the closest vertex that has not been visited yet and relaxes its arcs.
+	 * @return visited vertex
+	 */
+	private int settle() {
+		final int v = this.queue.poll();
+		this.isSettled[v] = true;
+		this.settled[this.settledCount++] = v;
+
+		this.relaxation.v = v;
+		this.graph.forEachSuccessor(v, this.relaxation);
+		return v;
+	}
+
+	/**
+	 * Consumer updating the tentative distances of the successors of the vertex 'v' that has just been visited.
+	 */
+	private class Relaxation implements EdgeConsumer {
+		private int v;
+		private double[] potential;
+
+		@Override
+		public void accept(int w, double weight) {
+			final DijkstraWorkspace workspace = DijkstraWorkspace.this;
+			if (workspace.isSettled[w]) {
+				return;
+			}
+
+			/* reduced weights are non-negative; clamp errors from rounding */
+			final double reduced = (this.potential == null) ? weight : Math.max(0.0, weight + this.potential[this.v] - this.potential[w]);
+			final double distance = workspace.dist[this.v] + reduced;
+			if ((workspace.versions[w] != workspace.version) || (distance < workspace.dist[w])) {
+				workspace.dist[w] = distance;
+				workspace.versions[w] = workspace.version;
+				workspace.queue.insertOrDecrease(w, distance);
+			}
+		}
+	}
+}
@@ -0,0 +1,50 @@
+package de.uos.inf.ko.ga.graph.shortestpath;
+
+import de.uos.inf.ko.ga.graph.render.Vec2D;
+
+/**
+ * Heuristic for graphs whose vertices have positions in the plane, which estimates the distance
+ * between two vertices by their Euclidean distance multiplied with a scale factor.
+ * The heuristic is admissible and consistent if the weight of each arc is at least the scale factor
+ * times the Euclidean distance of its end vertices, e.g. for road networks with arc lengths as weights
+ * and scale factor 1, or with travel times as weights and the reciprocal of the maximum speed as scale factor.
+ */
+public class EuclideanHeuristic implements Heuristic {
+
+	/* coordinates of the vertices, copied into primitive arrays */
+	private final double[] x;
+	private final double[] y;
+	private final double scale;
+
+	/**
+	 * @param positions position of each vertex
+	 */
+	public EuclideanHeuristic(Vec2D[] positions) {
+		this(positions, 1.0);
+	}
+
+	/**
+	 * @param positions position of each vertex
+	 * @param scale     minimum ratio of the weight of an arc to the Euclidean distance of its end vertices
+	 */
+	public EuclideanHeuristic(Vec2D[] positions, double scale) {
+		if (scale < 0.0) {
+			throw new IllegalArgumentException("scale factor must not be negative");
+		}
+
+		this.x = new double[positions.length];
+		this.y = new double[positions.length];
+		for (int v = 0; v < positions.length; ++v) {
+			this.x[v] = positions[v].getX();
+			this.y[v] = positions[v].getY();
+		}
+		this.scale = scale;
+	}
+
+	@Override
+	public double estimate(int v, int target) {
+		final double dx = this.x[v] - this.x[target];
+		final double dy = this.y[v] - this.y[target];
+		return this.scale * Math.sqrt(dx * dx + dy * dy);
+	}
+}
@@ -1,6 +1,10 @@
 package de.uos.inf.ko.ga.graph.shortestpath;
 
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
 import de.uos.inf.ko.ga.graph.Graph;
+import de.uos.inf.ko.ga.graph.util.ParallelLoop;
 
 /**
  * Shortest-path computation with Floyd for determining the distances between
@@ -10,33 +14,47 @@ import de.uos.inf.ko.ga.graph.Graph;
  */
 public class Floyd {
 
+	/** block size used if no block size is given; three blocks of 64 x 64 doubles occupy 96 KiB */
+	public static final int DEFAULT_BLOCK_SIZE = 64;
+
 	/**
 	 * Computes distances between all pairs of vertices.
 	 * If a vertex is not reachable from another vertex, the corresponding entry
 	 * of the distance matrix is Double.POSITIVE_INFINITY.
+	 * The intermediate vertices are added in the order of the classical triple loop, so the distances are
+	 * exactly the ones of the textbook algorithm. The blocked variants relax the entries in a different order
+	 * and may differ from them by rounding.
 	 * @param graph Input graph
 	 * @return Matrix of dimension n times n with entry d[i][j] being the distance from vertex i to vertex j
+	 * @see #shortestPathsBlocked(Graph, int)
 	 */
 	public static double[][] shortestPaths(Graph graph) {
 		final int n = graph.getVertexCount();
-		double[][] d = new double[n][n];
+		final double[][] d = new double[n][n];
 
 		for (int u = 0; u < n; ++u) {
-			d[u][u] = 0.0;
+			final double[] row = d[u];
+			Arrays.fill(row, Double.POSITIVE_INFINITY);
+			row[u] = 0.0;
 
-			for (int v = 0; v < n; ++v) {
-				if (u != v) {
-					d[u][v] = graph.getEdgeWeight(u, v);
-				}
-			}
+			/* a single scan of the successors instead of n edge lookups */
+			graph.forEachSuccessor(u, (v, weight) -> row[v] = Math.min(row[v], weight));
 		}
-		
+
 		for (int k = 0; k < n; ++k) {
+			final double[] rowK = d[k];
 			for (int u = 0; u < n; ++u) {
+				final double[] rowU = d[u];
+				final double duk = rowU[k];
+				if (duk == Double.POSITIVE_INFINITY) {
+					/* no path from u to k, so k cannot improve any path from u */
+					continue;
+				}
+
 				for (int v = 0; v < n; ++v) {
-					final double w = d[u][k] + d[k][v];
-					if (w < d[u][v]) {
-						d[u][v] = w;
+					final double w = duk + rowK[v];
+					if (w < rowU[v]) {
+						rowU[v] = w;
 					}
 				}
 			}
@@ -44,4 +62,191 @@ public class Floyd {
 
 		return d;
 	}
+
+	/**
+	 * Computes distances between all pairs of vertices with the blocked (tiled) variant of Floyd's algorithm,
+	 * using the default block size.
+	 * @param graph Input graph
+	 * @return Matrix of dimension n times n in row-major order, i.e. entry d[i * n + j] is the distance from vertex i to vertex j
+	 * @see #shortestPathsBlocked(Graph, int)
+	 */
+	public static double[] shortestPathsBlocked(Graph graph) {
+		return shortestPathsBlocked(graph, DEFAULT_BLOCK_SIZE);
+	}
+
+	/**
+	 * Computes distances between all pairs of vertices with the blocked (tiled) variant of Floyd's algorithm.
+	 * The matrix is divided into blocks of size b x b. For each block kb of intermediate vertices, the diagonal
+	 * block (kb, kb) is updated first, then the blocks in row kb and column kb, which only depend on themselves
+	 * and the diagonal block, and finally all remaining blocks, which only depend on one block of row kb and one
+	 * block of column kb. Each block update runs the classical triple loop on data that fits into the cache,
+	 * so that the matrix is read from memory about n / b times instead of n times.
+	 * If a vertex is not reachable from another vertex, the corresponding entry is Double.POSITIVE_INFINITY.
+	 * @param graph     Input graph
+	 * @param blockSize Size b of the blocks
+	 * @return Matrix of dimension n times n in row-major order, i.e. entry d[i * n + j] is the distance from vertex i to vertex j
+	 */
+	public static double[] shortestPathsBlocked(Graph graph, int blockSize) {
+		if (blockSize < 1) {
+			throw new IllegalArgumentException("block size must be positive");
+		}
+
+		final int n = graph.getVertexCount();
+		final double[] d = initialDistances(graph);
+		final int blocks = (n + blockSize - 1) / blockSize;
+
+		for (int kb = 0; kb < blocks; ++kb) {
+			final int k0 = kb * blockSize;
+			final int k1 = Math.min(n, k0 + blockSize);
+
+			/* phase 1: diagonal block */
+			updateBlock(d, n, k0, k1, k0, k1, k0, k1);
+
+			/* phase 2: blocks in row kb and column kb */
+			for (int b = 0; b < blocks; ++b) {
+				if (b != kb) {
+					final int b0 = b * blockSize;
+					final int b1 = Math.min(n, b0 + blockSize);
+					updateBlock(d, n, k0, k1, k0, k1, b0, b1);
+					updateBlock(d, n, k0, k1, b0, b1, k0, k1);
+				}
+			}
+
+			/* phase 3: remaining blocks */
+			for (int ib = 0; ib < blocks; ++ib) {
+				if (ib == kb) {
+					continue;
+				}
+
+				final int i0 = ib * blockSize;
+				final int i1 = Math.min(n, i0 + blockSize);
+				for (int jb = 0; jb < blocks; ++jb) {
+					if (jb != kb) {
+						final int j0 = jb * blockSize;
+						updateBlock(d, n, k0, k1, i0, i1, j0, Math.min(n, j0 + blockSize));
+					}
+				}
+			}
+		}
+
+		return d;
+	}
+
+	/**
+	 * Computes distances between all pairs of vertices with the blocked variant of Floyd's algorithm,
+	 * using the default block size and the common fork-join pool.
+	 * @param graph Input graph
+	 * @return Matrix of dimension n times n in row-major order, i.e. entry d[i * n + j] is the distance from vertex i to vertex j
+	 * @see #shortestPathsParallel(Graph, int, ForkJoinPool)
+	 */
+	public static double[] shortestPathsParallel(Graph graph) {
+		return shortestPathsParallel(graph, DEFAULT_BLOCK_SIZE, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Computes distances between all pairs of vertices with the blocked variant of Floyd's algorithm,
+	 * processing independent blocks in parallel. For each block kb of intermediate vertices, the diagonal
+	 * block is updated first; then the 2 (B - 1) blocks of row kb and column kb are updated in parallel,
+	 * and finally the (B - 1)^2 remaining blocks, where B is the number of blocks per row. The blocks of
+	 * each phase write disjoint parts of the matrix and only read blocks of the previous phases.
+	 * The result is the same as the one of {@link #shortestPathsBlocked(Graph, int)}.
+	 * @param graph     Input graph
+	 * @param blockSize Size b of the blocks
+	 * @param pool      Pool executing the block updates
+	 * @return Matrix of dimension n times n in row-major order, i.e. entry d[i * n + j] is the distance from vertex i to vertex j
+	 */
+	public static double[] shortestPathsParallel(Graph graph, int blockSize, ForkJoinPool pool) {
+		if (blockSize < 1) {
+			throw new IllegalArgumentException("block size must be positive");
+		}
+
+		final int n = graph.getVertexCount();
+		final double[] d = initialDistances(graph);
+		final int blocks = (n + blockSize - 1) / blockSize;
+
+		for (int kb = 0; kb < blocks; ++kb) {
+			final int diagonal = kb;
+			final int k0 = kb * blockSize;
+			final int k1 = Math.min(n, k0 + blockSize);
+
+			/* phase 1: diagonal block */
+			updateBlock(d, n, k0, k1, k0, k1, k0, k1);
+
+			/* phase 2: blocks in row kb (even tasks) and column kb (odd tasks) */
+			ParallelLoop.forRange(pool, 0, 2 * (blocks - 1), 1, (first, last) -> {
+				for (int t = first; t < last; ++t) {
+					/* skip the diagonal block */
+					final int b = (t >> 1) < diagonal ? (t >> 1) : (t >> 1) + 1;
+					final int b0 = b * blockSize;
+					final int b1 = Math.min(n, b0 + blockSize);
+					if ((t & 1) == 0) {
+						updateBlock(d, n, k0, k1, k0, k1, b0, b1);
+					} else {
+						updateBlock(d, n, k0, k1, b0, b1, k0, k1);
+					}
+				}
+			});
+
+			/* phase 3: remaining blocks, numbered row by row */
+			ParallelLoop.forRange(pool, 0, (blocks - 1) * (blocks - 1), 1, (first, last) -> {
+				for (int t = first; t < last; ++t) {
+					final int ib = t / (blocks - 1) < diagonal ? t / (blocks - 1) : t / (blocks - 1) + 1;
+					final int jb = t % (blocks - 1) < diagonal ? t % (blocks - 1) : t % (blocks - 1) + 1;
+					final int i0 = ib * blockSize;
+					final int j0 = jb * blockSize;
+					updateBlock(d, n, k0, k1, i0, Math.min(n, i0 + blockSize), j0, Math.min(n, j0 + blockSize));
+				}
+			});
+		}
+
+		return d;
+	}
+
+	/**
+	 * Computes the initial distance matrix in row-major order: 0 on the diagonal, the weight of the
+	 * cheapest edge from i to j if there is one, and Double.POSITIVE_INFINITY otherwise.
+	 */
+	static double[] initialDistances(Graph graph) {
+		final int n = graph.getVertexCount();
+		if ((long) n * n > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("graph is too large for a distance matrix");
+		}
+
+		final double[] d = new double[n * n];
+		Arrays.fill(d, Double.POSITIVE_INFINITY);
+
+		for (int u = 0; u < n; ++u) {
+			final int row = u * n;
+			d[row + u] = 0.0;
+
+			/* a single scan of the successors instead of n edge lookups */
+			graph.forEachSuccessor(u, (v, weight) -> d[row + v] = Math.min(d[row + v], weight));
+		}
+
+		return d;
+	}
+
+	/**
+	 * Relaxes the entries (i, j) with i0 <= i < i1 and j0 <= j < j1 via the intermediate vertices k0 <= k < k1.
+	 */
+	static void updateBlock(double[] d, int n, int k0, int k1, int i0, int i1, int j0, int j1) {
+		for (int k = k0; k < k1; ++k) {
+			final int rowK = k * n;
+			for (int i = i0; i < i1; ++i) {
+				final int rowI = i * n;
+				final double dik = d[rowI + k];
+				if (dik == Double.POSITIVE_INFINITY) {
+					/* no path from i to k, so k cannot improve any path from i */
+					continue;
+				}
+
+				for (int j = j0; j < j1; ++j) {
+					final double w = dik + d[rowK + j];
+					if (w < d[rowI + j]) {
+						d[rowI + j] = w;
+					}
+				}
+			}
+		}
+	}
 }
@@ -0,0 +1,18 @@
+package de.uos.inf.ko.ga.graph.shortestpath;
+
+/**
+ * Heuristic for goal-directed shortest-path search, which estimates the distance from a vertex to the target vertex.
+ * The estimate must be admissible, i.e. never larger than the actual distance, so that A* finds shortest paths.
+ * If it is also consistent, i.e. h(u, t) <= w(u, v) + h(v, t) for all arcs (u, v), each vertex is visited at most once.
+ */
+@FunctionalInterface
+public interface Heuristic {
+
+	/**
+	 * Estimates the distance from a vertex to the target vertex.
+	 * @param v      vertex
+	 * @param target target vertex
+	 * @return lower bound of the distance from v to target
+	 */
+	double estimate(int v, int target);
+}
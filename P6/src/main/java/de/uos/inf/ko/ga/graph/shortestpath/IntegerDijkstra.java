@@ -0,0 +1,135 @@
+package de.uos.inf.ko.ga.graph.shortestpath;
+
+import de.uos.inf.ko.ga.graph.EdgeConsumer;
+import de.uos.inf.ko.ga.graph.Graph;
+import de.uos.inf.ko.ga.graph.util.BucketQueue;
+import de.uos.inf.ko.ga.graph.util.MonotoneQueue;
+import de.uos.inf.ko.ga.graph.util.RadixHeap;
+
+/**
+ * Dijkstra's algorithm for graphs whose edge weights are non-negative integers, i.e. graphs with
+ * Graph.getMaxIntegerWeight() >= 0. Since the keys of the priority queue are the distances of vertices and
+ * never fall below the distance of the vertex visited last, monotone integer priority queues can be used:
+ * the bucket queue of Dial, whose operations take constant time apart from skipping empty buckets, and the
+ * radix heap, which takes O(log C) amortized time per vertex for a largest weight C.
+ *
+ * The distances are computed as long values, which are exact, and returned as doubles.
+ */
+public class IntegerDijkstra {
+
+	/** largest edge weight for which shortestPaths uses the bucket queue instead of the radix heap */
+	public static final int DIAL_MAX_WEIGHT = 1 << 10;
+
+	/* distance of the vertices that have not been reached */
+	private static final long UNREACHED = Long.MAX_VALUE;
+
+	/**
+	 * Computes distances to all vertices in a graph starting at a certain vertex, using the bucket queue
+	 * if the largest edge weight is at most DIAL_MAX_WEIGHT and the radix heap otherwise.
+	 * @param graph Input graph with non-negative integer edge weights
+	 * @param start Start vertex for the computation of the distances
+	 * @return Array containing the distance d[v] from the start node for each vertex v
+	 */
+	public static double[] shortestPaths(Graph graph, int start) {
+		final int maxWeight = maxWeight(graph);
+		if (maxWeight <= DIAL_MAX_WEIGHT) {
+			return search(graph, start, new BucketQueue(graph.getVertexCount(), maxWeight));
+		}
+		return search(graph, start, new RadixHeap(graph.getVertexCount()));
+	}
+
+	/**
+	 * Computes distances to all vertices in a graph starting at a certain vertex, using the bucket queue of Dial
+	 * with one bucket per possible distance difference; runs in O(m + n + D) for a largest distance D.
+	 * @param graph Input graph with non-negative integer edge weights
+	 * @param start Start vertex for the computation of the distances
+	 * @return Array containing the distance d[v] from the start node for each vertex v
+	 */
+	public static double[] shortestPathsDial(Graph graph, int start) {
+		return search(graph, start, new BucketQueue(graph.getVertexCount(), maxWeight(graph)));
+	}
+
+	/**
+	 * Computes distances to all vertices in a graph starting at a certain vertex, using a radix heap;
+	 * runs in O(m + n log C) for a largest edge weight C.
+	 * @param graph Input graph with non-negative integer edge weights
+	 * @param start Start vertex for the computation of the distances
+	 * @return Array containing the distance d[v] from the start node for each vertex v
+	 */
+	public static double[] shortestPathsRadixHeap(Graph graph, int start) {
+		maxWeight(graph);
+		return search(graph, start, new RadixHeap(graph.getVertexCount()));
+	}
+
+	private static int maxWeight(Graph graph) {
+		final int maxWeight = graph.getMaxIntegerWeight();
+		if (maxWeight < 0) {
+			throw new IllegalArgumentException("edge weights must be non-negative integers");
+		}
+		return maxWeight;
+	}
+
+	private static double[] search(Graph graph, int start, MonotoneQueue queue) {
+		final int n = graph.getVertexCount();
+		if ((start < 0) || (start >= n)) {
+			throw new IllegalArgumentException("invalid start vertex");
+		}
+
+		final boolean[] seen = new boolean[n];
+		final long[] dist = new long[n];
+		for (int v = 0; v < n; ++v) {
+			dist[v] = UNREACHED;
+		}
+
+		dist[start] = 0;
+		queue.insertOrDecrease(start, 0);
+
+		final Relaxation relaxation = new Relaxation(seen, dist, queue);
+		while (!queue.isEmpty()) {
+			/* the queue returns the vertices in ascending order of their distances */
+			final int v = queue.poll();
+			seen[v] = true;
+
+			relaxation.v = v;
+			graph.forEachSuccessor(v, relaxation);
+		}
+
+		final double[] result = new double[n];
+		for (int v = 0; v < n; ++v) {
+			result[v] = (dist[v] == UNREACHED) ? Double.POSITIVE_INFINITY : dist[v];
+		}
+
+		return result;
+	}
+
+	/**
+	 * Consumer updating the tentative distances of the successors of the vertex 'v' that has just been visited.
+	 */
+	private static class Relaxation implements EdgeConsumer {
+		private final boolean[] seen;
+		private final long[] dist;
+		private final MonotoneQueue queue;
+
+		/* vertex whose outgoing edges are relaxed */
+		private int v;
+
+		Relaxation(boolean[] seen, long[] dist, MonotoneQueue queue) {
+			this.seen = seen;
+			this.dist = dist;
+			this.queue = queue;
+		}
+
+		@Override
+		public void accept(int w, double weight) {
+			if (this.seen[w]) {
+				return;
+			}
+
+			final long distance = this.dist[this.v] + (long) weight;
+			if (distance < this.dist[w]) {
+				this.dist[w] = distance;
+				this.queue.insertOrDecrease(w, distance);
+			}
+		}
+	}
+}
@@ -0,0 +1,82 @@
+package de.uos.inf.ko.ga.graph.shortestpath;
+
+import java.util.concurrent.ForkJoinPool;
+
+import de.uos.inf.ko.ga.graph.Graph;
+
+/**
+ * Implementation of Johnson's algorithm for computing the distances between all pairs of vertices
+ * in a sparse directed graph that may contain edges of negative weight, but no cycles of negative length.
+ * A single run of Bellman-Ford computes a potential p for each vertex, such that the reduced weights
+ * w(u, v) + p[u] - p[v] are non-negative. Then Dijkstra computes the distances from every vertex with
+ * respect to the reduced weights. The running time is O(nm + n m log n) instead of O(n^3) for Floyd,
+ * and the Dijkstra runs are independent of each other, so they are executed in parallel.
+ *
+ * The distances are passed to a consumer source by source, so the n x n distance matrix only has to
+ * be kept in memory if the consumer stores all rows.
+ */
+public class Johnson {
+
+	/**
+	 * Consumer receiving the distances from one source vertex to all vertices.
+	 */
+	@FunctionalInterface
+	public interface DistanceConsumer {
+		/**
+		 * Receives the distances from a source vertex. This method may be called concurrently by several threads,
+		 * each time for a different source. The array belongs to the consumer and is not used afterwards.
+		 * @param source source vertex
+		 * @param dist   distance dist[v] from the source to each vertex v, Double.POSITIVE_INFINITY if v is not reachable
+		 */
+		void accept(int source, double[] dist);
+	}
+
+	/**
+	 * Computes distances between all pairs of vertices and stores them in a matrix.
+	 * If a vertex is not reachable from another vertex, the corresponding entry
+	 * of the distance matrix is Double.POSITIVE_INFINITY.
+	 * @param graph Input graph
+	 * @return Matrix of dimension n times n with entry d[i][j] being the distance from vertex i to vertex j
+	 * @throws NegativeCycleException if the graph contains a cycle of negative length
+	 */
+	public static double[][] shortestPaths(Graph graph) {
+		final double[][] d = new double[graph.getVertexCount()][];
+		shortestPaths(graph, (source, dist) -> d[source] = dist);
+		return d;
+	}
+
+	/**
+	 * Computes distances between all pairs of vertices using the common fork-join pool
+	 * and passes them to a consumer, one source vertex at a time.
+	 * @param graph    Input graph
+	 * @param consumer Consumer receiving the distances from each source vertex
+	 * @throws NegativeCycleException if the graph contains a cycle of negative length
+	 */
+	public static void shortestPaths(Graph graph, DistanceConsumer consumer) {
+		shortestPaths(graph, ForkJoinPool.commonPool(), consumer);
+	}
+
+	/**
+	 * Computes distances between all pairs of vertices and passes them to a consumer, one source vertex at a time.
+	 * The Dijkstra runs for the different source vertices are executed by the workers of a fork-join pool.
+	 * The consumer is called from these workers; the method returns after all sources have been processed.
+	 * @param graph    Input graph
+	 * @param pool     Pool executing the Dijkstra runs
+	 * @param consumer Consumer receiving the distances from each source vertex
+	 * @throws NegativeCycleException if the graph contains a cycle of negative length
+	 */
+	public static void shortestPaths(Graph graph, ForkJoinPool pool, DistanceConsumer consumer) {
+		final int n = graph.getVertexCount();
+
+		/* distances from a virtual vertex connected to all vertices by arcs of weight 0 */
+		final double[] potential = BellmanFord.potentials(graph);
+
+		/* each worker reuses a workspace, so only the rows passed to the consumer are allocated; the indices are the sources */
+		Dijkstra.forEachSource(graph, n, pool, (source, workspace) -> {
+			workspace.run(source, potential);
+			final double[] dist = new double[n];
+			workspace.copyDistances(dist);
+			consumer.accept(source, dist);
+		});
+	}
+}
@@ -0,0 +1,350 @@
+package de.uos.inf.ko.ga.graph.shortestpath;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import de.uos.inf.ko.ga.graph.Graph;
+import de.uos.inf.ko.ga.graph.util.ParallelLoop;
+
+/**
+ * Heuristic for A* based on landmarks and the triangle inequality (ALT, Goldberg and Harrelson).
+ * For a few landmarks L, the distances d(L, v) from L and d(v, L) to L are computed for all vertices v
+ * in advance. By the triangle inequality, d(L, t) - d(L, v) and d(v, L) - d(t, L) are lower bounds of
+ * the distance d(v, t); the heuristic returns the maximum of these bounds over all landmarks. The bounds
+ * are consistent, so A* visits each vertex at most once, and they are tight for vertices "behind" the
+ * target as seen from a landmark. Landmarks at the border of the graph therefore work best.
+ *
+ * The distance tables are stored vertex by vertex, so that the k values of a vertex are adjacent in memory.
+ * They are stored as doubles or, to halve the memory footprint, as floats. Since rounding to float may make
+ * a bound slightly too large, the bounds are then decreased by twice the rounding error of the largest
+ * distance, which keeps them admissible. They may violate the consistency by this amount, in which case A*
+ * visits a vertex again. For undirected graphs, the distances to and from a landmark coincide and only one
+ * table is stored.
+ *
+ * The landmarks are selected one after another, because each choice depends on the previous ones; the distances
+ * to the landmarks are then computed in parallel, one backward search for each landmark.
+ */
+public class LandmarkHeuristic implements Heuristic {
+
+	/**
+	 * Strategies for selecting landmarks.
+	 */
+	public enum Selection {
+		/**
+		 * Picks a random vertex first, and then repeatedly the vertex whose minimum distance from the landmarks
+		 * selected so far is maximum, starting with the vertex farthest from the random vertex.
+		 */
+		FARTHEST,
+		/**
+		 * Picks landmarks in regions where the current bounds are poor: a shortest-path tree is grown from a
+		 * random vertex r, each vertex v is weighted by d(r, v) minus its current lower bound, and subtrees
+		 * containing a landmark are ignored. Starting at r, the child with the largest total weight of its
+		 * subtree is followed down to a leaf, which becomes the next landmark.
+		 */
+		AVOID
+	}
+
+	/* largest number of entries of a table; some virtual machines reserve a few header words in an array */
+	private static final long MAX_TABLE_SIZE = Integer.MAX_VALUE - 8;
+
+	private final int n;
+	private final int[] landmarks;
+	private final boolean compact;
+
+	/* distances from the landmarks, forward[v * k + i] = d(landmarks[i], v) */
+	private final double[] forward;
+	/* distances to the landmarks, backward[v * k + i] = d(v, landmarks[i]); same array as forward if the graph is undirected */
+	private final double[] backward;
+	/* float versions of the tables if compact is set, otherwise null */
+	private final float[] forwardCompact;
+	private final float[] backwardCompact;
+	/* amount by which the bounds are decreased to compensate rounding to float */
+	private final double slack;
+
+	/**
+	 * Selects landmarks with a fixed seed and computes their distance tables in the common fork-join pool.
+	 * @param graph     Input graph with non-negative edge weights
+	 * @param k         Number of landmarks
+	 * @param selection Strategy for selecting the landmarks
+	 * @param compact   true to store the distances as floats, false to store them as doubles
+	 */
+	public LandmarkHeuristic(Graph graph, int k, Selection selection, boolean compact) {
+		this(graph, k, selection, compact, new Random(0), ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Selects landmarks and computes their distance tables.
+	 * @param graph     Input graph with non-negative edge weights
+	 * @param k         Number of landmarks
+	 * @param selection Strategy for selecting the landmarks
+	 * @param compact   true to store the distances as floats, false to store them as doubles
+	 * @param random    Source of the random start vertices of the selection
+	 * @param pool      Pool executing the searches for the distances to the landmarks
+	 */
+	public LandmarkHeuristic(Graph graph, int k, Selection selection, boolean compact, Random random, ForkJoinPool pool) {
+		this.n = graph.getVertexCount();
+		if ((k < 1) || (k > this.n)) {
+			throw new IllegalArgumentException("number of landmarks must be between 1 and the number of vertices");
+		}
+
+		/* checked before the selection; within this size, the indices v * k + i do not overflow either */
+		if ((long) k * this.n > MAX_TABLE_SIZE) {
+			throw new IllegalArgumentException("distance tables of " + k + " landmarks and " + this.n + " vertices exceed the maximum array size");
+		}
+		final int size = k * this.n;
+
+		for (int u = 0; u < this.n; ++u) {
+			graph.forEachSuccessor(u, (v, weight) -> {
+				if (weight < 0.0) {
+					throw new IllegalArgumentException("landmarks require non-negative edge weights");
+				}
+			});
+		}
+
+		/* distances from each landmark, one array per landmark; computed during the selection */
+		final double[][] from = new double[k][];
+		this.landmarks = (selection == Selection.FARTHEST) ? selectFarthest(graph, k, random, from) : selectAvoid(graph, k, random, from);
+
+		/* distances to each landmark */
+		final double[][] to;
+		if (graph.isDirected()) {
+			to = new double[k][];
+			ParallelLoop.forRange(pool, 0, k, 1, (first, last) -> {
+				for (int i = first; i < last; ++i) {
+					to[i] = Dijkstra.distancesTo(graph, this.landmarks[i]);
+				}
+			});
+		} else {
+			to = from;
+		}
+
+		this.compact = compact;
+		if (compact) {
+			final double max = Math.max(maxFinite(from), maxFinite(to));
+			if (max > Float.MAX_VALUE) {
+				throw new IllegalArgumentException("distances exceed the range of float");
+			}
+
+			/* each stored value is off by at most half an ulp, so each bound is off by at most one ulp */
+			this.slack = 2.0 * Math.ulp((float) max);
+			this.forwardCompact = new float[size];
+			this.backwardCompact = (to == from) ? this.forwardCompact : new float[size];
+			this.forward = null;
+			this.backward = null;
+		} else {
+			this.slack = 0.0;
+			this.forward = new double[size];
+			this.backward = (to == from) ? this.forward : new double[size];
+			this.forwardCompact = null;
+			this.backwardCompact = null;
+		}
+
+		/* transpose the per-landmark arrays into the vertex-major tables */
+		ParallelLoop.forRange(pool, 0, this.n, (first, last) -> {
+			for (int v = first; v < last; ++v) {
+				for (int i = 0; i < k; ++i) {
+					if (compact) {
+						this.forwardCompact[v * k + i] = (float) from[i][v];
+						this.backwardCompact[v * k + i] = (float) to[i][v];
+					} else {
+						this.forward[v * k + i] = from[i][v];
+						this.backward[v * k + i] = to[i][v];
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * @return landmarks in the order in which they have been selected
+	 */
+	public int[] getLandmarks() {
+		return this.landmarks.clone();
+	}
+
+	/**
+	 * @return true if the distances are stored as floats
+	 */
+	public boolean isCompact() {
+		return this.compact;
+	}
+
+	/**
+	 * Returns the size of the distance tables and the list of landmarks, which make up the memory footprint
+	 * of the heuristic up to a constant, i.e. k * n * 4 or 8 bytes per table.
+	 * @return number of bytes
+	 */
+	public long getMemoryFootprint() {
+		final long tables = (this.compact)
+			? 4L * this.forwardCompact.length * ((this.backwardCompact == this.forwardCompact) ? 1 : 2)
+			: 8L * this.forward.length * ((this.backward == this.forward) ? 1 : 2);
+		return tables + 4L * this.landmarks.length;
+	}
+
+	@Override
+	public double estimate(int v, int target) {
+		final int k = this.landmarks.length;
+		final int rv = v * k;
+		final int rt = target * k;
+
+		double bound = 0.0;
+		if (this.compact) {
+			for (int i = 0; i < k; ++i) {
+				/* the bounds are NaN if both distances are infinite, which fails both comparisons */
+				final double a = (double) this.forwardCompact[rt + i] - this.forwardCompact[rv + i];
+				final double b = (double) this.backwardCompact[rv + i] - this.backwardCompact[rt + i];
+				if (a > bound) {
+					bound = a;
+				}
+				if (b > bound) {
+					bound = b;
+				}
+			}
+			return Math.max(0.0, bound - this.slack);
+		}
+
+		for (int i = 0; i < k; ++i) {
+			final double a = this.forward[rt + i] - this.forward[rv + i];
+			final double b = this.backward[rv + i] - this.backward[rt + i];
+			if (a > bound) {
+				bound = a;
+			}
+			if (b > bound) {
+				bound = b;
+			}
+		}
+		return bound;
+	}
+
+	/**
+	 * Selects landmarks with the farthest strategy and stores the distances from each of them in from.
+	 * Vertices that are not reachable from any landmark count as infinitely far away, so each component
+	 * of the graph gets a landmark before a second one is placed in a component.
+	 */
+	private static int[] selectFarthest(Graph graph, int k, Random random, double[][] from) {
+		final int n = graph.getVertexCount();
+		final int[] landmarks = new int[k];
+		final boolean[] selected = new boolean[n];
+
+		/* minimum distance of each vertex from the landmarks; initially from a random vertex */
+		final double[] minDist = Dijkstra.shortestPaths(graph, random.nextInt(n));
+
+		for (int i = 0; i < k; ++i) {
+			int best = -1;
+			for (int v = 0; v < n; ++v) {
+				if (!selected[v] && ((best < 0) || (minDist[v] > minDist[best]))) {
+					best = v;
+				}
+			}
+
+			landmarks[i] = best;
+			selected[best] = true;
+			from[i] = Dijkstra.shortestPaths(graph, best);
+
+			for (int v = 0; v < n; ++v) {
+				minDist[v] = (i == 0) ? from[i][v] : Math.min(minDist[v], from[i][v]);
+			}
+		}
+
+		return landmarks;
+	}
+
+	/**
+	 * Selects landmarks with the avoid strategy and stores the distances from each of them in from.
+	 * The lower bounds used for weighting the vertices are computed from the distances from the landmarks
+	 * selected so far, which are the only ones known during the selection.
+	 */
+	private static int[] selectAvoid(Graph graph, int k, Random random, double[][] from) {
+		final int n = graph.getVertexCount();
+		final int[] landmarks = new int[k];
+		final boolean[] selected = new boolean[n];
+
+		final double[] size = new double[n];
+		final boolean[] covered = new boolean[n];
+		final int[] order = new int[n];
+
+		for (int i = 0; i < k; ++i) {
+			final int root = random.nextInt(n);
+			final double[] dist = Dijkstra.shortestPaths(graph, root);
+			final Graph tree = Dijkstra.shortestPathGraphFromDistances(graph, root, dist);
+
+			/* vertices of the tree in breadth-first order, so that children follow their parents */
+			int count = 0;
+			order[count++] = root;
+			for (int j = 0; j < count; ++j) {
+				for (int child : tree.getSuccessors(order[j])) {
+					order[count++] = child;
+				}
+			}
+
+			/* accumulate the weights of the subtrees bottom-up; subtrees containing a landmark get size 0 */
+			for (int j = count - 1; j >= 0; --j) {
+				final int v = order[j];
+				double sum = dist[v] - lowerBound(from, i, root, v);
+				boolean hasLandmark = selected[v];
+				for (int child : tree.getSuccessors(v)) {
+					sum += size[child];
+					hasLandmark |= covered[child];
+				}
+				covered[v] = hasLandmark;
+				size[v] = hasLandmark ? 0.0 : sum;
+			}
+
+			int landmark;
+			if (size[root] > 0.0) {
+				/* follow the heaviest subtrees down to a leaf */
+				landmark = root;
+				while (true) {
+					int next = -1;
+					for (int child : tree.getSuccessors(landmark)) {
+						if ((size[child] > 0.0) && ((next < 0) || (size[child] > size[next]))) {
+							next = child;
+						}
+					}
+					if (next < 0) {
+						break;
+					}
+					landmark = next;
+				}
+			} else {
+				/* the bounds are exact within the tree or it contains landmarks everywhere; pick any new vertex */
+				landmark = random.nextInt(n);
+				while (selected[landmark]) {
+					landmark = (landmark + 1) % n;
+				}
+			}
+
+			landmarks[i] = landmark;
+			selected[landmark] = true;
+			from[i] = Dijkstra.shortestPaths(graph, landmark);
+		}
+
+		return landmarks;
+	}
+
+	/**
+	 * Computes the lower bound max(d(L, v) - d(L, u)) of d(u, v) from the first count tables of distances from landmarks.
+	 */
+	private static double lowerBound(double[][] from, int count, int u, int v) {
+		double bound = 0.0;
+		for (int i = 0; i < count; ++i) {
+			final double a = from[i][v] - from[i][u];
+			if (a > bound) {
+				bound = a;
+			}
+		}
+		return bound;
+	}
+
+	private static double maxFinite(double[][] tables) {
+		double max = 0.0;
+		for (double[] table : tables) {
+			for (double d : table) {
+				if ((d != Double.POSITIVE_INFINITY) && (d > max)) {
+					max = d;
+				}
+			}
+		}
+		return max;
+	}
+}
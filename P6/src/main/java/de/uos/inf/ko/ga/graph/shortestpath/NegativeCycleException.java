@@ -0,0 +1,32 @@
+package de.uos.inf.ko.ga.graph.shortestpath;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Thrown by shortest-path computations if the graph contains a cycle of negative length,
+ * such that no shortest paths exist. The exception carries the vertices of such a cycle.
+ */
+public class NegativeCycleException extends IllegalArgumentException {
+
+	private static final long serialVersionUID = 1L;
+
+	private final List<Integer> cycle;
+
+	/**
+	 * @param cycle vertices v_0, ..., v_k of a cycle of negative length, i.e. the arcs (v_i, v_i+1) and (v_k, v_0) exist
+	 */
+	public NegativeCycleException(List<Integer> cycle) {
+		super("graph contains a cycle of negative length: " + cycle);
+		this.cycle = Collections.unmodifiableList(cycle);
+	}
+
+	/**
+	 * Returns the vertices v_0, ..., v_k of a cycle of negative length, in the order of its arcs
+	 * (v_0, v_1), ..., (v_k-1, v_k), (v_k, v_0).
+	 * @return vertices of the cycle
+	 */
+	public List<Integer> getCycle() {
+		return this.cycle;
+	}
+}
@@ -0,0 +1,67 @@
+package de.uos.inf.ko.ga.graph.shortestpath;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Result of a point-to-point shortest-path query: the distance from the start vertex to the target vertex
+ * and the vertices of a shortest path between them. If the target is not reachable, the distance is
+ * Double.POSITIVE_INFINITY and the path contains no vertices.
+ */
+public class Path {
+
+	private final double distance;
+	private final List<Integer> vertices;
+
+	/**
+	 * @param distance length of the path
+	 * @param vertices vertices of the path, starting with the start vertex and ending with the target vertex
+	 */
+	public Path(double distance, List<Integer> vertices) {
+		this.distance = distance;
+		this.vertices = Collections.unmodifiableList(vertices);
+	}
+
+	/**
+	 * @return path to a vertex that is not reachable
+	 */
+	public static Path unreachable() {
+		return new Path(Double.POSITIVE_INFINITY, Collections.<Integer>emptyList());
+	}
+
+	public double getDistance() {
+		return this.distance;
+	}
+
+	/**
+	 * @return vertices of the path, starting with the start vertex and ending with the target vertex
+	 */
+	public List<Integer> getVertices() {
+		return this.vertices;
+	}
+
+	/**
+	 * @return true if the target vertex is reachable from the start vertex
+	 */
+	public boolean exists() {
+		return !this.vertices.isEmpty();
+	}
+
+	@Override
+	public String toString() {
+		if (!this.exists()) {
+			return "no path";
+		}
+
+		final StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < this.vertices.size(); ++i) {
+			if (i > 0) {
+				builder.append(" -> ");
+			}
+			builder.append(this.vertices.get(i));
+		}
+		builder.append(", Kosten = ").append(this.distance);
+
+		return builder.toString();
+	}
+}
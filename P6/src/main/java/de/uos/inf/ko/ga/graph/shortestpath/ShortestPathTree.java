@@ -0,0 +1,209 @@
+package de.uos.inf.ko.ga.graph.shortestpath;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+import de.uos.inf.ko.ga.graph.Graph;
+import de.uos.inf.ko.ga.graph.impl.DirectedGraphList;
+
+/**
+ * Result of a single-source shortest-path computation: the distance of each vertex from the root and its
+ * parent, i.e. the predecessor on a shortest path from the root. The parents are recorded by the search
+ * itself, so the tree takes two arrays instead of a graph with an object per edge, and it does not require
+ * a second pass over the graph.
+ *
+ * The children of each vertex, which are needed for iterating over subtrees, and the tree as a graph are
+ * only computed when they are requested for the first time.
+ */
+public class ShortestPathTree {
+
+	/** parent of the root and of the vertices that are not reachable */
+	public static final int NONE = -1;
+
+	private final int root;
+	private final double[] dist;
+	private final int[] parent;
+	/* weight of the arc from the parent of each vertex, i.e. of the arc the search has relaxed */
+	private final double[] parentWeight;
+
+	/* children of v are children[childOffsets[v]], ..., children[childOffsets[v + 1] - 1]; built on first use */
+	private int[] childOffsets;
+	private int[] children;
+	/* tree as graph; built on first use */
+	private Graph tree;
+
+	/**
+	 * @param root         root vertex
+	 * @param dist         distance of each vertex from the root
+	 * @param parent       parent of each vertex, NONE for the root and the vertices that are not reachable
+	 * @param parentWeight weight of the arc from the parent of each vertex
+	 */
+	ShortestPathTree(int root, double[] dist, int[] parent, double[] parentWeight) {
+		this.root = root;
+		this.dist = dist;
+		this.parent = parent;
+		this.parentWeight = parentWeight;
+	}
+
+	public int getRoot() {
+		return this.root;
+	}
+
+	public int getVertexCount() {
+		return this.dist.length;
+	}
+
+	/**
+	 * @param v vertex
+	 * @return distance from the root to v, or Double.POSITIVE_INFINITY if v is not reachable
+	 */
+	public double getDistance(int v) {
+		return this.dist[v];
+	}
+
+	/**
+	 * @return copy of the distances of all vertices
+	 */
+	public double[] getDistances() {
+		return this.dist.clone();
+	}
+
+	/**
+	 * @param v vertex
+	 * @return predecessor of v on a shortest path from the root, or NONE for the root and the vertices that are not reachable
+	 */
+	public int getParent(int v) {
+		return this.parent[v];
+	}
+
+	/**
+	 * Returns the weight of the arc from the parent of a vertex that the search has relaxed,
+	 * which is the minimum weight of the parallel arcs on a shortest path.
+	 * @param v vertex that has a parent
+	 * @return weight of the arc (getParent(v), v)
+	 */
+	public double getParentWeight(int v) {
+		if (this.parent[v] == NONE) {
+			throw new IllegalArgumentException("vertex has no parent");
+		}
+		return this.parentWeight[v];
+	}
+
+	/**
+	 * @param v vertex
+	 * @return true if v is reachable from the root
+	 */
+	public boolean isReachable(int v) {
+		return this.dist[v] != Double.POSITIVE_INFINITY;
+	}
+
+	/**
+	 * Reconstructs a shortest path from the root to a vertex by following the parents.
+	 * @param v target vertex
+	 * @return Distance and vertices of a shortest path, or a path without vertices if v is not reachable
+	 */
+	public Path pathTo(int v) {
+		if (!this.isReachable(v)) {
+			return Path.unreachable();
+		}
+
+		final List<Integer> vertices = new ArrayList<>();
+		for (int u = v; u != NONE; u = this.parent[u]) {
+			vertices.add(u);
+		}
+		Collections.reverse(vertices);
+
+		return new Path(this.dist[v], vertices);
+	}
+
+	/**
+	 * Passes all vertices of the subtree rooted at v to a consumer, in depth-first preorder,
+	 * i.e. all vertices whose shortest path from the root leads over v.
+	 * @param v        root of the subtree
+	 * @param consumer consumer receiving the vertices
+	 */
+	public void forEachInSubtree(int v, IntConsumer consumer) {
+		if (this.childOffsets == null) {
+			this.buildChildren();
+		}
+
+		final int[] stack = new int[this.dist.length];
+		int size = 0;
+		stack[size++] = v;
+
+		while (size > 0) {
+			final int u = stack[--size];
+			consumer.accept(u);
+
+			/* push the children in reverse order, so that they are visited in their order */
+			for (int i = this.childOffsets[u + 1] - 1; i >= this.childOffsets[u]; --i) {
+				stack[size++] = this.children[i];
+			}
+		}
+	}
+
+	/**
+	 * @param v vertex
+	 * @return number of vertices in the subtree rooted at v, including v
+	 */
+	public int getSubtreeSize(int v) {
+		final int[] count = { 0 };
+		this.forEachInSubtree(v, u -> count[0]++);
+		return count[0];
+	}
+
+	/**
+	 * Returns the tree as a directed graph on the same vertices, containing the arc (parent[v], v) for each vertex v
+	 * that has a parent, with the weight of the arc the search has relaxed.
+	 * @return shortest-path tree as graph
+	 */
+	public Graph toGraph() {
+		if (this.tree == null) {
+			final int n = this.dist.length;
+			final Graph tree = new DirectedGraphList();
+			tree.addVertices(n);
+
+			for (int v = 0; v < n; ++v) {
+				final int u = this.parent[v];
+				if (u != NONE) {
+					tree.addEdge(u, v, this.parentWeight[v]);
+				}
+			}
+
+			this.tree = tree;
+		}
+
+		return this.tree;
+	}
+
+	/**
+	 * Collects the children of all vertices in CSR format by counting them and placing them at prefix sums.
+	 */
+	private void buildChildren() {
+		final int n = this.dist.length;
+		final int[] offsets = new int[n + 1];
+
+		for (int v = 0; v < n; ++v) {
+			if (this.parent[v] != NONE) {
+				offsets[this.parent[v] + 1]++;
+			}
+		}
+		for (int v = 0; v < n; ++v) {
+			offsets[v + 1] += offsets[v];
+		}
+
+		final int[] children = new int[offsets[n]];
+		final int[] next = new int[n];
+		for (int v = 0; v < n; ++v) {
+			final int u = this.parent[v];
+			if (u != NONE) {
+				children[offsets[u] + next[u]++] = v;
+			}
+		}
+
+		this.children = children;
+		this.childOffsets = offsets;
+	}
+}
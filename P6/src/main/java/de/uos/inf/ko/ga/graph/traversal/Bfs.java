@@ -0,0 +1,401 @@
+package de.uos.inf.ko.ga.graph.traversal;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+
+import de.uos.inf.ko.ga.graph.EdgeConsumer;
+import de.uos.inf.ko.ga.graph.Graph;
+import de.uos.inf.ko.ga.graph.util.AtomicBitSet;
+import de.uos.inf.ko.ga.graph.util.ParallelLoop;
+
+/**
+ * Level-synchronous parallel breadth-first search computing the number of arcs on a shortest path (hop distance)
+ * from a root vertex to all vertices, together with the parent of each vertex in the BFS tree. The edge weights
+ * are ignored, so for unweighted graphs the hop distances are the distances computed by Dijkstra.
+ *
+ * Each level is expanded in one of two directions (Beamer, Asanovic and Patterson). Top-down, the threads scan the
+ * successors of the vertices of the frontier and claim unvisited vertices with compare-and-set in a bitset.
+ * Bottom-up, each thread scans the predecessors of its own unvisited vertices and looks them up in a bitset of the
+ * frontier, which needs no atomic operations and pays off when the frontier contains a large part of the graph:
+ * top-down, almost all arcs of such a frontier lead to vertices that have already been visited.
+ *
+ * The search switches to bottom-up when the frontier is larger than the unvisited vertices divided by ALPHA, and
+ * back to top-down when the frontier shrinks below n / BETA. The original heuristic compares the numbers of arcs
+ * of the frontier and of the unvisited vertices; assuming similar degrees, this compares the numbers of vertices
+ * and does not need a pass over the graph to compute the degrees.
+ */
+public class Bfs {
+
+	/** distance and parent of the vertices that are not reachable, and parent of the root */
+	public static final int NONE = -1;
+
+	/* switch to bottom-up when frontier size * ALPHA > number of unvisited vertices */
+	private static final int ALPHA = 14;
+	/* switch back to top-down when frontier size * BETA < n and the frontier shrinks */
+	private static final int BETA = 24;
+
+	private final int root;
+	private final int[] dist;
+	private final int[] parent;
+	/* number of levels, and number of levels expanded bottom-up */
+	private int levelCount = 0;
+	private int bottomUpLevelCount = 0;
+
+	private Bfs(int root, int n) {
+		this.root = root;
+		this.dist = new int[n];
+		this.parent = new int[n];
+		Arrays.fill(this.dist, NONE);
+		Arrays.fill(this.parent, NONE);
+	}
+
+	/**
+	 * Runs a direction-optimizing BFS from a root vertex using the common fork-join pool.
+	 * @param graph Input graph
+	 * @param start Root vertex
+	 * @return hop distances and parents
+	 */
+	public static Bfs search(Graph graph, int start) {
+		return search(graph, start, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Runs a direction-optimizing BFS from a root vertex.
+	 * @param graph Input graph
+	 * @param start Root vertex
+	 * @param pool  Pool expanding the levels
+	 * @return hop distances and parents
+	 */
+	public static Bfs search(Graph graph, int start, ForkJoinPool pool) {
+		return run(graph, start, pool, true);
+	}
+
+	/**
+	 * Runs a parallel BFS from a root vertex that expands all levels top-down, e.g. for comparison.
+	 * @param graph Input graph
+	 * @param start Root vertex
+	 * @param pool  Pool expanding the levels
+	 * @return hop distances and parents
+	 */
+	public static Bfs searchTopDown(Graph graph, int start, ForkJoinPool pool) {
+		return run(graph, start, pool, false);
+	}
+
+	public int getRoot() {
+		return this.root;
+	}
+
+	/**
+	 * @param v vertex
+	 * @return number of arcs on a shortest path from the root to v, or NONE if v is not reachable
+	 */
+	public int getDistance(int v) {
+		return this.dist[v];
+	}
+
+	/**
+	 * @return copy of the hop distances of all vertices
+	 */
+	public int[] getDistances() {
+		return this.dist.clone();
+	}
+
+	/**
+	 * @param v vertex
+	 * @return predecessor of v in the BFS tree, or NONE for the root and the vertices that are not reachable
+	 */
+	public int getParent(int v) {
+		return this.parent[v];
+	}
+
+	/**
+	 * @return copy of the parents of all vertices
+	 */
+	public int[] getParents() {
+		return this.parent.clone();
+	}
+
+	/**
+	 * @return number of levels, i.e. the largest hop distance plus one
+	 */
+	public int getLevelCount() {
+		return this.levelCount;
+	}
+
+	/**
+	 * @return number of levels whose successors have been found bottom-up
+	 */
+	public int getBottomUpLevelCount() {
+		return this.bottomUpLevelCount;
+	}
+
+	private static Bfs run(Graph graph, int start, ForkJoinPool pool, boolean directionOptimizing) {
+		final int n = graph.getVertexCount();
+		if ((start < 0) || (start >= n)) {
+			throw new IllegalArgumentException("invalid start vertex");
+		}
+
+		final Bfs result = new Bfs(start, n);
+		final Search search = new Search(graph, pool, result);
+		search.run(start, directionOptimizing);
+		return result;
+	}
+
+	/**
+	 * State of one search.
+	 */
+	private static class Search {
+		private final Graph graph;
+		private final ForkJoinPool pool;
+		private final int[] dist;
+		private final int[] parent;
+		private final Bfs result;
+
+		/* visited vertices; claimed with compare-and-set top-down */
+		private final AtomicBitSet visited;
+		/* vertices of the current and of the next level as bitsets, only used bottom-up */
+		private long[] frontierBits;
+		private long[] nextBits;
+
+		/* vertices of the current level */
+		private int[] frontier;
+		private int frontierSize;
+
+		Search(Graph graph, ForkJoinPool pool, Bfs result) {
+			final int n = graph.getVertexCount();
+			this.graph = graph;
+			this.pool = pool;
+			this.dist = result.dist;
+			this.parent = result.parent;
+			this.result = result;
+			this.visited = new AtomicBitSet(n);
+			this.frontier = new int[] { 0 };
+		}
+
+		void run(int start, boolean directionOptimizing) {
+			final int n = this.dist.length;
+
+			this.dist[start] = 0;
+			this.visited.set(start);
+			this.frontier[0] = start;
+			this.frontierSize = 1;
+
+			int unvisited = n - 1;
+			int previousSize = 0;
+			boolean bottomUp = false;
+			/* whether frontierBits contains the current level */
+			boolean bitsValid = false;
+
+			for (int level = 0; this.frontierSize > 0; ++level) {
+				if (directionOptimizing) {
+					if (!bottomUp && ((long) this.frontierSize * ALPHA > unvisited)) {
+						bottomUp = true;
+					} else if (bottomUp && ((long) this.frontierSize * BETA < n) && (this.frontierSize < previousSize)) {
+						bottomUp = false;
+					}
+				}
+
+				previousSize = this.frontierSize;
+				if (bottomUp) {
+					if (!bitsValid) {
+						this.fillFrontierBits();
+					}
+					this.bottomUpStep(level);
+					bitsValid = true;
+					this.result.bottomUpLevelCount++;
+				} else {
+					this.topDownStep(level);
+					bitsValid = false;
+				}
+
+				unvisited -= this.frontierSize;
+				this.result.levelCount++;
+			}
+		}
+
+		/**
+		 * Visits the unvisited successors of the frontier in parallel and makes them the new frontier.
+		 */
+		private void topDownStep(int level) {
+			final ConcurrentLinkedQueue<IntList> found = new ConcurrentLinkedQueue<>();
+			final int[] frontier = this.frontier;
+
+			ParallelLoop.forRange(this.pool, 0, this.frontierSize, (first, last) -> {
+				final Expansion expansion = new Expansion(this.visited, this.dist, this.parent, level + 1);
+				for (int k = first; k < last; ++k) {
+					expansion.v = frontier[k];
+					this.graph.forEachSuccessor(expansion.v, expansion);
+				}
+				if (expansion.found.size > 0) {
+					found.add(expansion.found);
+				}
+			});
+
+			this.collect(found);
+		}
+
+		/**
+		 * Lets each unvisited vertex look for a predecessor in the frontier, in parallel over blocks of 64 vertices
+		 * such that each word of the bitsets is written by a single thread.
+		 */
+		private void bottomUpStep(int level) {
+			final ConcurrentLinkedQueue<IntList> found = new ConcurrentLinkedQueue<>();
+			final int n = this.dist.length;
+			final int words = this.visited.wordCount();
+			if (this.nextBits == null) {
+				this.nextBits = new long[words];
+			}
+			final long[] nextBits = this.nextBits;
+
+			ParallelLoop.forRange(this.pool, 0, words, ParallelLoop.grain(this.pool, n) / 64 + 1, (first, last) -> {
+				final ParentSearch search = new ParentSearch(this.frontierBits);
+				final IntList list = new IntList();
+
+				for (int w = first; w < last; ++w) {
+					long next = 0L;
+					long unvisited = ~this.visited.getWord(w);
+					if (w == words - 1) {
+						/* ignore the bits after the last vertex */
+						unvisited &= -1L >>> (64 * words - n);
+					}
+
+					while (unvisited != 0) {
+						final int bit = Long.numberOfTrailingZeros(unvisited);
+						unvisited &= unvisited - 1;
+						final int v = 64 * w + bit;
+
+						search.found = NONE;
+						this.graph.forEachPredecessor(v, search);
+						if (search.found != NONE) {
+							this.dist[v] = level + 1;
+							this.parent[v] = search.found;
+							next |= 1L << bit;
+							list.add(v);
+						}
+					}
+
+					nextBits[w] = next;
+				}
+
+				/* the words of these vertices belong to this block, so the compare-and-set operations do not compete */
+				for (int k = 0; k < list.size; ++k) {
+					this.visited.set(list.values[k]);
+				}
+				if (list.size > 0) {
+					found.add(list);
+				}
+			});
+
+			this.nextBits = this.frontierBits;
+			this.frontierBits = nextBits;
+			this.collect(found);
+		}
+
+		/**
+		 * Builds the bitset of the frontier from the list of its vertices.
+		 */
+		private void fillFrontierBits() {
+			if (this.frontierBits == null) {
+				this.frontierBits = new long[this.visited.wordCount()];
+			} else {
+				Arrays.fill(this.frontierBits, 0L);
+			}
+
+			for (int k = 0; k < this.frontierSize; ++k) {
+				final int v = this.frontier[k];
+				this.frontierBits[v >>> 6] |= 1L << v;
+			}
+		}
+
+		/**
+		 * Concatenates the vertices found by the threads to the new frontier.
+		 */
+		private void collect(ConcurrentLinkedQueue<IntList> found) {
+			int size = 0;
+			for (IntList list : found) {
+				size += list.size;
+			}
+
+			if (this.frontier.length < size) {
+				this.frontier = new int[Math.max(size, 2 * this.frontier.length)];
+			}
+
+			int pos = 0;
+			for (IntList list : found) {
+				System.arraycopy(list.values, 0, this.frontier, pos, list.size);
+				pos += list.size;
+			}
+			this.frontierSize = size;
+		}
+	}
+
+	/**
+	 * Consumer claiming the unvisited successors of the frontier vertex 'v'.
+	 */
+	private static class Expansion implements EdgeConsumer {
+		private final AtomicBitSet visited;
+		private final int[] dist;
+		private final int[] parent;
+		private final int level;
+
+		/* vertices claimed by this consumer */
+		private final IntList found = new IntList();
+
+		/* vertex whose successors are scanned */
+		private int v;
+
+		Expansion(AtomicBitSet visited, int[] dist, int[] parent, int level) {
+			this.visited = visited;
+			this.dist = dist;
+			this.parent = parent;
+			this.level = level;
+		}
+
+		@Override
+		public void accept(int w, double weight) {
+			/* read before the compare-and-set, since most successors have been visited already */
+			if (!this.visited.get(w) && this.visited.set(w)) {
+				this.dist[w] = this.level;
+				this.parent[w] = this.v;
+				this.found.add(w);
+			}
+		}
+	}
+
+	/**
+	 * Consumer looking for a predecessor that belongs to the frontier. The consumer cannot stop the scan of the
+	 * predecessors, but after the first match, the remaining predecessors are skipped without reading the bitset.
+	 */
+	private static class ParentSearch implements EdgeConsumer {
+		private final long[] frontierBits;
+
+		private int found;
+
+		ParentSearch(long[] frontierBits) {
+			this.frontierBits = frontierBits;
+		}
+
+		@Override
+		public void accept(int u, double weight) {
+			if ((this.found == NONE) && ((this.frontierBits[u >>> 6] & (1L << u)) != 0)) {
+				this.found = u;
+			}
+		}
+	}
+
+	/**
+	 * Growable list of ints.
+	 */
+	private static class IntList {
+		private int[] values = new int[16];
+		private int size = 0;
+
+		void add(int value) {
+			if (this.size == this.values.length) {
+				this.values = Arrays.copyOf(this.values, 2 * this.size);
+			}
+			this.values[this.size++] = value;
+		}
+	}
+}
@@ -0,0 +1,106 @@
+package de.uos.inf.ko.ga.graph.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size bitset that can be modified by several threads at once.
+ * Bits are set with compare-and-set operations on the words of an AtomicLongArray.
+ * The words can be read directly, so that threads can skip regions of 64 cleared bits at once.
+ */
+public class AtomicBitSet {
+
+	private final int size;
+	private final AtomicLongArray words;
+
+	/**
+	 * Creates a bitset of the given size in which all bits are cleared.
+	 * @param size number of bits
+	 */
+	public AtomicBitSet(int size) {
+		if (size < 0) {
+			throw new IllegalArgumentException("size of the bitset must not be negative");
+		}
+
+		this.size = size;
+		this.words = new AtomicLongArray((size + 63) >>> 6);
+	}
+
+	/**
+	 * @return number of bits
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	public boolean get(int i) {
+		return (this.words.get(i >>> 6) & (1L << i)) != 0;
+	}
+
+	/**
+	 * Sets bit i.
+	 * @param i index of the bit
+	 * @return true if the bit has been set by this call, false if it was set before
+	 */
+	public boolean set(int i) {
+		final int w = i >>> 6;
+		final long mask = 1L << i;
+
+		while (true) {
+			final long word = this.words.get(w);
+			if ((word & mask) != 0) {
+				return false;
+			}
+
+			if (this.words.compareAndSet(w, word, word | mask)) {
+				return true;
+			}
+		}
+	}
+
+	/**
+	 * Clears all bits. Must not be called concurrently with other modifications.
+	 */
+	public void clear() {
+		for (int w = 0; w < this.words.length(); ++w) {
+			this.words.set(w, 0L);
+		}
+	}
+
+	/**
+	 * @return number of words of 64 bits
+	 */
+	public int wordCount() {
+		return this.words.length();
+	}
+
+	/**
+	 * Returns the word containing bits 64 w, ..., 64 w + 63, where bit i of the word corresponds to bit 64 w + i.
+	 * @param w index of the word
+	 * @return bits of the word
+	 */
+	public long getWord(int w) {
+		return this.words.get(w);
+	}
+
+	public boolean isEmpty() {
+		for (int w = 0; w < this.words.length(); ++w) {
+			if (this.words.get(w) != 0) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * @return number of set bits
+	 */
+	public int cardinality() {
+		int count = 0;
+		for (int w = 0; w < this.words.length(); ++w) {
+			count += Long.bitCount(this.words.get(w));
+		}
+
+		return count;
+	}
+}
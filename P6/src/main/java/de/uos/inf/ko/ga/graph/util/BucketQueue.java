@@ -0,0 +1,149 @@
+package de.uos.inf.ko.ga.graph.util;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Monotone priority queue of Dial for keys that exceed the key of the vertex removed last by at most a
+ * bound C, e.g. the largest edge weight in Dijkstra's algorithm. Hence, the keys in the queue span at most
+ * C + 1 values, and each of C + 1 buckets, used cyclically, holds the vertices with one key. Insertions and
+ * decrease-key operations take O(1); removing the minimum scans the buckets from the last key onwards, so
+ * Dijkstra's algorithm runs in O(m + n + D), where D is the largest distance.
+ *
+ * The buckets are doubly linked lists threaded through primitive arrays, so that no memory is allocated
+ * after construction.
+ */
+public class BucketQueue implements MonotoneQueue {
+
+	/* marks the end of a list and vertices that are not contained */
+	private static final int NONE = -1;
+
+	/* first vertex of each bucket */
+	private final int[] heads;
+	/* neighbors of each vertex in the list of its bucket */
+	private final int[] next;
+	private final int[] prev;
+	/* key of each vertex */
+	private final long[] keys;
+	private final boolean[] contained;
+	private int size = 0;
+
+	/* key of the vertex removed last and its bucket */
+	private long lastKey = 0;
+	private int cursor = 0;
+
+	/**
+	 * @param capacity number of vertices
+	 * @param maxStep  largest difference between a key and the key of the vertex removed last
+	 */
+	public BucketQueue(int capacity, int maxStep) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("capacity of the queue must not be negative");
+		}
+		if ((maxStep < 0) || (maxStep == Integer.MAX_VALUE)) {
+			throw new IllegalArgumentException("invalid difference of the keys");
+		}
+
+		this.heads = new int[maxStep + 1];
+		this.next = new int[capacity];
+		this.prev = new int[capacity];
+		this.keys = new long[capacity];
+		this.contained = new boolean[capacity];
+		Arrays.fill(this.heads, NONE);
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	@Override
+	public int size() {
+		return this.size;
+	}
+
+	@Override
+	public boolean contains(int v) {
+		return this.contained[v];
+	}
+
+	@Override
+	public long getLastKey() {
+		return this.lastKey;
+	}
+
+	@Override
+	public boolean insertOrDecrease(int v, long key) {
+		if ((key < this.lastKey) || (key - this.lastKey >= this.heads.length)) {
+			throw new IllegalArgumentException("key is out of the range of the buckets");
+		}
+
+		if (this.contained[v]) {
+			if (key >= this.keys[v]) {
+				return false;
+			}
+			this.unlink(v);
+		} else {
+			this.contained[v] = true;
+			this.size++;
+		}
+
+		this.keys[v] = key;
+
+		/* the bucket of a key lies key - lastKey buckets after the cursor */
+		int bucket = this.cursor + (int) (key - this.lastKey);
+		if (bucket >= this.heads.length) {
+			bucket -= this.heads.length;
+		}
+
+		final int head = this.heads[bucket];
+		this.next[v] = head;
+		this.prev[v] = NONE;
+		if (head != NONE) {
+			this.prev[head] = v;
+		}
+		this.heads[bucket] = v;
+
+		return true;
+	}
+
+	@Override
+	public int poll() {
+		if (this.size == 0) {
+			throw new NoSuchElementException("queue is empty");
+		}
+
+		/* skip empty buckets; the queue is not empty, so a vertex is found within one round */
+		while (this.heads[this.cursor] == NONE) {
+			this.cursor++;
+			if (this.cursor == this.heads.length) {
+				this.cursor = 0;
+			}
+			this.lastKey++;
+		}
+
+		final int v = this.heads[this.cursor];
+		this.unlink(v);
+		this.contained[v] = false;
+		this.size--;
+
+		return v;
+	}
+
+	private void unlink(int v) {
+		if (this.prev[v] != NONE) {
+			this.next[this.prev[v]] = this.next[v];
+		} else {
+			/* v is the head of its bucket */
+			int bucket = this.cursor + (int) (this.keys[v] - this.lastKey);
+			if (bucket >= this.heads.length) {
+				bucket -= this.heads.length;
+			}
+			this.heads[bucket] = this.next[v];
+		}
+
+		if (this.next[v] != NONE) {
+			this.prev[this.next[v]] = this.prev[v];
+		}
+	}
+}
@@ -0,0 +1,105 @@
+package de.uos.inf.ko.ga.graph.util;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Disjoint-set (union-find) structure over the elements 0, ..., n - 1 that can be used by several threads at once.
+ * The parent pointers are updated with compare-and-set operations only. Roots are always linked below the root
+ * with the greater id, which rules out cycles even if several threads link roots at the same time, and find
+ * compresses paths by path halving, which never points an element to a vertex that is not its ancestor.
+ */
+public class ConcurrentDisjointSet {
+
+	/* parent of each element; roots are their own parents */
+	private final AtomicIntegerArray parent;
+
+	/**
+	 * Creates n singleton sets { 0 }, ..., { n - 1 }.
+	 * @param n number of elements
+	 */
+	public ConcurrentDisjointSet(int n) {
+		if (n < 0) {
+			throw new IllegalArgumentException("number of elements must not be negative");
+		}
+
+		this.parent = new AtomicIntegerArray(n);
+		for (int v = 0; v < n; ++v) {
+			this.parent.set(v, v);
+		}
+	}
+
+	/**
+	 * Determines the current representative of the set containing v.
+	 * @param v element
+	 * @return representative of the set of v
+	 */
+	public int find(int v) {
+		while (true) {
+			final int p = this.parent.get(v);
+			if (p == v) {
+				return v;
+			}
+
+			/* path halving: let v skip its parent */
+			final int gp = this.parent.get(p);
+			if (p != gp) {
+				this.parent.compareAndSet(v, p, gp);
+			}
+			v = gp;
+		}
+	}
+
+	/**
+	 * Merges the sets containing u and v.
+	 * @param u element
+	 * @param v element
+	 * @return true if u and v were in different sets before, i.e. if this call merged two sets
+	 */
+	public boolean union(int u, int v) {
+		while (true) {
+			int ru = this.find(u);
+			int rv = this.find(v);
+			if (ru == rv) {
+				return false;
+			}
+
+			if (ru > rv) {
+				final int tmp = ru;
+				ru = rv;
+				rv = tmp;
+			}
+
+			/* fails if another thread has linked ru in the meantime; retry with the new roots then */
+			if (this.parent.compareAndSet(ru, ru, rv)) {
+				return true;
+			}
+		}
+	}
+
+	/**
+	 * @param u element
+	 * @param v element
+	 * @return true if u and v are in the same set
+	 */
+	public boolean connected(int u, int v) {
+		while (true) {
+			final int ru = this.find(u);
+			final int rv = this.find(v);
+			if (ru == rv) {
+				return true;
+			}
+
+			/* ru is still a root, so the answer was correct at the moment it was checked */
+			if (this.parent.get(ru) == ru) {
+				return false;
+			}
+		}
+	}
+
+	/**
+	 * @return number of elements
+	 */
+	public int size() {
+		return this.parent.length();
+	}
+}
@@ -0,0 +1,106 @@
+package de.uos.inf.ko.ga.graph.util;
+
+/**
+ * Disjoint-set (union-find) structure over the elements 0, ..., n - 1.
+ * Uses union by rank and path compression, so that a sequence of m operations
+ * runs in O(m * alpha(n)), where alpha is the inverse Ackermann function.
+ */
+public class DisjointSet {
+
+	/* parent of each element; roots are their own parents */
+	private final int[] parent;
+	/* upper bound of the height of the tree of each root */
+	private final byte[] rank;
+	/* number of disjoint sets */
+	private int count;
+
+	/**
+	 * Creates n singleton sets { 0 }, ..., { n - 1 }.
+	 * @param n number of elements
+	 */
+	public DisjointSet(int n) {
+		if (n < 0) {
+			throw new IllegalArgumentException("number of elements must not be negative");
+		}
+
+		this.parent = new int[n];
+		this.rank = new byte[n];
+		this.count = n;
+
+		for (int v = 0; v < n; ++v) {
+			this.parent[v] = v;
+		}
+	}
+
+	/**
+	 * Determines the representative of the set containing v and
+	 * lets all elements on the path from v point to the representative.
+	 * @param v element
+	 * @return representative of the set of v
+	 */
+	public int find(int v) {
+		int root = v;
+		while (this.parent[root] != root) {
+			root = this.parent[root];
+		}
+
+		/* path compression */
+		while (this.parent[v] != root) {
+			final int next = this.parent[v];
+			this.parent[v] = root;
+			v = next;
+		}
+
+		return root;
+	}
+
+	/**
+	 * Merges the sets containing u and v.
+	 * @param u element
+	 * @param v element
+	 * @return true if u and v were in different sets before
+	 */
+	public boolean union(int u, int v) {
+		int ru = this.find(u);
+		int rv = this.find(v);
+		if (ru == rv) {
+			return false;
+		}
+
+		/* attach the lower tree below the root of the higher tree */
+		if (this.rank[ru] < this.rank[rv]) {
+			final int tmp = ru;
+			ru = rv;
+			rv = tmp;
+		} else if (this.rank[ru] == this.rank[rv]) {
+			this.rank[ru]++;
+		}
+
+		this.parent[rv] = ru;
+		this.count--;
+		return true;
+	}
+
+	/**
+	 * @param u element
+	 * @param v element
+	 * @return true if u and v are in the same set
+	 */
+	public boolean connected(int u, int v) {
+		return this.find(u) == this.find(v);
+	}
+
+	/**
+	 * @return number of disjoint sets
+	 */
+	public int getCount() {
+		return this.count;
+	}
+
+	/**
+	 * @return number of elements
+	 */
+	public int size() {
+		return this.parent.length;
+	}
+}
@@ -0,0 +1,280 @@
+package de.uos.inf.ko.ga.graph.util;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Min-heap of vertex ids 0, ..., capacity - 1 with double keys that is stored in primitive arrays.
+ * Each vertex is contained at most once. The position of each vertex in the heap is tracked in
+ * a separate array, so that contains, getKey and decreaseKey do not need to search the heap and
+ * decreaseKey runs in O(log n).
+ *
+ * The heap is d-ary with d = 2, 4 or 8. A larger arity makes the heap shallower, which speeds up
+ * decreaseKey, and keeps the children of a node within one or two cache lines, at the cost of more
+ * comparisons in poll. Since shortest-path algorithms usually perform more decrease-key operations
+ * than extractions, d = 4 is the default.
+ */
+public class IndexedHeap {
+
+	/** arity used by the constructor without an explicit arity */
+	public static final int DEFAULT_ARITY = 4;
+
+	/* marks vertices that are not contained in the heap */
+	private static final int ABSENT = -1;
+
+	/* log2 of the arity; the children of position i are at (i << shift) + 1, ..., (i << shift) + d */
+	private final int shift;
+	/* vertices in heap order */
+	private final int[] heap;
+	/* key of each vertex in heap order, i.e. keys[i] is the key of heap[i] */
+	private final double[] keys;
+	/* position of each vertex in the heap, or ABSENT */
+	private final int[] positions;
+	/* number of vertices in the heap */
+	private int size = 0;
+
+	/**
+	 * Creates an empty 4-ary heap for the vertices 0, ..., capacity - 1.
+	 * @param capacity number of vertices
+	 */
+	public IndexedHeap(int capacity) {
+		this(capacity, DEFAULT_ARITY);
+	}
+
+	/**
+	 * Creates an empty d-ary heap for the vertices 0, ..., capacity - 1.
+	 * @param capacity number of vertices
+	 * @param arity    number of children of each node (2, 4 or 8)
+	 */
+	public IndexedHeap(int capacity, int arity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("capacity of the heap must not be negative");
+		}
+
+		switch (arity) {
+			case 2: this.shift = 1; break;
+			case 4: this.shift = 2; break;
+			case 8: this.shift = 3; break;
+			default: throw new IllegalArgumentException("arity of the heap must be 2, 4 or 8");
+		}
+
+		this.heap = new int[capacity];
+		this.keys = new double[capacity];
+		this.positions = new int[capacity];
+		Arrays.fill(this.positions, ABSENT);
+	}
+
+	/**
+	 * @return number of children of each node
+	 */
+	public int getArity() {
+		return 1 << this.shift;
+	}
+
+	/**
+	 * @return number of vertices the heap has room for
+	 */
+	public int getCapacity() {
+		return this.heap.length;
+	}
+
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	public int size() {
+		return this.size;
+	}
+
+	public boolean contains(int v) {
+		return this.positions[v] != ABSENT;
+	}
+
+	/**
+	 * Returns the key of a vertex contained in the heap.
+	 * @param v vertex id
+	 * @return key of v
+	 */
+	public double getKey(int v) {
+		if (!this.contains(v)) {
+			throw new IllegalArgumentException("vertex is not contained in the heap");
+		}
+
+		return this.keys[this.positions[v]];
+	}
+
+	/**
+	 * Inserts a vertex that is not contained in the heap.
+	 * @param v   vertex id
+	 * @param key key of v
+	 */
+	public void insert(int v, double key) {
+		if (this.contains(v)) {
+			throw new IllegalArgumentException("vertex is already contained in the heap");
+		}
+
+		final int i = this.size++;
+		this.heap[i] = v;
+		this.keys[i] = key;
+		this.positions[v] = i;
+		this.siftUp(i);
+	}
+
+	/**
+	 * Decreases the key of a vertex contained in the heap.
+	 * @param v   vertex id
+	 * @param key new key of v, which must not be greater than the current one
+	 */
+	public void decreaseKey(int v, double key) {
+		if (!this.contains(v)) {
+			throw new IllegalArgumentException("vertex is not contained in the heap");
+		}
+
+		final int i = this.positions[v];
+		if (key > this.keys[i]) {
+			throw new IllegalArgumentException("cannot increase the key of a vertex");
+		}
+
+		this.keys[i] = key;
+		this.siftUp(i);
+	}
+
+	/**
+	 * Inserts a vertex or decreases its key if the vertex is contained with a greater key.
+	 * @param v   vertex id
+	 * @param key key of v
+	 * @return true if the heap has been changed
+	 */
+	public boolean insertOrDecrease(int v, double key) {
+		final int i = this.positions[v];
+		if (i == ABSENT) {
+			this.insert(v, key);
+			return true;
+		}
+
+		if (key < this.keys[i]) {
+			this.keys[i] = key;
+			this.siftUp(i);
+			return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * @return vertex with the minimum key
+	 */
+	public int peek() {
+		if (this.size == 0) {
+			throw new NoSuchElementException("heap is empty");
+		}
+
+		return this.heap[0];
+	}
+
+	/**
+	 * @return minimum key
+	 */
+	public double peekKey() {
+		if (this.size == 0) {
+			throw new NoSuchElementException("heap is empty");
+		}
+
+		return this.keys[0];
+	}
+
+	/**
+	 * Removes the vertex with the minimum key from the heap.
+	 * @return vertex with the minimum key
+	 */
+	public int poll() {
+		if (this.size == 0) {
+			throw new NoSuchElementException("heap is empty");
+		}
+
+		final int min = this.heap[0];
+		this.positions[min] = ABSENT;
+
+		/* move the last vertex to the root and restore the heap property */
+		final int last = --this.size;
+		if (last > 0) {
+			this.heap[0] = this.heap[last];
+			this.keys[0] = this.keys[last];
+			this.positions[this.heap[0]] = 0;
+			this.siftDown(0);
+		}
+
+		return min;
+	}
+
+	/**
+	 * Removes all vertices from the heap in O(size).
+	 */
+	public void clear() {
+		for (int i = 0; i < this.size; ++i) {
+			this.positions[this.heap[i]] = ABSENT;
+		}
+
+		this.size = 0;
+	}
+
+	private void siftUp(int i) {
+		final int v = this.heap[i];
+		final double key = this.keys[i];
+
+		/* move parents down until the position of v has been found */
+		while (i > 0) {
+			final int parent = (i - 1) >>> this.shift;
+			if (this.keys[parent] <= key) {
+				break;
+			}
+
+			this.move(parent, i);
+			i = parent;
+		}
+
+		this.place(v, key, i);
+	}
+
+	private void siftDown(int i) {
+		final int v = this.heap[i];
+		final double key = this.keys[i];
+
+		/* move smallest children up until the position of v has been found */
+		while (true) {
+			final int first = (i << this.shift) + 1;
+			if (first >= this.size) {
+				break;
+			}
+
+			final int end = Math.min(first + (1 << this.shift), this.size);
+			int child = first;
+			for (int c = first + 1; c < end; ++c) {
+				if (this.keys[c] < this.keys[child]) {
+					child = c;
+				}
+			}
+
+			if (key <= this.keys[child]) {
+				break;
+			}
+
+			this.move(child, i);
+			i = child;
+		}
+
+		this.place(v, key, i);
+	}
+
+	private void move(int from, int to) {
+		this.heap[to] = this.heap[from];
+		this.keys[to] = this.keys[from];
+		this.positions[this.heap[to]] = to;
+	}
+
+	private void place(int v, double key, int i) {
+		this.heap[i] = v;
+		this.keys[i] = key;
+		this.positions[v] = i;
+	}
+}
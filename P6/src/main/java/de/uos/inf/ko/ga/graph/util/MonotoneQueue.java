@@ -0,0 +1,35 @@
+package de.uos.inf.ko.ga.graph.util;
+
+/**
+ * Priority queue of vertex ids 0, ..., capacity - 1 with non-negative integer keys that is monotone:
+ * no key may be smaller than the key of the vertex removed last. Dijkstra's algorithm only inserts such keys,
+ * which allows priority queues that are faster than comparison-based heaps.
+ * Each vertex is contained at most once.
+ */
+public interface MonotoneQueue {
+
+	public boolean isEmpty();
+
+	public int size();
+
+	public boolean contains(int v);
+
+	/**
+	 * Inserts a vertex or decreases its key if the vertex is contained with a greater key.
+	 * @param v   vertex id
+	 * @param key key of v, which must not be smaller than the key of the vertex removed last
+	 * @return true if the queue has been changed
+	 */
+	public boolean insertOrDecrease(int v, long key);
+
+	/**
+	 * Removes a vertex with the minimum key from the queue.
+	 * @return vertex with the minimum key
+	 */
+	public int poll();
+
+	/**
+	 * @return key of the vertex removed last, or 0 if no vertex has been removed yet
+	 */
+	public long getLastKey();
+}
@@ -0,0 +1,98 @@
+package de.uos.inf.ko.ga.graph.util;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Parallel loops over ranges of integers using fork-join tasks.
+ * A range is split in halves recursively until its length is at most the grain size;
+ * the resulting blocks are processed by the workers of the pool with work stealing.
+ */
+public class ParallelLoop {
+
+	/**
+	 * Body of a parallel loop that processes a block of consecutive indices.
+	 */
+	@FunctionalInterface
+	public interface RangeBody {
+		/**
+		 * Processes the indices start, ..., end - 1.
+		 * @param start first index of the block
+		 * @param end   index after the last index of the block
+		 */
+		void apply(int start, int end);
+	}
+
+	/**
+	 * Computes a grain size such that a range is split into a few blocks per worker.
+	 * @param pool   pool executing the loop
+	 * @param length length of the range
+	 * @return grain size
+	 */
+	public static int grain(ForkJoinPool pool, int length) {
+		return Math.max(1024, length / (8 * pool.getParallelism()));
+	}
+
+	/**
+	 * Processes the indices start, ..., end - 1 in parallel and waits until all blocks have been processed.
+	 * @param pool  pool executing the loop
+	 * @param start first index
+	 * @param end   index after the last index
+	 * @param body  body processing one block of indices
+	 */
+	public static void forRange(ForkJoinPool pool, int start, int end, RangeBody body) {
+		forRange(pool, start, end, grain(pool, end - start), body);
+	}
+
+	/**
+	 * Processes the indices start, ..., end - 1 in parallel and waits until all blocks have been processed.
+	 * @param pool  pool executing the loop
+	 * @param start first index
+	 * @param end   index after the last index
+	 * @param grain maximum length of a block that is processed sequentially
+	 * @param body  body processing one block of indices
+	 */
+	public static void forRange(ForkJoinPool pool, int start, int end, int grain, RangeBody body) {
+		if (grain < 1) {
+			throw new IllegalArgumentException("grain size must be positive");
+		}
+
+		if (end - start <= grain) {
+			/* not worth forking */
+			if (start < end) {
+				body.apply(start, end);
+			}
+			return;
+		}
+
+		pool.invoke(new RangeTask(start, end, grain, body));
+	}
+
+	private static class RangeTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final int start;
+		private final int end;
+		private final int grain;
+		private final RangeBody body;
+
+		RangeTask(int start, int end, int grain, RangeBody body) {
+			this.start = start;
+			this.end = end;
+			this.grain = grain;
+			this.body = body;
+		}
+
+		@Override
+		protected void compute() {
+			if (this.end - this.start <= this.grain) {
+				this.body.apply(this.start, this.end);
+				return;
+			}
+
+			final int middle = (this.start + this.end) >>> 1;
+			invokeAll(new RangeTask(this.start, middle, this.grain, this.body),
+					new RangeTask(middle, this.end, this.grain, this.body));
+		}
+	}
+}
@@ -0,0 +1,158 @@
+package de.uos.inf.ko.ga.graph.util;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Monotone radix heap for non-negative integer keys. A vertex with key k lies in bucket 0 if k equals the key
+ * of the vertex removed last, and otherwise in bucket i, where i - 1 is the highest bit in which k differs from
+ * that key. If bucket 0 is empty, removing the minimum moves the vertices of the first non-empty bucket to
+ * lower buckets relative to its smallest key; since the keys in the queue exceed the last key by at most C
+ * in Dijkstra's algorithm, a vertex moves at most log2(C) + 1 times, and the algorithm runs in O(m + n log C).
+ *
+ * The buckets are doubly linked lists threaded through primitive arrays, so that no memory is allocated
+ * after construction.
+ */
+public class RadixHeap implements MonotoneQueue {
+
+	/* marks the end of a list and vertices that are not contained */
+	private static final int NONE = -1;
+	/* bucket 0 and one bucket for each bit of a key */
+	private static final int BUCKETS = Long.SIZE + 1;
+
+	/* first vertex of each bucket */
+	private final int[] heads = new int[BUCKETS];
+	/* neighbors of each vertex in the list of its bucket */
+	private final int[] next;
+	private final int[] prev;
+	/* key and bucket of each vertex, NONE if the vertex is not contained */
+	private final long[] keys;
+	private final int[] buckets;
+	private int size = 0;
+
+	/* key of the vertex removed last */
+	private long lastKey = 0;
+
+	/**
+	 * @param capacity number of vertices
+	 */
+	public RadixHeap(int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("capacity of the heap must not be negative");
+		}
+
+		this.next = new int[capacity];
+		this.prev = new int[capacity];
+		this.keys = new long[capacity];
+		this.buckets = new int[capacity];
+		Arrays.fill(this.heads, NONE);
+		Arrays.fill(this.buckets, NONE);
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	@Override
+	public int size() {
+		return this.size;
+	}
+
+	@Override
+	public boolean contains(int v) {
+		return this.buckets[v] != NONE;
+	}
+
+	@Override
+	public long getLastKey() {
+		return this.lastKey;
+	}
+
+	@Override
+	public boolean insertOrDecrease(int v, long key) {
+		if (key < this.lastKey) {
+			throw new IllegalArgumentException("key is smaller than the key removed last");
+		}
+
+		if (this.buckets[v] != NONE) {
+			if (key >= this.keys[v]) {
+				return false;
+			}
+			this.unlink(v);
+		} else {
+			this.size++;
+		}
+
+		this.keys[v] = key;
+		this.link(v, this.bucket(key));
+
+		return true;
+	}
+
+	@Override
+	public int poll() {
+		if (this.size == 0) {
+			throw new NoSuchElementException("heap is empty");
+		}
+
+		if (this.heads[0] == NONE) {
+			int i = 1;
+			while (this.heads[i] == NONE) {
+				++i;
+			}
+
+			/* the smallest key of the bucket becomes the last key; all vertices of the bucket move to lower buckets */
+			long min = Long.MAX_VALUE;
+			for (int v = this.heads[i]; v != NONE; v = this.next[v]) {
+				min = Math.min(min, this.keys[v]);
+			}
+			this.lastKey = min;
+
+			int v = this.heads[i];
+			this.heads[i] = NONE;
+			while (v != NONE) {
+				final int following = this.next[v];
+				this.link(v, this.bucket(this.keys[v]));
+				v = following;
+			}
+		}
+
+		final int v = this.heads[0];
+		this.unlink(v);
+		this.buckets[v] = NONE;
+		this.size--;
+
+		return v;
+	}
+
+	/**
+	 * @return bucket of a key relative to the last key
+	 */
+	private int bucket(long key) {
+		return (key == this.lastKey) ? 0 : Long.SIZE - Long.numberOfLeadingZeros(key ^ this.lastKey);
+	}
+
+	private void link(int v, int bucket) {
+		final int head = this.heads[bucket];
+		this.next[v] = head;
+		this.prev[v] = NONE;
+		if (head != NONE) {
+			this.prev[head] = v;
+		}
+		this.heads[bucket] = v;
+		this.buckets[v] = bucket;
+	}
+
+	private void unlink(int v) {
+		if (this.prev[v] != NONE) {
+			this.next[this.prev[v]] = this.next[v];
+		} else {
+			this.heads[this.buckets[v]] = this.next[v];
+		}
+
+		if (this.next[v] != NONE) {
+			this.prev[this.next[v]] = this.prev[v];
+		}
+	}
+}
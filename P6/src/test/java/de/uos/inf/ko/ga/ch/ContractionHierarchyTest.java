@@ -0,0 +1,229 @@
+package de.uos.inf.ko.ga.ch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import de.uos.inf.ko.ga.graph.Graph;
+import de.uos.inf.ko.ga.graph.ch.ChQuery;
+import de.uos.inf.ko.ga.graph.ch.ContractionHierarchy;
+import de.uos.inf.ko.ga.graph.impl.DirectedGraphList;
+import de.uos.inf.ko.ga.graph.impl.UndirectedGraphList;
+import de.uos.inf.ko.ga.graph.shortestpath.Dijkstra;
+import de.uos.inf.ko.ga.graph.shortestpath.Path;
+import de.uos.inf.ko.ga.graph.util.GraphGenerator;
+
+public class ContractionHierarchyTest {
+
+	private static final double EPS = 0.0001;
+
+	/**
+	 * Tests whether a path leads from start to target via arcs of the graph and has the expected length.
+	 */
+	private static void assertValidPath(Graph graph, int start, int target, double expected, Path path) {
+		assertEquals(expected, path.getDistance(), EPS);
+		if (expected == Double.POSITIVE_INFINITY) {
+			assertFalse(path.exists());
+			return;
+		}
+
+		final List<Integer> vertices = path.getVertices();
+		assertEquals(start, (int) vertices.get(0));
+		assertEquals(target, (int) vertices.get(vertices.size() - 1));
+
+		double length = 0.0;
+		for (int i = 0; i + 1 < vertices.size(); ++i) {
+			final int u = vertices.get(i);
+			final int v = vertices.get(i + 1);
+			final double[] weight = { Double.POSITIVE_INFINITY };
+			graph.forEachSuccessor(u, (w, c) -> {
+				if (w == v) {
+					weight[0] = Math.min(weight[0], c);
+				}
+			});
+			assertTrue(weight[0] < Double.POSITIVE_INFINITY);
+			length += weight[0];
+		}
+		assertEquals(expected, length, EPS);
+	}
+
+	/**
+	 * Compares the distances and paths of all pairs of vertices with Dijkstra.
+	 */
+	private static void assertAllPairs(Graph graph, ContractionHierarchy hierarchy) {
+		final ChQuery query = new ChQuery(hierarchy);
+		for (int s = 0; s < graph.getVertexCount(); ++s) {
+			final double[] dist = Dijkstra.shortestPaths(graph, s);
+			for (int t = 0; t < graph.getVertexCount(); ++t) {
+				assertEquals(dist[t], query.distance(s, t), EPS);
+				assertValidPath(graph, s, t, dist[t], query.shortestPath(s, t));
+			}
+		}
+	}
+
+	/**
+	 * Generates a directed grid graph with arcs of random weight in [1, 2] between horizontally and vertically adjacent vertices.
+	 */
+	private static Graph generateGrid(int size, Random random) {
+		final Graph graph = new DirectedGraphList();
+		graph.addVertices(size * size);
+		for (int x = 0; x < size; ++x) {
+			for (int y = 0; y < size; ++y) {
+				final int v = x * size + y;
+				if (x + 1 < size) {
+					graph.addEdge(v, v + size, 1.0 + random.nextDouble());
+					graph.addEdge(v + size, v, 1.0 + random.nextDouble());
+				}
+				if (y + 1 < size) {
+					graph.addEdge(v, v + 1, 1.0 + random.nextDouble());
+					graph.addEdge(v + 1, v, 1.0 + random.nextDouble());
+				}
+			}
+		}
+		return graph;
+	}
+
+	@Test
+	public void testRandomGraphs() {
+		final Random random = new Random(21);
+		for (int i = 0; i < 5; ++i) {
+			final Graph directed = new DirectedGraphList();
+			GraphGenerator.generateRandomGraph(directed, 60, random, 0.05);
+			assertAllPairs(directed, ContractionHierarchy.build(directed));
+
+			final Graph undirected = new UndirectedGraphList();
+			GraphGenerator.generateRandomGraph(undirected, 60, random, 0.05);
+			assertAllPairs(undirected, ContractionHierarchy.build(undirected));
+		}
+	}
+
+	@Test
+	public void testGrid() {
+		final Graph graph = generateGrid(12, new Random(22));
+		final ContractionHierarchy hierarchy = ContractionHierarchy.build(graph);
+		assertAllPairs(graph, hierarchy);
+
+		/* the ranks are a permutation of the vertices */
+		final boolean[] used = new boolean[graph.getVertexCount()];
+		for (int v = 0; v < graph.getVertexCount(); ++v) {
+			assertFalse(used[hierarchy.getRank(v)]);
+			used[hierarchy.getRank(v)] = true;
+		}
+	}
+
+	@Test
+	public void testShortcut() {
+		/* contracting the middle vertex of a path needs a shortcut, unless there is a detour that is not longer */
+		final Graph graph = new DirectedGraphList();
+		graph.addVertices(3);
+		graph.addEdge(0, 1, 1.0);
+		graph.addEdge(1, 2, 1.0);
+
+		final ContractionHierarchy hierarchy = ContractionHierarchy.build(graph);
+		final Path path = new ChQuery(hierarchy).shortestPath(0, 2);
+		assertEquals(2.0, path.getDistance(), 0.0);
+		assertEquals(3, path.getVertices().size());
+		assertEquals(Double.POSITIVE_INFINITY, new ChQuery(hierarchy).distance(2, 0), 0.0);
+	}
+
+	@Test
+	public void testSaveAndLoad() throws IOException {
+		final Graph graph = generateGrid(10, new Random(23));
+		final ContractionHierarchy hierarchy = ContractionHierarchy.build(graph);
+
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		hierarchy.save(new DataOutputStream(bytes));
+		final ContractionHierarchy loaded = ContractionHierarchy.load(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+		assertEquals(hierarchy.getVertexCount(), loaded.getVertexCount());
+		assertEquals(hierarchy.getArcCount(), loaded.getArcCount());
+		assertEquals(hierarchy.getShortcutCount(), loaded.getShortcutCount());
+		assertAllPairs(graph, loaded);
+	}
+
+	@Test(expected = IOException.class)
+	public void testLoadInvalid() throws IOException {
+		ContractionHierarchy.load(new DataInputStream(new ByteArrayInputStream(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 })));
+	}
+
+	@Test
+	public void testLoadCorrupt() throws IOException {
+		final ContractionHierarchy hierarchy = ContractionHierarchy.build(generateGrid(5, new Random(24)));
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		hierarchy.save(new DataOutputStream(bytes));
+		final int n = hierarchy.getVertexCount();
+
+		/* positions of the first rank, the second upward offset and the first upward target after magic, version and lengths */
+		final int rank = 12;
+		final int upOffset = rank + 4 * n + 4 + 4;
+		final int upTarget = rank + 4 * n + 4 + 4 * (n + 1) + 4;
+		for (int[] corruption : new int[][] { { rank, n }, { upOffset, -1 }, { upOffset, Integer.MAX_VALUE }, { upTarget, n }, { upTarget, -2 } }) {
+			final ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+			buffer.putInt(corruption[0], corruption[1]);
+			try {
+				ContractionHierarchy.load(new DataInputStream(new ByteArrayInputStream(buffer.array())));
+				fail("corrupt hierarchy loaded");
+			} catch (IOException e) {
+				assertEquals("inconsistent contraction hierarchy", e.getMessage());
+			}
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNegativeWeights() {
+		final Graph graph = new DirectedGraphList();
+		graph.addVertices(2);
+		graph.addEdge(0, 1, -1.0);
+		ContractionHierarchy.build(graph);
+	}
+
+	@Test
+	public void testCompareRunningTimes() {
+		final Random random = new Random(24);
+		final Graph graph = generateGrid(100, random);
+		final int n = graph.getVertexCount();
+
+		long start = System.nanoTime();
+		final ContractionHierarchy hierarchy = ContractionHierarchy.build(graph);
+		final double preprocessing = (System.nanoTime() - start) / 1e6;
+
+		final ChQuery query = new ChQuery(hierarchy);
+		final int queries = 50;
+		final int[] sources = new int[queries];
+		final int[] targets = new int[queries];
+		for (int i = 0; i < queries; ++i) {
+			sources[i] = random.nextInt(n);
+			targets[i] = random.nextInt(n);
+		}
+
+		start = System.nanoTime();
+		final double[] expected = new double[queries];
+		for (int i = 0; i < queries; ++i) {
+			expected[i] = Dijkstra.shortestPath(graph, sources[i], targets[i]).getDistance();
+		}
+		final double timeDijkstra = (System.nanoTime() - start) / 1e6;
+
+		start = System.nanoTime();
+		long settled = 0;
+		for (int i = 0; i < queries; ++i) {
+			assertEquals(expected[i], query.distance(sources[i], targets[i]), EPS);
+			settled += query.getSettledCount();
+		}
+		final double timeCh = (System.nanoTime() - start) / 1e6;
+
+		System.out.println("contraction hierarchy: " + n + " vertices, " + hierarchy.getShortcutCount() + " shortcuts, preprocessing " + preprocessing + " ms");
+		System.out.println(queries + " queries: Dijkstra " + timeDijkstra + " ms, contraction hierarchy " + timeCh + " ms (" + (settled / queries) + " vertices visited per query)");
+	}
+}
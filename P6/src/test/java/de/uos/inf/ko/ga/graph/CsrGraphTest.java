@@ -0,0 +1,165 @@
+package de.uos.inf.ko.ga.graph;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import de.uos.inf.ko.ga.graph.converter.GraphConverter;
+import de.uos.inf.ko.ga.graph.impl.CsrGraph;
+import de.uos.inf.ko.ga.graph.impl.DirectedGraphList;
+import de.uos.inf.ko.ga.graph.impl.DirectedGraphMatrix;
+import de.uos.inf.ko.ga.graph.impl.UndirectedGraphList;
+import de.uos.inf.ko.ga.graph.impl.UndirectedGraphMatrix;
+import de.uos.inf.ko.ga.graph.mst.Prim;
+import de.uos.inf.ko.ga.graph.reader.GraphReader;
+import de.uos.inf.ko.ga.graph.shortestpath.BellmanFord;
+import de.uos.inf.ko.ga.graph.shortestpath.Dijkstra;
+import de.uos.inf.ko.ga.graph.shortestpath.Floyd;
+import de.uos.inf.ko.ga.graph.util.GraphGenerator;
+
+public class CsrGraphTest {
+
+	private static final double EPS = 0.0001;
+
+	/**
+	 * Tests whether two graphs contain the same edges with the same weights.
+	 * @param expected reference graph
+	 * @param actual   graph to be tested
+	 */
+	private static void assertSameGraph(Graph expected, Graph actual) {
+		assertEquals(expected.isDirected(), actual.isDirected());
+		assertEquals(expected.isWeighted(), actual.isWeighted());
+		assertEquals(expected.getMaxIntegerWeight(), actual.getMaxIntegerWeight());
+		assertEquals(expected.getVertexCount(), actual.getVertexCount());
+
+		for (int u = 0; u < expected.getVertexCount(); ++u) {
+			assertEquals(sorted(expected.getSuccessors(u)), sorted(actual.getSuccessors(u)));
+			assertEquals(sorted(expected.getPredecessors(u)), sorted(actual.getPredecessors(u)));
+			assertEquals(sorted(expected.getNeighbors(u)), sorted(actual.getNeighbors(u)));
+			assertSameAdjacency(actual, u);
+
+			for (int v = 0; v < expected.getVertexCount(); ++v) {
+				assertEquals(expected.hasEdge(u, v), actual.hasEdge(u, v));
+				assertEquals(expected.getEdgeWeight(u, v), actual.getEdgeWeight(u, v), EPS);
+			}
+		}
+	}
+
+	/**
+	 * Tests whether the primitive iteration over the adjacency of a vertex is consistent with
+	 * the lists of successors and predecessors and with the edge weights.
+	 * @param graph graph to be tested
+	 * @param u     vertex whose adjacency is tested
+	 */
+	private static void assertSameAdjacency(Graph graph, int u) {
+		final List<Integer> successors = new ArrayList<>();
+		graph.forEachSuccessor(u, (v, weight) -> {
+			successors.add(v);
+			assertEquals(graph.getEdgeWeight(u, v), weight, EPS);
+		});
+		assertEquals(sorted(graph.getSuccessors(u)), sorted(successors));
+
+		final List<Integer> predecessors = new ArrayList<>();
+		graph.forEachPredecessor(u, (v, weight) -> {
+			predecessors.add(v);
+			assertEquals(graph.getEdgeWeight(v, u), weight, EPS);
+		});
+		assertEquals(sorted(graph.getPredecessors(u)), sorted(predecessors));
+	}
+
+	private static List<Integer> sorted(List<Integer> list) {
+		Collections.sort(list);
+		return list;
+	}
+
+	@Test
+	public void testBuilder() {
+		final CsrGraph graph = new CsrGraph.Builder(true)
+				.addVertices(4)
+				.addEdge(2, 1, 3.0)
+				.addEdge(0, 1)
+				.addEdge(0, 3, 2.0)
+				.addEdge(1, 1, 5.0)
+				.addEdge(2, 1, 4.0)
+				.build();
+
+		assertTrue(graph.isDirected());
+		assertTrue(graph.isWeighted());
+		assertEquals(4, graph.getVertexCount());
+		assertEquals(3, graph.getArcCount());
+
+		assertTrue(graph.hasEdge(0, 1));
+		assertFalse(graph.hasEdge(1, 0));
+		assertFalse(graph.hasEdge(1, 1));
+		assertEquals(4.0, graph.getEdgeWeight(2, 1), EPS);
+		assertEquals(Double.POSITIVE_INFINITY, graph.getEdgeWeight(3, 0), EPS);
+
+		assertEquals(2, graph.getPredecessors(1).size());
+		assertEquals(2, graph.getSuccessors(0).size());
+		assertEquals(2, graph.getNeighbors(1).size());
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testImmutable() {
+		final CsrGraph graph = new CsrGraph.Builder(false).addVertices(2).build();
+		graph.addEdge(0, 1);
+	}
+
+	@Test
+	public void testConversion() {
+		final Random random = new Random(42);
+
+		final Graph directed = new DirectedGraphList();
+		GraphGenerator.generateRandomGraph(directed, 100, random, 0.1);
+		assertSameGraph(directed, GraphConverter.toCsr(directed));
+
+		final Graph undirected = new UndirectedGraphList();
+		GraphGenerator.generateRandomGraph(undirected, 100, random, 0.1);
+		assertSameGraph(undirected, GraphConverter.toCsr(undirected));
+	}
+
+	@Test
+	public void testReader() throws IOException {
+		final File file = new File("src/test/resources/tsp_01.gra");
+		assertSameGraph(GraphReader.readUndirectedGraph(file), GraphReader.readCsrGraph(file, false));
+		assertSameGraph(GraphReader.readDirectedGraph(file), GraphReader.readCsrGraph(file, true));
+	}
+
+	/**
+	 * Runs the shortest-path and minimum-spanning-tree algorithms on a matrix graph and on the
+	 * corresponding CSR graph and compares the results. Matrix graphs are used as reference as
+	 * the generator may add an edge twice, which would result in parallel edges in a list graph.
+	 */
+	@Test
+	public void testAlgorithms() {
+		final Random random = new Random(17);
+
+		final Graph directed = new DirectedGraphMatrix();
+		GraphGenerator.generateRandomConnectedGraph(directed, 80, random, 0.05);
+		final Graph directedCsr = GraphConverter.toCsr(directed);
+
+		assertArrayEquals(Dijkstra.shortestPaths(directed, 0), Dijkstra.shortestPaths(directedCsr, 0), EPS);
+		assertArrayEquals(BellmanFord.shortestPaths(directed, 0), BellmanFord.shortestPaths(directedCsr, 0), EPS);
+
+		final double[][] expected = Floyd.shortestPaths(directed);
+		final double[][] actual = Floyd.shortestPaths(directedCsr);
+		for (int u = 0; u < expected.length; ++u) {
+			assertArrayEquals(expected[u], actual[u], EPS);
+		}
+
+		final Graph undirected = new UndirectedGraphMatrix();
+		GraphGenerator.generateRandomConnectedGraph(undirected, 80, random, 0.05);
+		assertSameGraph(Prim.minimumSpanningTreeHeap(undirected),
+				Prim.minimumSpanningTreeHeap(GraphConverter.toCsr(undirected)));
+	}
+}
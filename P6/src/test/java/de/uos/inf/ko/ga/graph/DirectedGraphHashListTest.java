@@ -0,0 +1,58 @@
+package de.uos.inf.ko.ga.graph;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import de.uos.inf.ko.ga.graph.impl.DirectedGraphHashList;
+import de.uos.inf.ko.ga.graph.impl.DirectedGraphMatrix;
+
+public class DirectedGraphHashListTest extends DirectedGraphTest<DirectedGraphHashList> {
+
+	@Override
+	protected Graph createGraph() {
+		return new DirectedGraphHashList();
+	}
+
+	/**
+	 * Applies the same random sequence of insertions and removals to a hash list and to a matrix
+	 * and compares the resulting edges.
+	 */
+	@Test
+	public void RandomOperationsTest() {
+		final int n = 50;
+		final Random random = new Random(4711);
+		final Graph graph = this.createGraph();
+		final Graph reference = new DirectedGraphMatrix();
+		graph.addVertices(n);
+		reference.addVertices(n);
+
+		for (int i = 0; i < 20000; ++i) {
+			final int u = random.nextInt(n);
+			final int v = random.nextInt(n);
+
+			if (random.nextInt(3) == 0) {
+				graph.removeEdge(u, v);
+				reference.removeEdge(u, v);
+			} else {
+				final double weight = random.nextDouble();
+				graph.addEdge(u, v, weight);
+				reference.addEdge(u, v, weight);
+			}
+		}
+
+		for (int u = 0; u < n; ++u) {
+			assertEquals(reference.getSuccessors(u).size(), graph.getSuccessors(u).size());
+			assertEquals(reference.getPredecessors(u).size(), graph.getPredecessors(u).size());
+			assertEquals(reference.getNeighbors(u).size(), graph.getNeighbors(u).size());
+
+			for (int v = 0; v < n; ++v) {
+				assertEquals(reference.hasEdge(u, v), graph.hasEdge(u, v));
+				assertEquals(reference.getEdgeWeight(u, v), graph.getEdgeWeight(u, v), 0.0001);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,29 @@
+package de.uos.inf.ko.ga.graph;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import de.uos.inf.ko.ga.graph.impl.DirectedGraphMatrix;
+
+public class DirectedGraphMatrixTest extends DirectedGraphTest<DirectedGraphMatrix> {
+
+	@Override
+	protected Graph createGraph() {
+		return new DirectedGraphMatrix();
+	}
+
+	@Test
+	public void CapacityTest() {
+		/* adding a single vertex to a full matrix grows it by a quarter, not by a factor that quadruples the memory */
+		final DirectedGraphMatrix graph = new DirectedGraphMatrix();
+		graph.addVertices(2000);
+		assertEquals(2000, graph.getCapacity());
+		graph.addVertex();
+		assertEquals(2500, graph.getCapacity());
+		assertEquals(2001, graph.getVertexCount());
+
+		graph.trimToSize();
+		assertEquals(2001, graph.getCapacity());
+	}
+}
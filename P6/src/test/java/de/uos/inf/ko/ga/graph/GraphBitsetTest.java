@@ -0,0 +1,212 @@
+package de.uos.inf.ko.ga.graph;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import de.uos.inf.ko.ga.graph.converter.GraphConverter;
+import de.uos.inf.ko.ga.graph.impl.DirectedGraphBitset;
+import de.uos.inf.ko.ga.graph.impl.DirectedGraphMatrix;
+import de.uos.inf.ko.ga.graph.impl.UndirectedGraphBitset;
+import de.uos.inf.ko.ga.graph.impl.UndirectedGraphMatrix;
+
+public class GraphBitsetTest {
+
+	private static final double EPS = 0.0001;
+
+	/* more than one word per row */
+	private static final int VERTICES = 150;
+
+	private static List<Integer> sorted(List<Integer> list) {
+		Collections.sort(list);
+		return list;
+	}
+
+	/**
+	 * Tests whether a bitset graph contains the same edges as a reference graph.
+	 * @param expected reference graph
+	 * @param actual   bitset graph to be tested
+	 */
+	private static void assertSameEdges(Graph expected, Graph actual) {
+		assertEquals(expected.isDirected(), actual.isDirected());
+		assertFalse(actual.isWeighted());
+		assertEquals(1, actual.getMaxIntegerWeight());
+		assertEquals(expected.getVertexCount(), actual.getVertexCount());
+
+		for (int u = 0; u < expected.getVertexCount(); ++u) {
+			assertEquals(sorted(expected.getSuccessors(u)), sorted(actual.getSuccessors(u)));
+			assertEquals(sorted(expected.getPredecessors(u)), sorted(actual.getPredecessors(u)));
+			assertEquals(sorted(expected.getNeighbors(u)), sorted(actual.getNeighbors(u)));
+
+			final List<Integer> successors = new ArrayList<>();
+			actual.forEachSuccessor(u, (v, weight) -> {
+				successors.add(v);
+				assertEquals(1.0, weight, EPS);
+			});
+			assertEquals(sorted(expected.getSuccessors(u)), successors);
+
+			final List<Integer> predecessors = new ArrayList<>();
+			actual.forEachPredecessor(u, (v, weight) -> predecessors.add(v));
+			assertEquals(sorted(expected.getPredecessors(u)), sorted(predecessors));
+
+			for (int v = 0; v < expected.getVertexCount(); ++v) {
+				assertEquals(expected.hasEdge(u, v), actual.hasEdge(u, v));
+				assertEquals(expected.hasEdge(u, v) ? 1.0 : Double.POSITIVE_INFINITY, actual.getEdgeWeight(u, v), EPS);
+			}
+		}
+	}
+
+	private static void addRandomEdges(Random random, Graph reference, Graph graph, int edges) {
+		for (int i = 0; i < edges; ++i) {
+			final int u = random.nextInt(graph.getVertexCount());
+			final int v = random.nextInt(graph.getVertexCount());
+			if (u != v) {
+				reference.addEdge(u, v);
+				graph.addEdge(u, v);
+			}
+		}
+	}
+
+	/**
+	 * Computes the vertices reachable from s on a path with at least one edge by breadth-first search.
+	 */
+	private static boolean[] reachable(Graph graph, int s) {
+		final boolean[] reached = new boolean[graph.getVertexCount()];
+		final Deque<Integer> queue = new ArrayDeque<>();
+		queue.add(s);
+		while (!queue.isEmpty()) {
+			for (int v : graph.getSuccessors(queue.poll())) {
+				if (!reached[v]) {
+					reached[v] = true;
+					queue.add(v);
+				}
+			}
+		}
+		return reached;
+	}
+
+	@Test
+	public void testDirectedAgainstMatrix() {
+		final Random random = new Random(1);
+		final Graph reference = new DirectedGraphMatrix();
+		final Graph graph = new DirectedGraphBitset();
+
+		/* add the vertices one by one to exercise the growth of the rows */
+		for (int i = 0; i < VERTICES; ++i) {
+			reference.addVertex();
+			graph.addVertex();
+		}
+		addRandomEdges(random, reference, graph, 3 * VERTICES);
+		assertSameEdges(reference, graph);
+
+		for (int i = 0; i < VERTICES; ++i) {
+			final int u = random.nextInt(VERTICES);
+			for (int v : reference.getSuccessors(u)) {
+				reference.removeEdge(u, v);
+				graph.removeEdge(u, v);
+			}
+		}
+		assertSameEdges(reference, graph);
+		assertSameEdges(reference, GraphConverter.toBitset(reference));
+	}
+
+	@Test
+	public void testUndirectedAgainstMatrix() {
+		final Random random = new Random(2);
+		final Graph reference = new UndirectedGraphMatrix();
+		final Graph graph = new UndirectedGraphBitset();
+
+		reference.addVertices(VERTICES);
+		graph.addVertices(VERTICES);
+		addRandomEdges(random, reference, graph, 3 * VERTICES);
+		assertSameEdges(reference, graph);
+
+		for (int i = 0; i < VERTICES; ++i) {
+			final int u = random.nextInt(VERTICES);
+			final int v = random.nextInt(VERTICES);
+			reference.removeEdge(u, v);
+			graph.removeEdge(v, u);
+		}
+		assertSameEdges(reference, graph);
+		assertSameEdges(reference, GraphConverter.toBitset(reference));
+	}
+
+	@Test
+	public void testRemoveVertex() {
+		final DirectedGraphBitset graph = new DirectedGraphBitset();
+		graph.addVertices(70);
+		graph.addEdge(0, 69);
+		graph.addEdge(69, 1);
+		graph.removeVertex();
+		graph.addVertex();
+
+		assertFalse(graph.hasEdge(0, 69));
+		assertFalse(graph.hasEdge(69, 1));
+		assertTrue(graph.getSuccessors(0).isEmpty());
+		assertTrue(graph.getPredecessors(1).isEmpty());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testWeightedEdge() {
+		final Graph graph = new UndirectedGraphBitset();
+		graph.addVertices(2);
+		graph.addEdge(0, 1, 2.0);
+	}
+
+	@Test
+	public void testTransitiveClosure() {
+		final Random random = new Random(3);
+
+		final Graph directedReference = new DirectedGraphMatrix();
+		final DirectedGraphBitset directed = new DirectedGraphBitset();
+		directedReference.addVertices(VERTICES);
+		directed.addVertices(VERTICES);
+		addRandomEdges(random, directedReference, directed, VERTICES);
+		final DirectedGraphBitset directedClosure = directed.transitiveClosure();
+
+		final Graph undirectedReference = new UndirectedGraphMatrix();
+		final UndirectedGraphBitset undirected = new UndirectedGraphBitset();
+		undirectedReference.addVertices(VERTICES);
+		undirected.addVertices(VERTICES);
+		addRandomEdges(random, undirectedReference, undirected, VERTICES / 2);
+		final UndirectedGraphBitset undirectedClosure = undirected.transitiveClosure();
+
+		for (int u = 0; u < VERTICES; ++u) {
+			final boolean[] reachedDirected = reachable(directedReference, u);
+			final boolean[] reachedUndirected = reachable(undirectedReference, u);
+			for (int v = 0; v < VERTICES; ++v) {
+				assertEquals((u != v) && reachedDirected[v], directedClosure.hasEdge(u, v));
+				assertEquals((u != v) && reachedUndirected[v], undirectedClosure.hasEdge(u, v));
+			}
+		}
+	}
+
+	@Test
+	public void testBulkOperations() {
+		final DirectedGraphBitset graph = new DirectedGraphBitset();
+		graph.addVertices(VERTICES);
+		graph.addEdge(0, 1);
+		graph.addEdge(0, 64);
+		graph.addEdge(0, 149);
+		graph.addEdge(2, 64);
+		graph.addEdge(2, 100);
+
+		final long[] bits = new long[3];
+		graph.orSuccessors(0, bits);
+		graph.orSuccessors(2, bits);
+		assertArrayEquals(new long[] { 1L << 1, (1L << 0) | (1L << 36), 1L << 21 }, bits);
+
+		graph.andSuccessors(2, bits);
+		assertArrayEquals(new long[] { 0L, (1L << 0) | (1L << 36), 0L }, bits);
+	}
+}
@@ -0,0 +1,12 @@
+package de.uos.inf.ko.ga.graph;
+
+import de.uos.inf.ko.ga.graph.impl.UndirectedGraphHashList;
+
+public class UndirectedGraphHashListTest extends UndirectedGraphTest<UndirectedGraphHashList> {
+
+	@Override
+	protected Graph createGraph() {
+		return new UndirectedGraphHashList();
+	}
+
+}
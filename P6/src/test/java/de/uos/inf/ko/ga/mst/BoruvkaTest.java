@@ -0,0 +1,82 @@
+package de.uos.inf.ko.ga.mst;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import de.uos.inf.ko.ga.graph.Graph;
+import de.uos.inf.ko.ga.graph.impl.UndirectedGraphList;
+import de.uos.inf.ko.ga.graph.impl.UndirectedGraphMatrix;
+import de.uos.inf.ko.ga.graph.mst.Boruvka;
+import de.uos.inf.ko.ga.graph.mst.Kruskal;
+import de.uos.inf.ko.ga.graph.mst.Prim;
+import de.uos.inf.ko.ga.graph.util.GraphGenerator;
+
+public class BoruvkaTest {
+
+	private static final double EPS = 0.0001;
+
+	@Test
+	public void testEqualWeights() {
+		/* complete graph in which all edges have the same weight; ties must not produce cycles */
+		final Graph graph = new UndirectedGraphList();
+		graph.addVertices(50);
+		for (int u = 0; u < 50; ++u) {
+			for (int v = u + 1; v < 50; ++v) {
+				graph.addEdge(u, v, 1.0);
+			}
+		}
+
+		final Graph mst = Boruvka.minimumSpanningTree(graph, 4);
+		assertEquals(49, PrimTest.edgeCount(mst));
+		assertEquals(49.0, PrimTest.totalWeight(mst), EPS);
+	}
+
+	@Test
+	public void testSameWeightAsPrim() {
+		final Random random = new Random(11);
+
+		for (int i = 0; i < 10; ++i) {
+			final Graph graph = new UndirectedGraphMatrix();
+			if (i % 2 == 0) {
+				GraphGenerator.generateRandomConnectedGraph(graph, 200, random, 0.1);
+			} else {
+				/* usually not connected; the result is a minimum spanning forest */
+				GraphGenerator.generateRandomGraph(graph, 200, random, 0.005);
+			}
+
+			final Graph expected = Prim.minimumSpanningTreeHeap(graph);
+			for (int threads = 1; threads <= 4; threads *= 2) {
+				final Graph actual = Boruvka.minimumSpanningTree(graph, threads);
+				assertEquals(PrimTest.edgeCount(expected), PrimTest.edgeCount(actual));
+				assertEquals(PrimTest.totalWeight(expected), PrimTest.totalWeight(actual), EPS);
+			}
+		}
+	}
+
+	@Test
+	public void testScaling() {
+		final Graph graph = new UndirectedGraphList();
+		GraphGenerator.generateRandomConnectedGraph(graph, 3000, new Random(1), 0.2);
+
+		final double expected = PrimTest.totalWeight(Kruskal.minimumSpanningTree(graph));
+		final int processors = Runtime.getRuntime().availableProcessors();
+
+		long timeSingle = 0;
+		for (int threads = 1; threads <= processors; threads *= 2) {
+			final long time = System.currentTimeMillis();
+			final Graph mst = Boruvka.minimumSpanningTree(graph, threads);
+			final long elapsed = System.currentTimeMillis() - time;
+			if (threads == 1) {
+				timeSingle = elapsed;
+			}
+
+			System.out.println("Boruvka with " + threads + " thread(s): " + elapsed + " ms"
+					+ (threads > 1 ? String.format(" (speedup %.2f)", (double) timeSingle / Math.max(1, elapsed)) : ""));
+			assertEquals(expected, PrimTest.totalWeight(mst), EPS);
+		}
+
+	}
+}
@@ -0,0 +1,117 @@
+package de.uos.inf.ko.ga.mst;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import de.uos.inf.ko.ga.graph.Graph;
+import de.uos.inf.ko.ga.graph.impl.UndirectedGraphList;
+import de.uos.inf.ko.ga.graph.impl.UndirectedGraphMatrix;
+import de.uos.inf.ko.ga.graph.mst.Kruskal;
+import de.uos.inf.ko.ga.graph.mst.Prim;
+import de.uos.inf.ko.ga.graph.util.GraphGenerator;
+
+public class KruskalTest {
+
+	private static final double EPS = 0.0001;
+
+	@Test
+	public void testEdgeList() {
+		/* weights that are equal as floats but differ as doubles */
+		final int[] from = { 0, 1, 0, 2, 0, 3 };
+		final int[] to = { 1, 2, 2, 3, 3, 3 };
+		final double[] weights = { 1.0 + 1e-12, 1.0, 1.0 + 2e-12, -5.0, 7.0, -10.0 };
+
+		final Graph mst = Kruskal.minimumSpanningTree(4, from, to, weights);
+		assertEquals(3, PrimTest.edgeCount(mst));
+		assertTrue(mst.hasEdge(0, 1));
+		assertTrue(mst.hasEdge(1, 2));
+		assertTrue(mst.hasEdge(2, 3));
+		assertEquals(-3.0 + 1e-12, PrimTest.totalWeight(mst), 1e-15);
+	}
+
+	@Test(timeout = 10000)
+	public void testWeightsSharingFloats() {
+		/* integers above 2^24 in a narrow band, so that many distinct weights round to the same float */
+		final Random random = new Random(11);
+		final int n = 20000;
+		final int m = 200000;
+		final int[] from = new int[m];
+		final int[] to = new int[m];
+		final double[] weights = new double[m];
+		final Graph graph = new UndirectedGraphList();
+		graph.addVertices(n);
+		for (int i = 0; i < m; ++i) {
+			from[i] = random.nextInt(n);
+			to[i] = random.nextInt(n);
+			weights[i] = 1e9 + random.nextInt(256);
+			if ((from[i] != to[i]) && !graph.hasEdge(from[i], to[i])) {
+				graph.addEdge(from[i], to[i], weights[i]);
+			} else {
+				/* keep the edge lists identical */
+				to[i] = from[i];
+			}
+		}
+
+		final Graph expected = Prim.minimumSpanningTreeHeap(graph);
+		final Graph actual = Kruskal.minimumSpanningTree(n, from, to, weights);
+		assertEquals(PrimTest.edgeCount(expected), PrimTest.edgeCount(actual));
+		assertEquals(PrimTest.totalWeight(expected), PrimTest.totalWeight(actual), 0.0);
+	}
+
+	@Test
+	public void testSameWeightAsPrim() {
+		final Random random = new Random(10);
+
+		for (int i = 0; i < 10; ++i) {
+			final Graph graph = new UndirectedGraphMatrix();
+			if (i % 2 == 0) {
+				GraphGenerator.generateRandomConnectedGraph(graph, 100, random, 0.1);
+			} else {
+				/* usually not connected; the result is a minimum spanning forest */
+				GraphGenerator.generateRandomGraph(graph, 100, random, 0.01);
+			}
+
+			final Graph expected = Prim.minimumSpanningTreeHeap(graph);
+			final Graph actual = Kruskal.minimumSpanningTree(graph);
+
+			assertEquals(PrimTest.edgeCount(expected), PrimTest.edgeCount(actual));
+			assertEquals(PrimTest.totalWeight(expected), PrimTest.totalWeight(actual), EPS);
+		}
+	}
+
+	@Test
+	public void testCompareRunningTimes() {
+		final Random random = new Random(1);
+
+		for (int n = 10000; n <= 160000; n *= 4) {
+			/* sparse graph with about 4n edges */
+			final Graph graph = new UndirectedGraphList();
+			graph.addVertices(n);
+			for (int v = 1; v < n; ++v) {
+				graph.addEdge(random.nextInt(v), v, random.nextDouble());
+			}
+			for (int i = 0; i < 3 * n; ++i) {
+				final int u = random.nextInt(n);
+				final int v = random.nextInt(n);
+				if (u != v) {
+					graph.addEdge(u, v, random.nextDouble());
+				}
+			}
+
+			long time = System.currentTimeMillis();
+			final Graph prim = Prim.minimumSpanningTreeHeap(graph);
+			final long timePrim = System.currentTimeMillis() - time;
+
+			time = System.currentTimeMillis();
+			final Graph kruskal = Kruskal.minimumSpanningTree(graph);
+			final long timeKruskal = System.currentTimeMillis() - time;
+
+			System.out.println("n = " + n + ": Prim " + timePrim + " ms, Kruskal " + timeKruskal + " ms");
+			assertEquals(PrimTest.totalWeight(prim), PrimTest.totalWeight(kruskal), EPS);
+		}
+	}
+}
@@ -0,0 +1,89 @@
+package de.uos.inf.ko.ga.mst;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import de.uos.inf.ko.ga.graph.Graph;
+import de.uos.inf.ko.ga.graph.impl.UndirectedGraphList;
+import de.uos.inf.ko.ga.graph.impl.UndirectedGraphMatrix;
+import de.uos.inf.ko.ga.graph.mst.Prim;
+import de.uos.inf.ko.ga.graph.util.GraphGenerator;
+
+public class PrimTest {
+
+	private static final double EPS = 0.0001;
+
+	/**
+	 * Computes the sum of the weights of all edges of an undirected graph.
+	 */
+	static double totalWeight(Graph graph) {
+		double weight = 0.0;
+		for (int u = 0; u < graph.getVertexCount(); ++u) {
+			for (int v : graph.getNeighbors(u)) {
+				if (u < v) {
+					weight += graph.getEdgeWeight(u, v);
+				}
+			}
+		}
+		return weight;
+	}
+
+	/**
+	 * Counts the edges of an undirected graph.
+	 */
+	static int edgeCount(Graph graph) {
+		int edges = 0;
+		for (int u = 0; u < graph.getVertexCount(); ++u) {
+			edges += graph.getNeighbors(u).size();
+		}
+		return edges / 2;
+	}
+
+	@Test
+	public void testSimpleGraph() {
+		final Graph graph = new UndirectedGraphList();
+		graph.addVertices(4);
+		graph.addEdge(0, 1, 1.0);
+		graph.addEdge(1, 2, 2.0);
+		graph.addEdge(0, 2, 3.0);
+		graph.addEdge(2, 3, 1.0);
+		graph.addEdge(0, 3, 4.0);
+
+		final Graph mst = Prim.minimumSpanningTreeIndexedHeap(graph);
+		assertEquals(3, edgeCount(mst));
+		assertEquals(4.0, totalWeight(mst), EPS);
+		assertTrue(mst.hasEdge(0, 1));
+		assertTrue(mst.hasEdge(1, 2));
+		assertTrue(mst.hasEdge(2, 3));
+		assertFalse(mst.hasEdge(0, 2));
+	}
+
+	@Test
+	public void testVariantsAgree() {
+		final Random random = new Random(9);
+
+		for (int i = 0; i < 10; ++i) {
+			final Graph graph = new UndirectedGraphMatrix();
+			if (i % 2 == 0) {
+				GraphGenerator.generateRandomConnectedGraph(graph, 100, random, 0.1);
+			} else {
+				/* usually not connected; the result is a minimum spanning forest */
+				GraphGenerator.generateRandomGraph(graph, 100, random, 0.01);
+			}
+
+			final Graph expected = Prim.minimumSpanningTreeList(graph);
+			final Graph heap = Prim.minimumSpanningTreeHeap(graph);
+			final Graph indexedHeap = Prim.minimumSpanningTreeIndexedHeap(graph);
+
+			assertEquals(edgeCount(expected), edgeCount(heap));
+			assertEquals(edgeCount(expected), edgeCount(indexedHeap));
+			assertEquals(totalWeight(expected), totalWeight(heap), EPS);
+			assertEquals(totalWeight(expected), totalWeight(indexedHeap), EPS);
+		}
+	}
+}
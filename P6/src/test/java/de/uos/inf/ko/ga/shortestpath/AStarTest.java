@@ -0,0 +1,105 @@
+package de.uos.inf.ko.ga.shortestpath;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import de.uos.inf.ko.ga.graph.Graph;
+import de.uos.inf.ko.ga.graph.impl.UndirectedGraphList;
+import de.uos.inf.ko.ga.graph.render.Vec2D;
+import de.uos.inf.ko.ga.graph.shortestpath.AStar;
+import de.uos.inf.ko.ga.graph.shortestpath.Dijkstra;
+import de.uos.inf.ko.ga.graph.shortestpath.EuclideanHeuristic;
+import de.uos.inf.ko.ga.graph.shortestpath.Path;
+import de.uos.inf.ko.ga.graph.shortestpath.ZeroHeuristic;
+
+public class AStarTest {
+
+	/**
+	 * Generates a random geometric graph: vertices at random positions in the unit square, connected
+	 * if they are closer than the given radius, with their Euclidean distance as weight.
+	 */
+	static Graph generateGeometricGraph(Vec2D[] positions, double radius, Random random) {
+		final int n = positions.length;
+		for (int v = 0; v < n; ++v) {
+			positions[v] = new Vec2D(random.nextDouble(), random.nextDouble());
+		}
+
+		final Graph graph = new UndirectedGraphList();
+		graph.addVertices(n);
+		for (int u = 0; u < n; ++u) {
+			for (int v = u + 1; v < n; ++v) {
+				final double dx = positions[u].getX() - positions[v].getX();
+				final double dy = positions[u].getY() - positions[v].getY();
+				final double distance = Math.sqrt(dx * dx + dy * dy);
+				if (distance < radius) {
+					graph.addEdge(u, v, distance);
+				}
+			}
+		}
+
+		return graph;
+	}
+
+	@Test
+	public void testSearchSpace() {
+		final Random random = new Random(19);
+		final Vec2D[] positions = new Vec2D[2000];
+		final Graph graph = generateGeometricGraph(positions, 0.05, random);
+
+		final AStar dijkstra = new AStar(graph, new ZeroHeuristic());
+		final AStar euclidean = new AStar(graph, new EuclideanHeuristic(positions));
+
+		long settledAll = 0;
+		long settledZero = 0;
+		long settledEuclidean = 0;
+		for (int i = 0; i < 50; ++i) {
+			final int start = random.nextInt(graph.getVertexCount());
+			final int target = random.nextInt(graph.getVertexCount());
+			final double[] dist = Dijkstra.shortestPaths(graph, start);
+
+			final Path zeroPath = dijkstra.shortestPath(start, target);
+			final Path euclideanPath = euclidean.shortestPath(start, target);
+			DijkstraTest.assertValidPath(graph, start, target, dist[target], zeroPath);
+			DijkstraTest.assertValidPath(graph, start, target, dist[target], euclideanPath);
+
+			int reachable = 0;
+			for (double d : dist) {
+				if (d < Double.POSITIVE_INFINITY) {
+					reachable++;
+				}
+			}
+
+			/* Dijkstra without early termination visits all reachable vertices */
+			assertTrue(dijkstra.getSettledCount() <= reachable);
+			assertTrue(euclidean.getSettledCount() <= dijkstra.getSettledCount());
+
+			settledAll += reachable;
+			settledZero += dijkstra.getSettledCount();
+			settledEuclidean += euclidean.getSettledCount();
+		}
+
+		System.out.println("visited vertices: Dijkstra " + settledAll + ", early termination " + settledZero + ", A* (Euclidean) " + settledEuclidean);
+		assertTrue(settledEuclidean < settledZero);
+	}
+
+	@Test
+	public void testUnreachable() {
+		final Graph graph = new UndirectedGraphList();
+		graph.addVertices(3);
+		graph.addEdge(0, 1, 1.0);
+
+		final AStar search = new AStar(graph, new ZeroHeuristic());
+		final Path path = search.shortestPath(0, 2);
+		assertEquals(Double.POSITIVE_INFINITY, path.getDistance(), 0.0);
+		assertEquals(2, search.getSettledCount());
+
+		/* the next query on the same instance does not see the distances of the previous one */
+		assertEquals(1.0, search.shortestPath(1, 0).getDistance(), 0.0);
+		assertEquals(Double.POSITIVE_INFINITY, search.shortestPath(2, 0).getDistance(), 0.0);
+		assertEquals(1, search.getSettledCount());
+	}
+}
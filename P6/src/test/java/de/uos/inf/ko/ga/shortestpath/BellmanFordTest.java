@@ -0,0 +1,123 @@
+package de.uos.inf.ko.ga.shortestpath;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import de.uos.inf.ko.ga.graph.Graph;
+import de.uos.inf.ko.ga.graph.impl.DirectedGraphMatrix;
+import de.uos.inf.ko.ga.graph.impl.UndirectedGraphList;
+import de.uos.inf.ko.ga.graph.shortestpath.BellmanFord;
+import de.uos.inf.ko.ga.graph.shortestpath.NegativeCycleException;
+import de.uos.inf.ko.ga.graph.util.GraphGenerator;
+
+public class BellmanFordTest {
+
+	private static final double EPS = 0.0001;
+
+	@Test
+	public void testSameDistancesAsClassic() {
+		final Random random = new Random(15);
+
+		for (int i = 0; i < 10; ++i) {
+			final Graph graph = JohnsonTest.generateGraphWithNegativeWeights(150, random, 0.03);
+			for (int start = 0; start < 5; ++start) {
+				assertArrayEquals(BellmanFord.shortestPaths(graph, start), BellmanFord.shortestPathsQueue(graph, start), EPS);
+			}
+		}
+	}
+
+	@Test
+	public void testParallelSameDistancesAsClassic() {
+		final Random random = new Random(16);
+
+		for (int i = 0; i < 5; ++i) {
+			final Graph directed = JohnsonTest.generateGraphWithNegativeWeights(300, random, 0.02);
+			final Graph undirected = new UndirectedGraphList();
+			GraphGenerator.generateRandomGraph(undirected, 300, random, 0.02);
+
+			for (Graph graph : new Graph[] { directed, undirected }) {
+				final double[] expected = BellmanFord.shortestPaths(graph, i);
+				for (int threads = 1; threads <= 4; threads *= 2) {
+					final ForkJoinPool pool = new ForkJoinPool(threads);
+					assertArrayEquals(expected, BellmanFord.shortestPathsParallel(graph, i, pool), 0.0);
+					pool.shutdown();
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testNegativeCycle() {
+		final Graph graph = new DirectedGraphMatrix();
+		graph.addVertices(6);
+		graph.addEdge(0, 1, 1.0);
+		graph.addEdge(1, 2, 1.0);
+		graph.addEdge(2, 3, -1.0);
+		graph.addEdge(3, 4, -1.0);
+		graph.addEdge(4, 2, 1.5);
+		graph.addEdge(4, 5, 1.0);
+
+		try {
+			BellmanFord.shortestPathsQueue(graph, 0);
+			fail("negative cycle has not been detected");
+		} catch (NegativeCycleException e) {
+			final List<Integer> cycle = e.getCycle();
+			assertEquals(3, cycle.size());
+
+			/* the reported vertices form a cycle of negative length */
+			double length = 0.0;
+			for (int i = 0; i < cycle.size(); ++i) {
+				final int u = cycle.get(i);
+				final int v = cycle.get((i + 1) % cycle.size());
+				assertTrue(graph.hasEdge(u, v));
+				length += graph.getEdgeWeight(u, v);
+			}
+			assertTrue(length < 0.0);
+		}
+
+		/* the cycle is not reachable from vertex 5 */
+		final double[] dist = BellmanFord.shortestPathsQueue(graph, 5);
+		assertEquals(0.0, dist[5], EPS);
+		assertEquals(Double.POSITIVE_INFINITY, dist[0], 0.0);
+	}
+
+	@Test
+	public void testCompareRunningTimes() {
+		final Graph graph = JohnsonTest.generateGraphWithNegativeWeights(2000, new Random(1), 0.005);
+
+		long time = System.currentTimeMillis();
+		final double[] expected = BellmanFord.shortestPaths(graph, 0);
+		System.out.println("Bellman-Ford (rounds) on 2000 vertices: " + (System.currentTimeMillis() - time) + " ms");
+
+		time = System.currentTimeMillis();
+		final double[] actual = BellmanFord.shortestPathsQueue(graph, 0);
+		System.out.println("Bellman-Ford (queue) on 2000 vertices: " + (System.currentTimeMillis() - time) + " ms");
+
+		assertArrayEquals(expected, actual, EPS);
+	}
+
+	@Test
+	public void testParallelScaling() {
+		final Graph graph = JohnsonTest.generateGraphWithNegativeWeights(4000, new Random(2), 0.005);
+		final double[] expected = BellmanFord.shortestPaths(graph, 0);
+
+		final int processors = Runtime.getRuntime().availableProcessors();
+		for (int threads = 1; threads <= processors; threads *= 2) {
+			final ForkJoinPool pool = new ForkJoinPool(threads);
+			final long time = System.currentTimeMillis();
+			final double[] actual = BellmanFord.shortestPathsParallel(graph, 0, pool);
+			System.out.println("Bellman-Ford (parallel, " + threads + " thread(s)) on 4000 vertices: " + (System.currentTimeMillis() - time) + " ms");
+			pool.shutdown();
+
+			assertArrayEquals(expected, actual, 0.0);
+		}
+	}
+}
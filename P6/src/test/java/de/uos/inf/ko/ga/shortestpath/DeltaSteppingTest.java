@@ -0,0 +1,74 @@
+package de.uos.inf.ko.ga.shortestpath;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import de.uos.inf.ko.ga.graph.Graph;
+import de.uos.inf.ko.ga.graph.impl.DirectedGraphList;
+import de.uos.inf.ko.ga.graph.impl.UndirectedGraphList;
+import de.uos.inf.ko.ga.graph.shortestpath.DeltaStepping;
+import de.uos.inf.ko.ga.graph.shortestpath.Dijkstra;
+import de.uos.inf.ko.ga.graph.util.GraphGenerator;
+
+public class DeltaSteppingTest {
+
+	@Test
+	public void testSameDistancesAsDijkstra() {
+		final Random random = new Random(17);
+
+		for (int i = 0; i < 5; ++i) {
+			final Graph directed = new DirectedGraphList();
+			GraphGenerator.generateRandomGraph(directed, 300, random, 0.02);
+			final Graph undirected = new UndirectedGraphList();
+			GraphGenerator.generateRandomConnectedGraph(undirected, 300, random, 0.01);
+
+			for (Graph graph : new Graph[] { directed, undirected }) {
+				final double[] expected = Dijkstra.shortestPaths(graph, i);
+
+				/* from Dijkstra-like to Bellman-Ford-like behavior */
+				for (double delta : new double[] { 0.001, 0.1, DeltaStepping.autoDelta(graph), 10.0 }) {
+					for (int threads = 1; threads <= 4; threads *= 2) {
+						final ForkJoinPool pool = new ForkJoinPool(threads);
+						assertArrayEquals(expected, DeltaStepping.shortestPaths(graph, i, delta, pool), 0.0);
+						pool.shutdown();
+					}
+				}
+			}
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNegativeWeight() {
+		final Graph graph = new DirectedGraphList();
+		graph.addVertices(2);
+		graph.addEdge(0, 1, -1.0);
+		DeltaStepping.shortestPaths(graph, 0);
+	}
+
+	@Test
+	public void testCompareRunningTimes() {
+		final Graph graph = new DirectedGraphList();
+		GraphGenerator.generateRandomGraph(graph, 5000, new Random(1), 0.004);
+
+		long time = System.currentTimeMillis();
+		final double[] expected = Dijkstra.shortestPaths(graph, 0);
+		System.out.println("Dijkstra on 5000 vertices: " + (System.currentTimeMillis() - time) + " ms");
+
+		final double delta = DeltaStepping.autoDelta(graph);
+		final int processors = Runtime.getRuntime().availableProcessors();
+		for (int threads = 1; threads <= processors; threads *= 2) {
+			final ForkJoinPool pool = new ForkJoinPool(threads);
+			time = System.currentTimeMillis();
+			final double[] actual = DeltaStepping.shortestPaths(graph, 0, delta, pool);
+			System.out.println("Delta-stepping (delta = " + String.format("%.4f", delta) + ", " + threads + " thread(s)) on 5000 vertices: "
+					+ (System.currentTimeMillis() - time) + " ms");
+			pool.shutdown();
+
+			assertArrayEquals(expected, actual, 0.0);
+		}
+	}
+}
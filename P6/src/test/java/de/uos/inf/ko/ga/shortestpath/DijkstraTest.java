@@ -0,0 +1,206 @@
+package de.uos.inf.ko.ga.shortestpath;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import de.uos.inf.ko.ga.graph.Graph;
+import de.uos.inf.ko.ga.graph.impl.DirectedGraphList;
+import de.uos.inf.ko.ga.graph.impl.UndirectedGraphList;
+import de.uos.inf.ko.ga.graph.shortestpath.BellmanFord;
+import de.uos.inf.ko.ga.graph.shortestpath.Dijkstra;
+import de.uos.inf.ko.ga.graph.shortestpath.DijkstraQuery;
+import de.uos.inf.ko.ga.graph.shortestpath.Path;
+import de.uos.inf.ko.ga.graph.util.GraphGenerator;
+
+public class DijkstraTest {
+
+	private static final double EPS = 0.0001;
+
+	private static final int[] ARITIES = { 2, 4, 8 };
+
+	@Test
+	public void testSimpleUndirectedGraph() {
+		final Graph graph = new UndirectedGraphList();
+		graph.addVertices(6);
+
+		graph.addEdge(0, 1, 5.0);
+		graph.addEdge(0, 3, 1.0);
+		graph.addEdge(0, 4, 4.0);
+		graph.addEdge(1, 2, 4.0);
+		graph.addEdge(2, 3, 3.0);
+		graph.addEdge(2, 4, 3.0);
+
+		for (int arity : ARITIES) {
+			final double[] dist = Dijkstra.shortestPaths(graph, 0, arity);
+			assertArrayEquals(new double[] { 0.0, 5.0, 4.0, 1.0, 4.0, Double.POSITIVE_INFINITY }, dist, EPS);
+		}
+	}
+
+	@Test
+	public void testRandomGraphs() {
+		final Random random = new Random(8);
+
+		for (int i = 0; i < 10; ++i) {
+			final Graph directed = new DirectedGraphList();
+			GraphGenerator.generateRandomGraph(directed, 200, random, 0.05);
+			final Graph undirected = new UndirectedGraphList();
+			GraphGenerator.generateRandomGraph(undirected, 200, random, 0.05);
+
+			for (Graph graph : new Graph[] { directed, undirected }) {
+				final double[] expected = BellmanFord.shortestPaths(graph, 0);
+				for (int arity : ARITIES) {
+					assertArrayEquals(expected, Dijkstra.shortestPaths(graph, 0, arity), EPS);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Tests whether a path leads from start to target via arcs of the graph and has the expected length.
+	 */
+	static void assertValidPath(Graph graph, int start, int target, double expected, Path path) {
+		assertEquals(expected, path.getDistance(), EPS);
+		if (expected == Double.POSITIVE_INFINITY) {
+			assertFalse(path.exists());
+			return;
+		}
+
+		final List<Integer> vertices = path.getVertices();
+		assertEquals(start, (int) vertices.get(0));
+		assertEquals(target, (int) vertices.get(vertices.size() - 1));
+
+		double length = 0.0;
+		for (int i = 0; i + 1 < vertices.size(); ++i) {
+			final int u = vertices.get(i);
+			final int v = vertices.get(i + 1);
+			final double[] weight = { Double.POSITIVE_INFINITY };
+			graph.forEachSuccessor(u, (w, c) -> {
+				if (w == v) {
+					weight[0] = Math.min(weight[0], c);
+				}
+			});
+			assertTrue(weight[0] < Double.POSITIVE_INFINITY);
+			length += weight[0];
+		}
+		assertEquals(expected, length, EPS);
+	}
+
+	@Test
+	public void testPointToPoint() {
+		final Random random = new Random(18);
+
+		for (int i = 0; i < 5; ++i) {
+			final Graph directed = new DirectedGraphList();
+			GraphGenerator.generateRandomGraph(directed, 200, random, 0.02);
+			final Graph undirected = new UndirectedGraphList();
+			GraphGenerator.generateRandomGraph(undirected, 200, random, 0.01);
+
+			for (Graph graph : new Graph[] { directed, undirected }) {
+				/* one query engine for all pairs, alternating both kinds of queries */
+				final DijkstraQuery query = new DijkstraQuery(graph);
+				for (int start = 0; start < 10; ++start) {
+					final double[] dist = Dijkstra.shortestPaths(graph, start);
+					for (int target = 0; target < graph.getVertexCount(); ++target) {
+						assertValidPath(graph, start, target, dist[target], Dijkstra.shortestPath(graph, start, target));
+						assertValidPath(graph, start, target, dist[target], Dijkstra.shortestPathBidirectional(graph, start, target));
+						assertValidPath(graph, start, target, dist[target], query.shortestPath(start, target));
+						assertValidPath(graph, start, target, dist[target], query.shortestPathBidirectional(start, target));
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testLargeSparseGraph() {
+		final int n = 200000;
+		final Random random = new Random(1);
+
+		/* path through all vertices plus random shortcuts */
+		final Graph graph = new DirectedGraphList();
+		graph.addVertices(n);
+		for (int v = 0; v + 1 < n; ++v) {
+			graph.addEdge(v, v + 1, 1.0);
+		}
+		for (int i = 0; i < 3 * n; ++i) {
+			final int u = random.nextInt(n);
+			final int v = random.nextInt(n);
+			if (u != v) {
+				graph.addEdge(u, v, Math.abs(v - u) + 1.0);
+			}
+		}
+
+		final long time = System.currentTimeMillis();
+		final double[] dist = Dijkstra.shortestPaths(graph, 0);
+		System.out.println("Dijkstra on " + n + " vertices: " + (System.currentTimeMillis() - time) + " ms");
+
+		for (int v = 0; v < n; ++v) {
+			assertEquals(v, dist[v], EPS);
+		}
+
+	}
+
+	/**
+	 * Generates a directed grid graph with arcs of random weight in [1, 2] between horizontally and vertically adjacent vertices.
+	 */
+	static Graph generateGrid(int size, Random random) {
+		final Graph graph = new DirectedGraphList();
+		graph.addVertices(size * size);
+		for (int x = 0; x < size; ++x) {
+			for (int y = 0; y < size; ++y) {
+				final int v = x * size + y;
+				if (x + 1 < size) {
+					graph.addEdge(v, v + size, 1.0 + random.nextDouble());
+					graph.addEdge(v + size, v, 1.0 + random.nextDouble());
+				}
+				if (y + 1 < size) {
+					graph.addEdge(v, v + 1, 1.0 + random.nextDouble());
+					graph.addEdge(v + 1, v, 1.0 + random.nextDouble());
+				}
+			}
+		}
+		return graph;
+	}
+
+	@Test
+	public void testComparePointToPointRunningTimes() {
+		final Random random = new Random(1);
+		final Graph graph = generateGrid(300, random);
+		final int n = graph.getVertexCount();
+		final int queries = 20;
+		final DijkstraQuery query = new DijkstraQuery(graph);
+
+		long timeAll = 0;
+		long timeSingle = 0;
+		long timeBidirectional = 0;
+		for (int i = 0; i < queries; ++i) {
+			final int start = random.nextInt(n);
+			final int target = random.nextInt(n);
+
+			long time = System.nanoTime();
+			final double[] dist = Dijkstra.shortestPaths(graph, start);
+			timeAll += System.nanoTime() - time;
+
+			time = System.nanoTime();
+			final Path single = query.shortestPath(start, target);
+			timeSingle += System.nanoTime() - time;
+
+			time = System.nanoTime();
+			final Path bidirectional = query.shortestPathBidirectional(start, target);
+			timeBidirectional += System.nanoTime() - time;
+
+			assertEquals(dist[target], single.getDistance(), EPS);
+			assertEquals(dist[target], bidirectional.getDistance(), EPS);
+		}
+
+		System.out.println("Dijkstra on a 300 x 300 grid, " + queries + " queries: all distances " + (timeAll / 1000000)
+				+ " ms, early termination " + (timeSingle / 1000000) + " ms, bidirectional " + (timeBidirectional / 1000000) + " ms");
+	}
+}
@@ -0,0 +1,140 @@
+package de.uos.inf.ko.ga.shortestpath;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import de.uos.inf.ko.ga.graph.Graph;
+import de.uos.inf.ko.ga.graph.impl.DirectedGraphList;
+import de.uos.inf.ko.ga.graph.shortestpath.Dijkstra;
+import de.uos.inf.ko.ga.graph.shortestpath.DijkstraWorkspace;
+import de.uos.inf.ko.ga.graph.util.GraphGenerator;
+
+public class DijkstraWorkspaceTest {
+
+	private static final double EPS = 0.0001;
+
+	@Test
+	public void testRepeatedRuns() {
+		final Random random = new Random(22);
+		final Graph graph = new DirectedGraphList();
+		GraphGenerator.generateRandomGraph(graph, 200, random, 0.02);
+		final int n = graph.getVertexCount();
+
+		final DijkstraWorkspace workspace = new DijkstraWorkspace(graph);
+		final double[] dist = new double[n];
+		for (int i = 0; i < 50; ++i) {
+			final int source = random.nextInt(n);
+			final int target = random.nextInt(n);
+			final double[] expected = Dijkstra.shortestPaths(graph, source);
+
+			/* runs that stop early must not leave stale distances behind */
+			assertEquals(expected[target], workspace.run(source, target), EPS);
+
+			workspace.run(source);
+			assertEquals(source, workspace.getSource());
+			workspace.copyDistances(dist);
+			assertArrayEquals(expected, dist, EPS);
+
+			/* the visited vertices are the reachable ones, in ascending order of their distances */
+			int reachable = 0;
+			for (int v = 0; v < n; ++v) {
+				assertEquals(expected[v], workspace.getDistance(v), EPS);
+				if (expected[v] < Double.POSITIVE_INFINITY) {
+					reachable++;
+				}
+			}
+			assertEquals(reachable, workspace.getSettledCount());
+			for (int k = 1; k < workspace.getSettledCount(); ++k) {
+				assertTrue(workspace.getDistance(workspace.getSettledVertex(k - 1)) <= workspace.getDistance(workspace.getSettledVertex(k)));
+			}
+		}
+	}
+
+	@Test
+	public void testBatch() {
+		final Random random = new Random(23);
+		final Graph graph = DijkstraTest.generateGrid(30, random);
+		final int n = graph.getVertexCount();
+
+		final int[] sources = new int[100];
+		for (int i = 0; i < sources.length; ++i) {
+			sources[i] = random.nextInt(n);
+		}
+
+		for (int threads = 1; threads <= Runtime.getRuntime().availableProcessors(); threads *= 2) {
+			final ForkJoinPool pool = new ForkJoinPool(threads);
+			final double[][] rows = new double[n][];
+			Dijkstra.shortestPaths(graph, sources, pool, (source, workspace) -> {
+				final double[] dist = new double[n];
+				workspace.copyDistances(dist);
+				rows[source] = dist;
+			});
+			pool.shutdown();
+
+			for (int source : sources) {
+				assertNotNull(rows[source]);
+				assertArrayEquals(Dijkstra.shortestPaths(graph, source), rows[source], EPS);
+			}
+		}
+	}
+
+	@Test
+	public void testCompareRunningTimes() {
+		final Random random = new Random(24);
+		final Graph graph = DijkstraTest.generateGrid(300, random);
+		final int n = graph.getVertexCount();
+		final int queries = 200;
+
+		final int[] sources = new int[queries];
+		final int[] targets = new int[queries];
+		for (int i = 0; i < queries; ++i) {
+			sources[i] = random.nextInt(n);
+			targets[i] = random.nextInt(n);
+		}
+
+		/* point-to-point queries, where resetting the arrays dominates for nearby targets */
+		long start = System.nanoTime();
+		final double[] expected = new double[queries];
+		for (int i = 0; i < queries; ++i) {
+			expected[i] = Dijkstra.shortestPath(graph, sources[i], targets[i]).getDistance();
+		}
+		final double timeAllocating = (System.nanoTime() - start) / 1e6;
+
+		final DijkstraWorkspace workspace = new DijkstraWorkspace(graph);
+		start = System.nanoTime();
+		for (int i = 0; i < queries; ++i) {
+			assertEquals(expected[i], workspace.run(sources[i], targets[i]), EPS);
+		}
+		final double timeWorkspace = (System.nanoTime() - start) / 1e6;
+
+		System.out.println(queries + " point-to-point queries: new arrays " + timeAllocating + " ms, workspace " + timeWorkspace + " ms");
+
+		/* one-to-all runs, sequentially and in batches */
+		start = System.nanoTime();
+		for (int i = 0; i < 50; ++i) {
+			Dijkstra.shortestPaths(graph, sources[i]);
+		}
+		final double timeSingle = (System.nanoTime() - start) / 1e6;
+
+		final int[] batch = new int[50];
+		System.arraycopy(sources, 0, batch, 0, batch.length);
+		for (int threads = 1; threads <= Runtime.getRuntime().availableProcessors(); threads *= 2) {
+			final ForkJoinPool pool = new ForkJoinPool(threads);
+			start = System.nanoTime();
+			Dijkstra.shortestPaths(graph, batch, pool, (source, w) -> {
+				assertTrue(w.getSettledCount() > 0);
+			});
+			final double timeBatch = (System.nanoTime() - start) / 1e6;
+			pool.shutdown();
+
+			System.out.println("50 one-to-all runs: single " + timeSingle + " ms, batch with " + threads + " threads " + timeBatch + " ms");
+		}
+	}
+}
@@ -0,0 +1,135 @@
+package de.uos.inf.ko.ga.shortestpath;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import de.uos.inf.ko.ga.graph.Graph;
+import de.uos.inf.ko.ga.graph.impl.DirectedGraphList;
+import de.uos.inf.ko.ga.graph.impl.UndirectedGraphList;
+import de.uos.inf.ko.ga.graph.shortestpath.Floyd;
+import de.uos.inf.ko.ga.graph.util.GraphGenerator;
+
+public class FloydTest {
+
+	private static final double EPS = 0.0001;
+
+	/**
+	 * Textbook implementation of Floyd's algorithm used as reference.
+	 */
+	private static double[][] shortestPathsTextbook(Graph graph) {
+		final int n = graph.getVertexCount();
+		final double[][] d = new double[n][n];
+
+		for (int u = 0; u < n; ++u) {
+			Arrays.fill(d[u], Double.POSITIVE_INFINITY);
+			d[u][u] = 0.0;
+			for (int v : graph.getSuccessors(u)) {
+				d[u][v] = Math.min(d[u][v], graph.getEdgeWeight(u, v));
+			}
+		}
+
+		for (int k = 0; k < n; ++k) {
+			for (int u = 0; u < n; ++u) {
+				for (int v = 0; v < n; ++v) {
+					if (d[u][k] + d[k][v] < d[u][v]) {
+						d[u][v] = d[u][k] + d[k][v];
+					}
+				}
+			}
+		}
+
+		return d;
+	}
+
+	private static void assertSameDistances(double[][] expected, double[] actual) {
+		final int n = expected.length;
+		assertEquals(n * n, actual.length);
+		for (int u = 0; u < n; ++u) {
+			assertArrayEquals(expected[u], Arrays.copyOfRange(actual, u * n, (u + 1) * n), EPS);
+		}
+	}
+
+	@Test
+	public void testBlockSizes() {
+		final Random random = new Random(12);
+
+		/* sizes that are not multiples of the block sizes */
+		for (int n : new int[] { 1, 7, 50, 129 }) {
+			final Graph directed = new DirectedGraphList();
+			GraphGenerator.generateRandomGraph(directed, n, random, 0.05);
+			final Graph undirected = new UndirectedGraphList();
+			GraphGenerator.generateRandomGraph(undirected, n, random, 0.05);
+
+			for (Graph graph : new Graph[] { directed, undirected }) {
+				final double[][] expected = shortestPathsTextbook(graph);
+				for (int blockSize : new int[] { 1, 3, 16, 64, 200 }) {
+					final double[] blocked = Floyd.shortestPathsBlocked(graph, blockSize);
+					assertSameDistances(expected, blocked);
+
+					/* the parallel variant performs the same operations per entry */
+					for (int threads = 1; threads <= 4; threads *= 2) {
+						final ForkJoinPool pool = new ForkJoinPool(threads);
+						assertArrayEquals(blocked, Floyd.shortestPathsParallel(graph, blockSize, pool), 0.0);
+						pool.shutdown();
+					}
+				}
+
+				/* the matrix of rows is computed in the textbook order and matches it exactly */
+				final double[][] actual = Floyd.shortestPaths(graph);
+				for (int u = 0; u < n; ++u) {
+					assertArrayEquals(expected[u], actual[u], 0.0);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testNegativeEdges() {
+		final Graph graph = new DirectedGraphList();
+		graph.addVertices(4);
+		graph.addEdge(0, 1, 4.0);
+		graph.addEdge(0, 2, 1.0);
+		graph.addEdge(2, 1, -2.0);
+		graph.addEdge(1, 3, 1.0);
+
+		final double inf = Double.POSITIVE_INFINITY;
+		assertArrayEquals(new double[] {
+				0.0, -1.0, 1.0, 0.0,
+				inf, 0.0, inf, 1.0,
+				inf, -2.0, 0.0, -1.0,
+				inf, inf, inf, 0.0 }, Floyd.shortestPathsBlocked(graph, 2), EPS);
+	}
+
+	@Test
+	public void testCompareRunningTimes() {
+		final Graph graph = new DirectedGraphList();
+		GraphGenerator.generateRandomGraph(graph, 1000, new Random(1), 0.01);
+
+		long time = System.currentTimeMillis();
+		final double[][] expected = shortestPathsTextbook(graph);
+		System.out.println("Floyd (textbook) on 1000 vertices: " + (System.currentTimeMillis() - time) + " ms");
+
+		for (int blockSize : new int[] { 32, 64, 128 }) {
+			time = System.currentTimeMillis();
+			final double[] actual = Floyd.shortestPathsBlocked(graph, blockSize);
+			System.out.println("Floyd (blocked, b = " + blockSize + ") on 1000 vertices: " + (System.currentTimeMillis() - time) + " ms");
+			assertSameDistances(expected, actual);
+		}
+
+		final int processors = Runtime.getRuntime().availableProcessors();
+		for (int threads = 1; threads <= processors; threads *= 2) {
+			final ForkJoinPool pool = new ForkJoinPool(threads);
+			time = System.currentTimeMillis();
+			final double[] actual = Floyd.shortestPathsParallel(graph, Floyd.DEFAULT_BLOCK_SIZE, pool);
+			System.out.println("Floyd (parallel, " + threads + " thread(s)) on 1000 vertices: " + (System.currentTimeMillis() - time) + " ms");
+			pool.shutdown();
+			assertSameDistances(expected, actual);
+		}
+	}
+}
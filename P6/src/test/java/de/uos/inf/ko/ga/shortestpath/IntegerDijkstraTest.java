@@ -0,0 +1,139 @@
+package de.uos.inf.ko.ga.shortestpath;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Random;
+
+import org.junit.Test;
+
+import de.uos.inf.ko.ga.graph.Graph;
+import de.uos.inf.ko.ga.graph.impl.DirectedGraphList;
+import de.uos.inf.ko.ga.graph.impl.UndirectedGraphList;
+import de.uos.inf.ko.ga.graph.reader.GraphReader;
+import de.uos.inf.ko.ga.graph.shortestpath.Dijkstra;
+import de.uos.inf.ko.ga.graph.shortestpath.IntegerDijkstra;
+import de.uos.inf.ko.ga.graph.util.IndexedHeap;
+
+public class IntegerDijkstraTest {
+
+	/**
+	 * Generates a random graph whose arcs have integer weights between 0 and maxWeight.
+	 */
+	private static void generateIntegerGraph(Graph graph, int n, Random random, double p, int maxWeight) {
+		graph.addVertices(n);
+		for (int u = 0; u < n; ++u) {
+			for (int v = 0; v < n; ++v) {
+				if ((u != v) && (random.nextDouble() <= p)) {
+					graph.addEdge(u, v, random.nextInt(maxWeight + 1));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Generates a directed grid graph with arcs of random integer weight in [1, maxWeight] between adjacent vertices.
+	 */
+	private static Graph generateIntegerGrid(int size, Random random, int maxWeight) {
+		final Graph graph = new DirectedGraphList();
+		graph.addVertices(size * size);
+		for (int x = 0; x < size; ++x) {
+			for (int y = 0; y < size; ++y) {
+				final int v = x * size + y;
+				if (x + 1 < size) {
+					graph.addEdge(v, v + size, 1 + random.nextInt(maxWeight));
+					graph.addEdge(v + size, v, 1 + random.nextInt(maxWeight));
+				}
+				if (y + 1 < size) {
+					graph.addEdge(v, v + 1, 1 + random.nextInt(maxWeight));
+					graph.addEdge(v + 1, v, 1 + random.nextInt(maxWeight));
+				}
+			}
+		}
+		return graph;
+	}
+
+	@Test
+	public void testRandomGraphs() {
+		final Random random = new Random(24);
+		for (int maxWeight : new int[] { 0, 1, 10, 5000, 1 << 30 }) {
+			final Graph directed = new DirectedGraphList();
+			generateIntegerGraph(directed, 200, random, 0.03, maxWeight);
+			final Graph undirected = new UndirectedGraphList();
+			generateIntegerGraph(undirected, 200, random, 0.03, maxWeight);
+
+			for (Graph graph : new Graph[] { directed, undirected }) {
+				final int start = random.nextInt(graph.getVertexCount());
+				final double[] expected = Dijkstra.shortestPaths(graph, start, IndexedHeap.DEFAULT_ARITY);
+				if (maxWeight <= IntegerDijkstra.DIAL_MAX_WEIGHT) {
+					assertArrayEquals(expected, IntegerDijkstra.shortestPathsDial(graph, start), 0.0);
+				}
+				assertArrayEquals(expected, IntegerDijkstra.shortestPathsRadixHeap(graph, start), 0.0);
+				assertArrayEquals(expected, Dijkstra.shortestPaths(graph, start), 0.0);
+			}
+		}
+	}
+
+	@Test
+	public void testGraphFiles() throws IOException {
+		/* the weights of the test graphs are integers, so that they are detected when reading the graphs */
+		for (String name : new String[] { "tsp_01.gra", "tsp_02.gra", "tsp_03.gra" }) {
+			final Graph graph = GraphReader.readUndirectedGraph(new File("src/test/resources/" + name));
+			assertTrue(graph.getMaxIntegerWeight() > 0);
+			assertArrayEquals(Dijkstra.shortestPaths(graph, 0, IndexedHeap.DEFAULT_ARITY), IntegerDijkstra.shortestPaths(graph, 0), 0.0);
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testFractionalWeights() {
+		final Graph graph = new DirectedGraphList();
+		graph.addVertices(2);
+		graph.addEdge(0, 1, 1.5);
+		IntegerDijkstra.shortestPathsDial(graph, 0);
+	}
+
+	@Test
+	public void testCompareRunningTimes() {
+		final Random random = new Random(25);
+		for (int maxWeight : new int[] { 10, 1000, 100000 }) {
+			final Graph graph = generateIntegerGrid(300, random, maxWeight);
+			final int runs = 10;
+
+			/* warm up the JIT compiler for all engines before measuring */
+			Dijkstra.shortestPaths(graph, 0, IndexedHeap.DEFAULT_ARITY);
+			IntegerDijkstra.shortestPathsDial(graph, 0);
+			IntegerDijkstra.shortestPathsRadixHeap(graph, 0);
+
+			final double[][] expected = new double[runs][];
+			final double[][] dial = new double[runs][];
+			final double[][] radix = new double[runs][];
+
+			long start = System.nanoTime();
+			for (int i = 0; i < runs; ++i) {
+				expected[i] = Dijkstra.shortestPaths(graph, i, IndexedHeap.DEFAULT_ARITY);
+			}
+			final double timeHeap = (System.nanoTime() - start) / 1e6;
+
+			start = System.nanoTime();
+			for (int i = 0; i < runs; ++i) {
+				dial[i] = IntegerDijkstra.shortestPathsDial(graph, i);
+			}
+			final double timeDial = (System.nanoTime() - start) / 1e6;
+
+			start = System.nanoTime();
+			for (int i = 0; i < runs; ++i) {
+				radix[i] = IntegerDijkstra.shortestPathsRadixHeap(graph, i);
+			}
+			final double timeRadix = (System.nanoTime() - start) / 1e6;
+
+			for (int i = 0; i < runs; ++i) {
+				assertArrayEquals(expected[i], dial[i], 0.0);
+				assertArrayEquals(expected[i], radix[i], 0.0);
+			}
+
+			System.out.println("integer weights up to " + maxWeight + ", " + runs + " runs: 4-ary heap " + timeHeap + " ms, Dial " + timeDial + " ms, radix heap " + timeRadix + " ms");
+		}
+	}
+}
@@ -0,0 +1,88 @@
+package de.uos.inf.ko.ga.shortestpath;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import de.uos.inf.ko.ga.graph.Graph;
+import de.uos.inf.ko.ga.graph.impl.DirectedGraphList;
+import de.uos.inf.ko.ga.graph.shortestpath.Floyd;
+import de.uos.inf.ko.ga.graph.shortestpath.Johnson;
+import de.uos.inf.ko.ga.graph.shortestpath.NegativeCycleException;
+
+public class JohnsonTest {
+
+	private static final double EPS = 0.0001;
+
+	/**
+	 * Generates a random directed graph with negative edge weights but without cycles of negative length.
+	 * The weights are w(u, v) = c(u, v) + q[v] - q[u] with c(u, v) > 0 and random values q, so the weight
+	 * of each cycle is the positive weight of the cycle with respect to c.
+	 */
+	static Graph generateGraphWithNegativeWeights(int n, Random random, double p) {
+		final double[] q = new double[n];
+		for (int v = 0; v < n; ++v) {
+			q[v] = 2.0 * random.nextDouble();
+		}
+
+		final Graph graph = new DirectedGraphList();
+		graph.addVertices(n);
+		for (int u = 0; u < n; ++u) {
+			for (int v = 0; v < n; ++v) {
+				if ((u != v) && (random.nextDouble() <= p)) {
+					graph.addEdge(u, v, random.nextDouble() + q[v] - q[u]);
+				}
+			}
+		}
+
+		return graph;
+	}
+
+	@Test
+	public void testSameDistancesAsFloyd() {
+		final Random random = new Random(14);
+
+		for (int i = 0; i < 5; ++i) {
+			final Graph graph = generateGraphWithNegativeWeights(100, random, 0.05);
+
+			final double[][] expected = Floyd.shortestPaths(graph);
+			final double[][] actual = Johnson.shortestPaths(graph);
+			for (int u = 0; u < graph.getVertexCount(); ++u) {
+				assertArrayEquals(expected[u], actual[u], EPS);
+			}
+		}
+	}
+
+	@Test
+	public void testStreaming() {
+		final Graph graph = generateGraphWithNegativeWeights(200, new Random(1), 0.02);
+		final double[][] expected = Floyd.shortestPaths(graph);
+
+		final ForkJoinPool pool = new ForkJoinPool(4);
+		final AtomicInteger sources = new AtomicInteger();
+		Johnson.shortestPaths(graph, pool, (source, dist) -> {
+			assertArrayEquals(expected[source], dist, EPS);
+			sources.incrementAndGet();
+		});
+		pool.shutdown();
+
+		assertEquals(graph.getVertexCount(), sources.get());
+	}
+
+	@Test(expected = NegativeCycleException.class)
+	public void testNegativeCycle() {
+		final Graph graph = new DirectedGraphList();
+		graph.addVertices(4);
+		graph.addEdge(0, 1, 1.0);
+		graph.addEdge(1, 2, -2.0);
+		graph.addEdge(2, 3, 1.0);
+		graph.addEdge(3, 1, 0.5);
+
+		Johnson.shortestPaths(graph);
+	}
+}
@@ -0,0 +1,172 @@
+package de.uos.inf.ko.ga.shortestpath;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import de.uos.inf.ko.ga.graph.Graph;
+import de.uos.inf.ko.ga.graph.impl.DirectedGraphList;
+import de.uos.inf.ko.ga.graph.impl.UndirectedGraphList;
+import de.uos.inf.ko.ga.graph.render.Vec2D;
+import de.uos.inf.ko.ga.graph.shortestpath.AStar;
+import de.uos.inf.ko.ga.graph.shortestpath.Dijkstra;
+import de.uos.inf.ko.ga.graph.shortestpath.LandmarkHeuristic;
+import de.uos.inf.ko.ga.graph.shortestpath.LandmarkHeuristic.Selection;
+import de.uos.inf.ko.ga.graph.shortestpath.ZeroHeuristic;
+
+public class LandmarkHeuristicTest {
+
+	/* tolerance for distances that are sums of the same weights in a different order */
+	private static final double EPS = 1e-9;
+
+	/**
+	 * Checks that the heuristic is admissible for all pairs of vertices (start, t) and (almost) consistent on all arcs.
+	 */
+	private static void assertAdmissibleAndConsistent(Graph graph, LandmarkHeuristic heuristic, int start) {
+		final double[] dist = Dijkstra.shortestPaths(graph, start);
+		/* rounding to float may violate the consistency by twice the slack of the bounds */
+		final double tolerance = heuristic.isCompact() ? 1e-5 : EPS;
+		for (int t = 0; t < graph.getVertexCount(); ++t) {
+			final int target = t;
+			assertTrue(heuristic.estimate(start, target) <= dist[target] + EPS);
+
+			for (int u = 0; u < graph.getVertexCount(); ++u) {
+				final int from = u;
+				graph.forEachSuccessor(u, (v, weight) -> {
+					assertTrue(heuristic.estimate(from, target) <= weight + heuristic.estimate(v, target) + tolerance);
+				});
+			}
+		}
+	}
+
+	@Test
+	public void testAdmissible() {
+		final Random random = new Random(20);
+		final Graph grid = DijkstraTest.generateGrid(12, random);
+		final Graph geometric = AStarTest.generateGeometricGraph(new Vec2D[150], 0.15, random);
+
+		for (Graph graph : new Graph[] { grid, geometric }) {
+			for (Selection selection : Selection.values()) {
+				for (boolean compact : new boolean[] { false, true }) {
+					final LandmarkHeuristic heuristic = new LandmarkHeuristic(graph, 4, selection, compact);
+					assertEquals(4, heuristic.getLandmarks().length);
+					for (int i = 0; i < 3; ++i) {
+						assertAdmissibleAndConsistent(graph, heuristic, random.nextInt(graph.getVertexCount()));
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testExactAlongLandmark() {
+		/* for the landmark itself as target, the bound d(v, L) - d(L, L) is the exact distance */
+		final Random random = new Random(21);
+		final Graph graph = DijkstraTest.generateGrid(10, random);
+		final LandmarkHeuristic heuristic = new LandmarkHeuristic(graph, 2, Selection.FARTHEST, false);
+
+		final int landmark = heuristic.getLandmarks()[0];
+		for (int v = 0; v < graph.getVertexCount(); ++v) {
+			final double[] dist = Dijkstra.shortestPaths(graph, v);
+			assertEquals(dist[landmark], heuristic.estimate(v, landmark), EPS);
+		}
+	}
+
+	@Test
+	public void testComponents() {
+		/* the farthest strategy places a landmark in each component before reusing one */
+		final Graph graph = new UndirectedGraphList();
+		graph.addVertices(6);
+		graph.addEdge(0, 1, 1.0);
+		graph.addEdge(1, 2, 1.0);
+		graph.addEdge(3, 4, 1.0);
+		graph.addEdge(4, 5, 1.0);
+
+		final LandmarkHeuristic heuristic = new LandmarkHeuristic(graph, 2, Selection.FARTHEST, true);
+		final int[] landmarks = heuristic.getLandmarks();
+		assertNotEquals(landmarks[0] < 3, landmarks[1] < 3);
+
+		/* vertices in different components are infinitely far apart */
+		assertEquals(Double.POSITIVE_INFINITY, heuristic.estimate(0, 5), 0.0);
+		/* the float tables lose a little of the bound */
+		assertEquals(2.0, heuristic.estimate(0, 2), 1e-6);
+		assertTrue(heuristic.estimate(0, 2) <= 2.0);
+	}
+
+	@Test
+	public void testMemoryFootprint() {
+		final Graph directed = new DirectedGraphList();
+		directed.addVertices(100);
+		final Graph undirected = new UndirectedGraphList();
+		undirected.addVertices(100);
+		for (int v = 0; v + 1 < 100; ++v) {
+			directed.addEdge(v, v + 1, 1.0);
+			undirected.addEdge(v, v + 1, 1.0);
+		}
+
+		/* directed graphs need tables in both directions, undirected graphs a single one */
+		assertEquals(2 * 8 * 100 * 5 + 4 * 5, new LandmarkHeuristic(directed, 5, Selection.AVOID, false).getMemoryFootprint());
+		assertEquals(2 * 4 * 100 * 5 + 4 * 5, new LandmarkHeuristic(directed, 5, Selection.AVOID, true).getMemoryFootprint());
+		assertEquals(8 * 100 * 5 + 4 * 5, new LandmarkHeuristic(undirected, 5, Selection.FARTHEST, false).getMemoryFootprint());
+		assertEquals(4 * 100 * 5 + 4 * 5, new LandmarkHeuristic(undirected, 5, Selection.FARTHEST, true).getMemoryFootprint());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNegativeWeights() {
+		final Graph graph = new DirectedGraphList();
+		graph.addVertices(2);
+		graph.addEdge(0, 1, -1.0);
+		new LandmarkHeuristic(graph, 1, Selection.FARTHEST, false);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testTablesTooLarge() {
+		/* 50000 * 50000 entries exceed the maximum array size; rejected before any landmark is selected */
+		final Graph graph = new DirectedGraphList();
+		graph.addVertices(50000);
+		new LandmarkHeuristic(graph, 50000, Selection.FARTHEST, true);
+	}
+
+	@Test
+	public void testCompareSearchSpaces() {
+		final Random random = new Random(22);
+		final Graph graph = DijkstraTest.generateGrid(150, random);
+		final int n = graph.getVertexCount();
+
+		final AStar dijkstra = new AStar(graph, new ZeroHeuristic());
+
+		for (Selection selection : Selection.values()) {
+			for (boolean compact : new boolean[] { false, true }) {
+				final long start = System.nanoTime();
+				final LandmarkHeuristic heuristic = new LandmarkHeuristic(graph, 8, selection, compact, new Random(1), ForkJoinPool.commonPool());
+				final double preprocessing = (System.nanoTime() - start) / 1e6;
+
+				final AStar alt = new AStar(graph, heuristic);
+				final Random queries = new Random(23);
+
+				long settledZero = 0;
+				long settledAlt = 0;
+				for (int i = 0; i < 20; ++i) {
+					final int s = queries.nextInt(n);
+					final int t = queries.nextInt(n);
+					final double[] dist = Dijkstra.shortestPaths(graph, s);
+
+					DijkstraTest.assertValidPath(graph, s, t, dist[t], dijkstra.shortestPath(s, t));
+					DijkstraTest.assertValidPath(graph, s, t, dist[t], alt.shortestPath(s, t));
+
+					settledZero += dijkstra.getSettledCount();
+					settledAlt += alt.getSettledCount();
+				}
+
+				System.out.println("ALT " + selection + (compact ? " (float)" : " (double)") + ": preprocessing " + preprocessing + " ms, "
+						+ heuristic.getMemoryFootprint() + " bytes, visited vertices " + settledAlt + " (Dijkstra " + settledZero + ")");
+				assertTrue(settledAlt < settledZero);
+			}
+		}
+	}
+}
@@ -0,0 +1,202 @@
+package de.uos.inf.ko.ga.shortestpath;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import de.uos.inf.ko.ga.graph.Graph;
+import de.uos.inf.ko.ga.graph.impl.DirectedGraphList;
+import de.uos.inf.ko.ga.graph.impl.UndirectedGraphList;
+import de.uos.inf.ko.ga.graph.shortestpath.BellmanFord;
+import de.uos.inf.ko.ga.graph.shortestpath.DeltaStepping;
+import de.uos.inf.ko.ga.graph.shortestpath.Dijkstra;
+import de.uos.inf.ko.ga.graph.shortestpath.ShortestPathTree;
+import de.uos.inf.ko.ga.graph.util.GraphGenerator;
+
+public class ShortestPathTreeTest {
+
+	private static final double EPS = 0.0001;
+
+	/**
+	 * Tests whether each parent lies on a shortest path, whether the parents form a tree, whether the paths are valid
+	 * and whether the subtrees fit the parents.
+	 */
+	private static void assertValidTree(Graph graph, double[] expected, ShortestPathTree tree) {
+		final int n = graph.getVertexCount();
+		assertArrayEquals(expected, tree.getDistances(), EPS);
+		assertEquals(ShortestPathTree.NONE, tree.getParent(tree.getRoot()));
+
+		int reachable = 0;
+		for (int v = 0; v < n; ++v) {
+			final int u = tree.getParent(v);
+			if (!tree.isReachable(v)) {
+				assertEquals(ShortestPathTree.NONE, u);
+				assertFalse(tree.pathTo(v).exists());
+				continue;
+			}
+
+			reachable++;
+			if (v != tree.getRoot()) {
+				assertTrue(u != ShortestPathTree.NONE);
+				final double parentWeight = tree.getParentWeight(v);
+				assertEquals(expected[v], expected[u] + parentWeight, EPS);
+				final int child = v;
+				final boolean[] arc = { false };
+				graph.forEachSuccessor(u, (w, weight) -> arc[0] |= (w == child) && (weight == parentWeight));
+				assertTrue(arc[0]);
+			}
+
+			/* following the parents reaches the root without a cycle, before pathTo does the same */
+			int steps = 0;
+			for (int w = v; w != tree.getRoot(); w = tree.getParent(w)) {
+				assertTrue(++steps < n);
+			}
+			DijkstraTest.assertValidPath(graph, tree.getRoot(), v, expected[v], tree.pathTo(v));
+		}
+
+		/* the subtree of the root contains the reachable vertices, each subtree lists a vertex before its children */
+		assertEquals(reachable, tree.getSubtreeSize(tree.getRoot()));
+		final Graph treeGraph = tree.toGraph();
+		final int[] arcs = { 0 };
+		for (int v = 0; v < n; ++v) {
+			treeGraph.forEachSuccessor(v, (w, weight) -> arcs[0]++);
+		}
+		assertEquals(reachable - 1, arcs[0]);
+		for (int v = 0; v < n; ++v) {
+			final int parent = v;
+			treeGraph.forEachSuccessor(v, (w, weight) -> {
+				assertEquals(parent, tree.getParent(w));
+				assertEquals(tree.getParentWeight(w), weight, 0.0);
+			});
+		}
+		for (int v = 0; v < n; ++v) {
+			if (tree.isReachable(v)) {
+				final int root = v;
+				final boolean[] visited = new boolean[n];
+				final int[] count = { 0 };
+				tree.forEachInSubtree(v, w -> {
+					assertTrue((w == root) ? (count[0] == 0) : visited[tree.getParent(w)]);
+					visited[w] = true;
+					count[0]++;
+				});
+				assertEquals(tree.getSubtreeSize(v), count[0]);
+			}
+		}
+	}
+
+	@Test
+	public void testRandomGraphs() {
+		final Random random = new Random(23);
+		for (int i = 0; i < 5; ++i) {
+			final Graph directed = new DirectedGraphList();
+			GraphGenerator.generateRandomGraph(directed, 100, random, 0.03);
+			final Graph undirected = new UndirectedGraphList();
+			GraphGenerator.generateRandomGraph(undirected, 100, random, 0.03);
+
+			for (Graph graph : new Graph[] { directed, undirected }) {
+				final int start = random.nextInt(graph.getVertexCount());
+				final double[] expected = Dijkstra.shortestPaths(graph, start);
+				assertValidTree(graph, expected, Dijkstra.shortestPathTree(graph, start));
+				assertValidTree(graph, expected, BellmanFord.shortestPathTree(graph, start));
+				assertValidTree(graph, expected, BellmanFord.shortestPathTreeParallel(graph, start));
+				assertValidTree(graph, expected, DeltaStepping.shortestPathTree(graph, start));
+			}
+		}
+	}
+
+	@Test
+	public void testNegativeWeights() {
+		final Random random = new Random(24);
+		final Graph graph = JohnsonTest.generateGraphWithNegativeWeights(100, random, 0.05);
+		final double[] expected = BellmanFord.shortestPaths(graph, 0);
+		assertValidTree(graph, expected, BellmanFord.shortestPathTree(graph, 0));
+		assertValidTree(graph, expected, BellmanFord.shortestPathTreeParallel(graph, 0));
+	}
+
+	@Test
+	public void testParallelEngines() {
+		/* with many threads, several threads decrease the distance of the same vertex at the same time */
+		final Graph graph = DijkstraTest.generateGrid(60, new Random(25));
+		final double[] expected = Dijkstra.shortestPaths(graph, 0);
+
+		for (int threads = 1; threads <= Runtime.getRuntime().availableProcessors(); threads *= 2) {
+			final ForkJoinPool pool = new ForkJoinPool(threads);
+			assertValidTree(graph, expected, BellmanFord.shortestPathTreeParallel(graph, 0, pool));
+			assertValidTree(graph, expected, DeltaStepping.shortestPathTree(graph, 0, 1.0, pool));
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Generates a grid graph in which about half of the arcs have weight 0, so that many vertices share a distance.
+	 */
+	private static Graph generateZeroWeightGrid(Graph graph, int size, Random random) {
+		graph.addVertices(size * size);
+		for (int x = 0; x < size; ++x) {
+			for (int y = 0; y < size; ++y) {
+				final int v = x * size + y;
+				if (x + 1 < size) {
+					graph.addEdge(v, v + size, random.nextBoolean() ? 0.0 : random.nextInt(3));
+					if (graph.isDirected()) {
+						graph.addEdge(v + size, v, random.nextBoolean() ? 0.0 : random.nextInt(3));
+					}
+				}
+				if (y + 1 < size) {
+					graph.addEdge(v, v + 1, random.nextBoolean() ? 0.0 : random.nextInt(3));
+					if (graph.isDirected()) {
+						graph.addEdge(v + 1, v, random.nextBoolean() ? 0.0 : random.nextInt(3));
+					}
+				}
+			}
+		}
+		return graph;
+	}
+
+	@Test(timeout = 60000)
+	public void testZeroWeights() {
+		/* cycles of zero-weight arcs must not turn into cycles of parents, also when parents are repaired */
+		final Random random = new Random(26);
+		for (Graph graph : new Graph[] { generateZeroWeightGrid(new DirectedGraphList(), 40, random),
+				generateZeroWeightGrid(new UndirectedGraphList(), 40, random) }) {
+			final double[] expected = Dijkstra.shortestPaths(graph, 0);
+			assertValidTree(graph, expected, Dijkstra.shortestPathTree(graph, 0));
+			assertValidTree(graph, expected, BellmanFord.shortestPathTree(graph, 0));
+
+			for (int threads = 1; threads <= Math.max(8, Runtime.getRuntime().availableProcessors()); threads *= 2) {
+				final ForkJoinPool pool = new ForkJoinPool(threads);
+				for (int run = 0; run < 2; ++run) {
+					assertValidTree(graph, expected, BellmanFord.shortestPathTreeParallel(graph, 0, pool));
+					assertValidTree(graph, expected, DeltaStepping.shortestPathTree(graph, 0, 0.5, pool));
+					assertValidTree(graph, expected, DeltaStepping.shortestPathTree(graph, 0, 100.0, pool));
+				}
+				pool.shutdown();
+			}
+		}
+	}
+
+	@Test
+	public void testParallelArcs() {
+		/* the tree keeps the weight of the relaxed arc, not the weight of the first arc between both vertices */
+		final Graph graph = new DirectedGraphList();
+		graph.addVertices(3);
+		graph.addEdge(0, 1, 5.0);
+		graph.addEdge(0, 1, 2.0);
+		graph.addEdge(1, 2, 4.0);
+		graph.addEdge(1, 2, 1.0);
+		graph.addEdge(1, 2, 3.0);
+		final double[] expected = { 0.0, 2.0, 3.0 };
+
+		for (ShortestPathTree tree : new ShortestPathTree[] { Dijkstra.shortestPathTree(graph, 0), BellmanFord.shortestPathTree(graph, 0),
+				BellmanFord.shortestPathTreeParallel(graph, 0), DeltaStepping.shortestPathTree(graph, 0) }) {
+			assertValidTree(graph, expected, tree);
+			assertEquals(2.0, tree.getParentWeight(1), 0.0);
+			assertEquals(1.0, tree.getParentWeight(2), 0.0);
+		}
+	}
+}
@@ -0,0 +1,152 @@
+package de.uos.inf.ko.ga.traversal;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import de.uos.inf.ko.ga.graph.Graph;
+import de.uos.inf.ko.ga.graph.impl.CsrGraph;
+import de.uos.inf.ko.ga.graph.impl.DirectedGraphList;
+import de.uos.inf.ko.ga.graph.impl.UndirectedGraphList;
+import de.uos.inf.ko.ga.graph.shortestpath.Dijkstra;
+import de.uos.inf.ko.ga.graph.traversal.Bfs;
+
+public class BfsTest {
+
+	/**
+	 * Generates an unweighted random graph in which each arc exists with probability p.
+	 */
+	private static void generateUnweightedGraph(Graph graph, int n, Random random, double p) {
+		graph.addVertices(n);
+		for (int u = 0; u < n; ++u) {
+			for (int v = 0; v < n; ++v) {
+				if ((u != v) && (random.nextDouble() <= p)) {
+					graph.addEdge(u, v);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Compares the hop distances with Dijkstra and tests whether each parent is a predecessor one level closer to the root.
+	 */
+	private static void assertValidBfs(Graph graph, Bfs bfs) {
+		final double[] expected = Dijkstra.shortestPaths(graph, bfs.getRoot());
+		int levels = 0;
+		for (int v = 0; v < graph.getVertexCount(); ++v) {
+			final int u = bfs.getParent(v);
+			if (expected[v] == Double.POSITIVE_INFINITY) {
+				assertEquals(Bfs.NONE, bfs.getDistance(v));
+				assertEquals(Bfs.NONE, u);
+			} else if (v == bfs.getRoot()) {
+				assertEquals(0, bfs.getDistance(v));
+				assertEquals(Bfs.NONE, u);
+			} else {
+				assertEquals((int) expected[v], bfs.getDistance(v));
+				assertEquals(bfs.getDistance(v) - 1, bfs.getDistance(u));
+				assertTrue(graph.hasEdge(u, v));
+			}
+			levels = Math.max(levels, bfs.getDistance(v) + 1);
+		}
+		assertEquals(levels, bfs.getLevelCount());
+	}
+
+	@Test
+	public void testRandomGraphs() {
+		final Random random = new Random(25);
+		for (double p : new double[] { 0.005, 0.02, 0.2 }) {
+			final Graph directed = new DirectedGraphList();
+			generateUnweightedGraph(directed, 300, random, p);
+			final Graph undirected = new UndirectedGraphList();
+			generateUnweightedGraph(undirected, 300, random, p);
+
+			for (Graph graph : new Graph[] { directed, undirected }) {
+				final int start = random.nextInt(graph.getVertexCount());
+				for (int threads = 1; threads <= Runtime.getRuntime().availableProcessors(); threads *= 2) {
+					final ForkJoinPool pool = new ForkJoinPool(threads);
+					assertValidBfs(graph, Bfs.search(graph, start, pool));
+					assertValidBfs(graph, Bfs.searchTopDown(graph, start, pool));
+					pool.shutdown();
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testBottomUp() {
+		/* in a dense graph, the second level contains almost all vertices, so it is expanded bottom-up */
+		final Graph graph = new DirectedGraphList();
+		generateUnweightedGraph(graph, 1000, new Random(26), 0.05);
+		final Bfs bfs = Bfs.search(graph, 0);
+		assertValidBfs(graph, bfs);
+		assertTrue(bfs.getBottomUpLevelCount() > 0);
+		assertEquals(0, Bfs.searchTopDown(graph, 0, ForkJoinPool.commonPool()).getBottomUpLevelCount());
+	}
+
+	@Test
+	public void testSingleVertex() {
+		final Graph graph = new UndirectedGraphList();
+		graph.addVertices(3);
+		final Bfs bfs = Bfs.search(graph, 1);
+		assertArrayEquals(new int[] { Bfs.NONE, 0, Bfs.NONE }, bfs.getDistances());
+		assertEquals(1, bfs.getLevelCount());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidStart() {
+		Bfs.search(new UndirectedGraphList(), 0);
+	}
+
+	@Test
+	public void testCompareRunningTimes() {
+		/* random graph with 200000 vertices and an average degree of 16 */
+		final Random random = new Random(27);
+		final int n = 200000;
+		final CsrGraph.Builder builder = new CsrGraph.Builder(false);
+		builder.addVertices(n);
+		for (int i = 0; i < 8 * n; ++i) {
+			final int u = random.nextInt(n);
+			final int v = random.nextInt(n);
+			if (u != v) {
+				builder.addEdge(u, v);
+			}
+		}
+		final Graph graph = builder.build();
+
+		long start = System.nanoTime();
+		final double[] expected = Dijkstra.shortestPaths(graph, 0);
+		final double timeDijkstra = (System.nanoTime() - start) / 1e6;
+		System.out.println("BFS on " + n + " vertices: Dijkstra " + timeDijkstra + " ms");
+
+		for (int threads = 1; threads <= Runtime.getRuntime().availableProcessors(); threads *= 2) {
+			final ForkJoinPool pool = new ForkJoinPool(threads);
+
+			/* warm up */
+			Bfs.searchTopDown(graph, 1, pool);
+			Bfs.search(graph, 1, pool);
+
+			start = System.nanoTime();
+			final Bfs topDown = Bfs.searchTopDown(graph, 0, pool);
+			final double timeTopDown = (System.nanoTime() - start) / 1e6;
+
+			start = System.nanoTime();
+			final Bfs bfs = Bfs.search(graph, 0, pool);
+			final double timeOptimizing = (System.nanoTime() - start) / 1e6;
+			pool.shutdown();
+
+			for (int v = 0; v < n; ++v) {
+				final int hops = (expected[v] == Double.POSITIVE_INFINITY) ? Bfs.NONE : (int) expected[v];
+				assertEquals(hops, topDown.getDistance(v));
+				assertEquals(hops, bfs.getDistance(v));
+			}
+
+			System.out.println("BFS with " + threads + " threads: top-down " + timeTopDown + " ms, direction-optimizing " + timeOptimizing
+					+ " ms (" + bfs.getBottomUpLevelCount() + " of " + bfs.getLevelCount() + " levels bottom-up)");
+		}
+	}
+}
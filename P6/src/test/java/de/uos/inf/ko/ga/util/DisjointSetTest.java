@@ -0,0 +1,43 @@
+package de.uos.inf.ko.ga.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import de.uos.inf.ko.ga.graph.util.DisjointSet;
+
+public class DisjointSetTest {
+
+	@Test
+	public void testUnion() {
+		final DisjointSet sets = new DisjointSet(6);
+		assertEquals(6, sets.getCount());
+
+		assertTrue(sets.union(0, 1));
+		assertTrue(sets.union(2, 3));
+		assertTrue(sets.union(1, 3));
+		assertFalse(sets.union(0, 2));
+		assertEquals(3, sets.getCount());
+
+		assertTrue(sets.connected(0, 3));
+		assertFalse(sets.connected(0, 4));
+		assertEquals(sets.find(0), sets.find(2));
+		assertEquals(5, sets.find(5));
+	}
+
+	@Test
+	public void testLongChain() {
+		final int n = 100000;
+		final DisjointSet sets = new DisjointSet(n);
+		for (int v = 1; v < n; ++v) {
+			sets.union(v - 1, v);
+		}
+
+		assertEquals(1, sets.getCount());
+		for (int v = 0; v < n; ++v) {
+			assertEquals(sets.find(0), sets.find(v));
+		}
+	}
+}
@@ -0,0 +1,97 @@
+package de.uos.inf.ko.ga.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import de.uos.inf.ko.ga.graph.util.IndexedHeap;
+
+public class IndexedHeapTest {
+
+	private static final int[] ARITIES = { 2, 4, 8 };
+
+	@Test
+	public void testSimple() {
+		final IndexedHeap heap = new IndexedHeap(5);
+		heap.insert(3, 3.0);
+		heap.insert(1, 1.0);
+		heap.insert(4, 4.0);
+		heap.insert(0, 5.0);
+
+		assertEquals(4, heap.size());
+		assertTrue(heap.contains(0));
+		assertFalse(heap.contains(2));
+
+		heap.decreaseKey(0, 0.5);
+		assertFalse(heap.insertOrDecrease(4, 10.0));
+		assertTrue(heap.insertOrDecrease(4, 2.0));
+		assertEquals(2.0, heap.getKey(4), 0.0);
+
+		assertEquals(0.5, heap.peekKey(), 0.0);
+		assertEquals(0, heap.poll());
+		assertEquals(1, heap.poll());
+		assertEquals(4, heap.poll());
+		assertEquals(3, heap.poll());
+		assertTrue(heap.isEmpty());
+		assertFalse(heap.contains(0));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidArity() {
+		new IndexedHeap(10, 3);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testIncreaseKey() {
+		final IndexedHeap heap = new IndexedHeap(2);
+		heap.insert(0, 1.0);
+		heap.decreaseKey(0, 2.0);
+	}
+
+	@Test
+	public void testRandomOperations() {
+		final int n = 1000;
+
+		for (int arity : ARITIES) {
+			final Random random = new Random(arity);
+			final IndexedHeap heap = new IndexedHeap(n, arity);
+			final double[] keys = new double[n];
+
+			for (int round = 0; round < 3; ++round) {
+				/* reference: key of each contained vertex, or NaN */
+				Arrays.fill(keys, Double.NaN);
+
+				for (int i = 0; i < 5 * n; ++i) {
+					final int v = random.nextInt(n);
+					final double key = random.nextDouble();
+					if (heap.insertOrDecrease(v, key)) {
+						assertTrue(Double.isNaN(keys[v]) || (key < keys[v]));
+						keys[v] = key;
+					} else {
+						assertTrue(key >= keys[v]);
+					}
+				}
+
+				double last = Double.NEGATIVE_INFINITY;
+				for (int i = 0; i < n / 2; ++i) {
+					final int v = heap.poll();
+					assertTrue(keys[v] >= last);
+					last = keys[v];
+					keys[v] = Double.NaN;
+				}
+
+				for (int v = 0; v < n; ++v) {
+					assertEquals(!Double.isNaN(keys[v]), heap.contains(v));
+				}
+
+				heap.clear();
+				assertTrue(heap.isEmpty());
+			}
+		}
+	}
+}
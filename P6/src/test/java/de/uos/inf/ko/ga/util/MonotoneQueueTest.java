@@ -0,0 +1,91 @@
+package de.uos.inf.ko.ga.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import de.uos.inf.ko.ga.graph.util.BucketQueue;
+import de.uos.inf.ko.ga.graph.util.MonotoneQueue;
+import de.uos.inf.ko.ga.graph.util.RadixHeap;
+
+public class MonotoneQueueTest {
+
+	/**
+	 * Inserts and decreases random keys within maxStep of the last key and tests whether the vertices are removed in ascending order.
+	 */
+	private static void assertMonotoneOrder(MonotoneQueue queue, int n, int maxStep, Random random) {
+		/* reference: key of each contained vertex, or -1 */
+		final long[] keys = new long[n];
+		Arrays.fill(keys, -1);
+
+		long last = 0;
+		for (int round = 0; round < 20; ++round) {
+			for (int i = 0; i < n; ++i) {
+				final int v = random.nextInt(n);
+				final long key = last + random.nextInt(maxStep + 1);
+				if (queue.insertOrDecrease(v, key)) {
+					assertTrue((keys[v] < 0) || (key < keys[v]));
+					keys[v] = key;
+				} else {
+					assertTrue(key >= keys[v]);
+				}
+			}
+
+			for (int i = 0; (i < n / 4) && !queue.isEmpty(); ++i) {
+				final int v = queue.poll();
+				assertTrue(keys[v] >= last);
+				last = keys[v];
+				assertEquals(last, queue.getLastKey());
+				keys[v] = -1;
+
+				/* every key in the queue is at least the key removed last */
+				for (int w = 0; w < n; ++w) {
+					assertTrue(keys[w] < 0 || keys[w] >= last);
+				}
+			}
+
+			for (int v = 0; v < n; ++v) {
+				assertEquals(keys[v] >= 0, queue.contains(v));
+			}
+		}
+
+		while (!queue.isEmpty()) {
+			final int v = queue.poll();
+			assertTrue(keys[v] >= last);
+			last = keys[v];
+		}
+	}
+
+	@Test
+	public void testBucketQueue() {
+		final Random random = new Random(24);
+		for (int maxStep : new int[] { 0, 1, 7, 100 }) {
+			assertMonotoneOrder(new BucketQueue(200, maxStep), 200, maxStep, random);
+		}
+	}
+
+	@Test
+	public void testRadixHeap() {
+		final Random random = new Random(25);
+		for (int maxStep : new int[] { 0, 1, 7, 100, 1 << 30 }) {
+			assertMonotoneOrder(new RadixHeap(200), 200, maxStep, random);
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testBucketQueueOutOfRange() {
+		new BucketQueue(10, 5).insertOrDecrease(0, 6);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testRadixHeapNotMonotone() {
+		final RadixHeap heap = new RadixHeap(10);
+		heap.insertOrDecrease(0, 5);
+		heap.poll();
+		heap.insertOrDecrease(1, 4);
+	}
+}